@@ -0,0 +1,106 @@
+package rpg.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rpg.combat.CombatSystem;
+import rpg.factory.Character;
+import rpg.factory.CharacterFactory;
+import rpg.factoryMonster.AbstractMonster;
+import rpg.output.NoOpEventSink;
+
+/**
+ * CombatBenchmark - Cost of a single attack
+ * <p>
+ * Measures {@code Warrior.attack}, {@code Mage.attack} and
+ * {@code CombatSystem.executeAttack}. Output goes to a no-op sink so the
+ * numbers reflect the combat rules, not the console. Stamina and mana are
+ * topped up before each attack, otherwise the characters would run dry
+ * after a few calls and the benchmark would measure the "too tired" path.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dgame.log.level=OFF")
+public class CombatBenchmark {
+
+    private Character warrior;
+    private Character mage;
+    private AbstractMonster dummy;
+    private CombatSystem combatSystem;
+
+    /**
+     * TrainingDummy - Monster that never dies, so every attack takes the same path
+     */
+    static final class TrainingDummy extends AbstractMonster {
+        TrainingDummy() {
+            super("Dummy", "Dummy", Integer.MAX_VALUE, 0, 0, 0);
+        }
+
+        void heal() {
+            health = maxHealth;
+        }
+    }
+
+    /**
+     * Creates silent characters and a combat system
+     */
+    @Setup
+    public void setUp() {
+        CharacterFactory factory = new CharacterFactory();
+        warrior = factory.createCharacter("warrior", "Bench");
+        mage = factory.createCharacter("mage", "Bench");
+        warrior.setEventSink(NoOpEventSink.INSTANCE);
+        mage.setEventSink(NoOpEventSink.INSTANCE);
+
+        dummy = new TrainingDummy();
+        dummy.setEventSink(NoOpEventSink.INSTANCE);
+        combatSystem = new CombatSystem(NoOpEventSink.INSTANCE);
+    }
+
+    /**
+     * Warrior attack
+     *
+     * @return The damage, consumed by JMH
+     */
+    @Benchmark
+    public int warriorAttack() {
+        warrior.restoreStamina(warrior.getMaxStamina());
+        return warrior.attack();
+    }
+
+    /**
+     * Mage attack
+     *
+     * @return The damage, consumed by JMH
+     */
+    @Benchmark
+    public int mageAttack() {
+        mage.rest();
+        return mage.attack();
+    }
+
+    /**
+     * Full player attack: roll, apply damage to the monster, report it
+     *
+     * @return The monster health, consumed by JMH
+     */
+    @Benchmark
+    public int executeAttack() {
+        warrior.restoreStamina(warrior.getMaxStamina());
+        combatSystem.executeAttack(warrior, dummy);
+        ((TrainingDummy) dummy).heal();
+        return dummy.getHealth();
+    }
+}
@@ -0,0 +1,149 @@
+package rpg.benchmark;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rpg.iterator.Inventory;
+import rpg.iterator.Item;
+import rpg.output.NoOpEventSink;
+import rpg.strategy.SortByNameStrategy;
+import rpg.strategy.SortByTypeStrategy;
+import rpg.strategy.SortByValueStrategy;
+
+/**
+ * InventoryBenchmark - Inventory queries and sorting by inventory size
+ * <p>
+ * {@code getTotalStatBonus} is called on every attack, so it is the one to
+ * watch; {@code getTotalValue} and {@code sort} run when the inventory menu
+ * is shown. The sort benchmarks reshuffle the items before every call so
+ * each measurement sorts unsorted data.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dgame.log.level=OFF")
+public class InventoryBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private Inventory inventory;
+    private final Random random = new Random(42);
+
+    /**
+     * Fills the inventory with a mix of item types and equips a weapon and an armor
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        inventory = new Inventory(size);
+        inventory.setEventSink(NoOpEventSink.INSTANCE);
+        Item.ItemType[] types = Item.ItemType.values();
+        for (int i = 0; i < size; i++) {
+            Item.ItemType type = types[i % types.length];
+            inventory.addItem(Item.of("Item" + random.nextInt(size * 10), type,
+                    random.nextInt(500), random.nextInt(10)));
+        }
+        for (Item item : inventory) {
+            if (item.isEquippable()) {
+                inventory.equipItem(item);
+            }
+        }
+    }
+
+    /**
+     * Shuffled - Per-call shuffle, kept out of the query benchmarks
+     * <p>
+     * Invocation-level setup adds timing overhead, so only the sort
+     * benchmarks use this state.
+     * </p>
+     */
+    @State(Scope.Thread)
+    public static class Shuffled {
+        private final Random random = new Random(7);
+
+        /**
+         * Shuffles the items so the sort benchmarks never see sorted input
+         *
+         * @param bench The benchmark state holding the inventory
+         */
+        @Setup(Level.Invocation)
+        public void shuffle(InventoryBenchmark bench) {
+            bench.inventory.setSortStrategy(items -> Collections.shuffle(items, random));
+            bench.inventory.sort();
+        }
+    }
+
+    /**
+     * Bonus of the equipped items (hot: read on every attack)
+     *
+     * @return The bonus, consumed by JMH
+     */
+    @Benchmark
+    public int totalStatBonus() {
+        return inventory.getTotalStatBonus();
+    }
+
+    /**
+     * Value of all items
+     *
+     * @return The value, consumed by JMH
+     */
+    @Benchmark
+    public int totalValue() {
+        return inventory.getTotalValue();
+    }
+
+    /**
+     * Sort by name
+     *
+     * @param shuffled Shuffles the items before the call
+     * @return The inventory size, consumed by JMH
+     */
+    @Benchmark
+    public int sortByName(Shuffled shuffled) {
+        inventory.setSortStrategy(new SortByNameStrategy());
+        inventory.sort();
+        return inventory.getSize();
+    }
+
+    /**
+     * Sort by type
+     *
+     * @param shuffled Shuffles the items before the call
+     * @return The inventory size, consumed by JMH
+     */
+    @Benchmark
+    public int sortByType(Shuffled shuffled) {
+        inventory.setSortStrategy(new SortByTypeStrategy());
+        inventory.sort();
+        return inventory.getSize();
+    }
+
+    /**
+     * Sort by value
+     *
+     * @param shuffled Shuffles the items before the call
+     * @return The inventory size, consumed by JMH
+     */
+    @Benchmark
+    public int sortByValue(Shuffled shuffled) {
+        inventory.setSortStrategy(new SortByValueStrategy());
+        inventory.sort();
+        return inventory.getSize();
+    }
+}
@@ -0,0 +1,88 @@
+package rpg.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rpg.factoryMonster.AbstractMonster;
+import rpg.factoryMonster.DropTable;
+import rpg.factoryMonster.Troll;
+import rpg.iterator.Item;
+
+/**
+ * LootBenchmark - Cost of rolling a monster's loot
+ * <p>
+ * Compares {@code getDroppedItems}, which returns a new list, with the
+ * allocation-free roll into a reused buffer, and measures the bulk
+ * {@code rollN} used by simulations (per kill).
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dgame.log.level=OFF")
+public class LootBenchmark {
+
+    private static final int KILLS = 1000;
+
+    private AbstractMonster troll;
+    private DropTable table;
+    private Item[] buffer;
+    private long[] counts;
+    private SplittableRandom random;
+
+    /**
+     * Creates a troll and its buffers
+     */
+    @Setup
+    public void setUp() {
+        troll = new Troll();
+        troll.setRandom(new SplittableRandom(1));
+        table = troll.getDropTable();
+        buffer = new Item[table.getRolls()];
+        counts = new long[table.size()];
+        random = new SplittableRandom(2);
+    }
+
+    /**
+     * Loot as a new list
+     *
+     * @return The number of items, consumed by JMH
+     */
+    @Benchmark
+    public int droppedItemsList() {
+        return troll.getDroppedItems().size();
+    }
+
+    /**
+     * Loot written into a reused buffer
+     *
+     * @return The number of items, consumed by JMH
+     */
+    @Benchmark
+    public int rollIntoBuffer() {
+        return troll.rollDrops(buffer);
+    }
+
+    /**
+     * Loot of many kills, counted per item
+     *
+     * @return The number of items, consumed by JMH
+     */
+    @Benchmark
+    @OperationsPerInvocation(KILLS)
+    public long rollN() {
+        return table.rollN(random, KILLS, counts);
+    }
+}
@@ -0,0 +1,56 @@
+package rpg.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rpg.factoryMonster.AbstractMonster;
+import rpg.factoryMonster.MonsterFactory;
+import rpg.factoryMonster.Troll;
+
+/**
+ * MonsterSpawnBenchmark - Cost of spawning a monster for one fight
+ * <p>
+ * Compares building a troll with its public constructor (validation,
+ * drop list, logging) against taking one from the factory pool and
+ * handing it back, which is what the dungeon does for each fight.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dgame.log.level=OFF")
+public class MonsterSpawnBenchmark {
+
+    private final MonsterFactory factory = new MonsterFactory();
+
+    /**
+     * Troll built from scratch
+     *
+     * @return The troll, consumed by JMH
+     */
+    @Benchmark
+    public AbstractMonster construct() {
+        return new Troll();
+    }
+
+    /**
+     * Troll taken from the pool, reset, and released
+     *
+     * @return The troll, consumed by JMH
+     */
+    @Benchmark
+    public AbstractMonster spawnPooled() {
+        AbstractMonster troll = factory.createMonster("troll");
+        factory.release(troll);
+        return troll;
+    }
+}
@@ -0,0 +1,101 @@
+package rpg.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import rpg.factory.Character;
+import rpg.factory.CharacterFactory;
+import rpg.iterator.Item;
+import rpg.output.NoOpEventSink;
+import rpg.rpgIO.CharacterManagement;
+
+/**
+ * PersistenceBenchmark - Full save and load of a character
+ * <p>
+ * Runs {@code CharacterManagement.saveCharacter} and {@code loadCharacter}
+ * end to end (encoding, file I/O, index update) in a scratch save directory
+ * under {@code target/}. The save format is a parameter; since it is read
+ * from a system property when the game classes load, each format runs in
+ * its own fork. The console messages of save/load are discarded.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dgame.log.level=OFF", "-Dgame.save.dir=target/bench-saves"})
+public class PersistenceBenchmark {
+
+    @Param({"properties", "binary"})
+    private String format;
+
+    @Param({"0", "50"})
+    private int items;
+
+    private Character character;
+    private String saveName;
+    private PrintStream console;
+
+    /**
+     * Creates a character with an inventory and writes its first save
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("game.save.format", format);
+        console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        character = new CharacterFactory().createCustomMage(
+                "Bench", 80, 100, 60, 60, 12, 500, 10, 40, 120);
+        character.setEventSink(NoOpEventSink.INSTANCE);
+        for (int i = 0; i < items; i++) {
+            // A few distinct items repeated, like potions stacking up
+            character.addItem(Item.of("Potion " + (i % 5), Item.ItemType.POTION, 10, 0));
+        }
+
+        saveName = "bench_" + format + "_" + items;
+        CharacterManagement.saveCharacter(character, saveName);
+    }
+
+    /**
+     * Restores the console
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(console);
+    }
+
+    /**
+     * Save a character (overwrites the same file every call)
+     *
+     * @return Whether the save succeeded, consumed by JMH
+     */
+    @Benchmark
+    public boolean save() {
+        return CharacterManagement.saveCharacter(character, saveName);
+    }
+
+    /**
+     * Load a character
+     *
+     * @return The loaded character, consumed by JMH
+     */
+    @Benchmark
+    public Character load() {
+        return CharacterManagement.loadCharacter(saveName);
+    }
+}
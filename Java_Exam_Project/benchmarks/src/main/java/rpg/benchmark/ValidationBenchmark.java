@@ -0,0 +1,44 @@
+package rpg.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rpg.rpgSecurity.InputValidator;
+
+/**
+ * ValidationBenchmark - Cost of filename sanitization
+ * <p>
+ * {@code InputValidator.sanitizeFilename} runs on every save, load and
+ * filename prompt. Inputs cover a clean name, one that needs characters
+ * replaced and a path traversal attempt.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Dgame.log.level=OFF")
+public class ValidationBenchmark {
+
+    @Param({"hero_save-01", "my hero's save!", "../../etc/passwd"})
+    private String input;
+
+    /**
+     * Sanitize a filename
+     *
+     * @return The sanitized name, consumed by JMH
+     */
+    @Benchmark
+    public String sanitizeFilename() {
+        return InputValidator.sanitizeFilename(input);
+    }
+}
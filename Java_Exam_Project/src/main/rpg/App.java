@@ -1,19 +1,34 @@
 package rpg;
 import rpg.logger.GameLogger;
+import rpg.server.GameServer;
+import rpg.server.SessionClosedException;
 import java.util.logging.Logger;
 
 /**
  * Main application entry point
  * Serves only as the entry point to start the game
+ * <p>
+ * Usage: {@code App} plays on the console, {@code App --server [port]}
+ * hosts the game for many players over TCP (see {@link GameServer}).
+ * </p>
  */
 public class App {
     private static final Logger logger = GameLogger.getLogger();
 
     public static void main(String[] args) {
         try {
+            if (args.length > 0 && args[0].equals("--server")) {
+                int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+                new GameServer(port).serve();
+                return;
+            }
+
             // Initialize and start the game
             GameManager gameManager = new GameManager();
             gameManager.startGame();
+        } catch (SessionClosedException e) {
+            // End of the console input: nothing left to play
+            logger.info("Console input closed");
         } catch (Exception e) {
             // Final exception shield
             logger.severe("Unhandled exception in main: " + e.getMessage());
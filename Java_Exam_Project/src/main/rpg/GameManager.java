@@ -1,10 +1,13 @@
 package rpg;
 
-import rpg.menu.CharacterMenu.ReturnToMainMenuException;
+import rpg.composite.Navigation;
 import rpg.menu.MainMenu;
 import rpg.logger.GameLogger;
 import rpg.observer.GameUIObserver;
 import rpg.observer.StaminaRecoverySystem;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
+import rpg.server.SessionClosedException;
 
 import java.util.logging.Logger;
 
@@ -24,9 +27,31 @@ import java.util.logging.Logger;
  * The GameManager implements a robust error handling approach to ensure
  * that the game can gracefully handle exceptions without crashing.
  * </p>
+ * <p>
+ * One GameManager runs one player's game. On the game server every
+ * connection runs its own manager inside its {@link GameSession}.
+ * </p>
  */
 public class GameManager {
     private static final Logger logger = GameLogger.getLogger();
+
+    private final SessionChannel channel;
+
+    /**
+     * Creates a manager for the player of the current session
+     */
+    public GameManager() {
+        this(GameSession.current().getChannel());
+    }
+
+    /**
+     * Creates a manager talking to the player through a channel
+     * 
+     * @param channel The player's channel
+     */
+    public GameManager(SessionChannel channel) {
+        this.channel = channel;
+    }
     
     /**
      * Initializes and starts the game
@@ -45,7 +70,7 @@ public class GameManager {
      * any exceptions that might occur during game execution.
      * </p>
      * 
-     * @throws RuntimeException If a critical error occurs that prevents the game from continuing
+     * @throws SessionClosedException If the player's input ends before the game does
      */
     public void startGame() {
         try {
@@ -54,12 +79,16 @@ public class GameManager {
             initializeObservers();
             initializeMenus();
             showWelcome();
-            runMainMenuLoop();
+            if (runMainMenuLoop()) {
+                GameSession.current().exit(0);
+            }
             
+        } catch (SessionClosedException e) {
+            throw e;
         } catch (Exception e) {
             logger.severe("Critical application error: " + e.getMessage());
-            System.out.println("Si è verificato un errore critico. L'applicazione verrà chiusa.");
-            System.exit(1);
+            channel.println("Si è verificato un errore critico. L'applicazione verrà chiusa.");
+            GameSession.current().exit(1);
         }
     }
     
@@ -77,7 +106,7 @@ public class GameManager {
      * </p>
      */
     private void initializeObservers() {
-        GameUIObserver uiObserver = new GameUIObserver();
+        GameUIObserver uiObserver = new GameUIObserver(channel);
         StaminaRecoverySystem.addObserver(uiObserver);
         logger.info("GameUIObserver registered with StaminaRecoverySystem");
     }
@@ -111,44 +140,51 @@ public class GameManager {
      * </p>
      */
     private void showWelcome() {
-        System.out.println("=== RPG ADVENTURE GAME ===");
-        System.out.println("Un gioco di ruolo testuale in Java");
+        channel.println("=== RPG ADVENTURE GAME ===");
+        channel.println("Un gioco di ruolo testuale in Java");
     }
     
     /**
      * Runs main menu loop with return handling
      * <p>
      * Manages the main game loop, displaying the main menu and handling
-     * navigation between different game menus. This method implements
-     * a robust approach to menu navigation that allows returning to the
-     * main menu from sub-menus through exception handling.
+     * navigation between different game menus. Sub-menus return a
+     * {@link Navigation} result: {@link Navigation#TO_ROOT} shows the main
+     * menu again, anything else ends the loop.
      * </p>
      * <p>
      * The loop continues until the player chooses to exit or an unhandled
-     * exception occurs. When returning from character menus to the main menu,
-     * a ReturnToMainMenuException is caught and handled gracefully.
+     * exception occurs.
      * </p>
      * 
-     * @throws ReturnToMainMenuException When returning from a character menu to the main menu
+     * @return true if the player chose to exit the game
      */
-    private void runMainMenuLoop() {
+    private boolean runMainMenuLoop() {
         boolean keepRunning = true;
+        boolean exitRequested = false;
 
         while (keepRunning) {
             try {
-                MainMenu.runMainMenu();
-                keepRunning = false;
-            } catch (ReturnToMainMenuException e) {
-                logger.info("Returned to main menu from character menu");
-                System.out.println("\n--- Tornato al Menu Principale ---\n");
+                Navigation result = MainMenu.runMainMenu(channel);
+                if (result == Navigation.TO_ROOT) {
+                    logger.info("Returned to main menu from character menu");
+                    channel.println("\n--- Tornato al Menu Principale ---\n");
+                } else {
+                    exitRequested = result == Navigation.EXIT;
+                    keepRunning = false;
+                }
+            } catch (SessionClosedException e) {
+                logger.info("Player input ended: " + e.getMessage());
+                throw e;
             } catch (Exception e) {
                 logger.severe("Error in main menu loop: " + e.getMessage());
-                System.out.println("Errore nel menu principale.");
+                channel.println("Errore nel menu principale.");
                 keepRunning = false;
             }
         }
 
-        System.out.println("\nGrazie per aver giocato!");
+        channel.println("\nGrazie per aver giocato!");
         logger.info("Application terminated normally");
+        return exitRequested;
     }
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package rpg.builder;
 
 import rpg.combat.CombatSystem;
+import rpg.combat.GameRandom;
 import rpg.factory.Character;
 import rpg.factoryMonster.AbstractMonster;
 import rpg.factoryMonster.MonsterFactory;
 import rpg.iterator.Item;
+import rpg.observer.GameEvent;
+import rpg.observer.GameEventBus;
 import rpg.observer.StaminaRecoverySystem;
+import rpg.rpgIO.AutosaveService;
 import rpg.logger.GameLogger;
 import rpg.rpgSecurity.ExceptionHandler;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
+import rpg.server.SessionClosedException;
 import java.util.logging.Logger;
-import java.util.Scanner;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * DungeonExplorer - Manages the exploration of a dungeon
@@ -26,16 +33,16 @@ public class DungeonExplorer {
     
     private Character character;
     private Dungeon dungeon;
-    private final Scanner scanner;
-    private final CombatSystem combatSystem;
+    private CombatSystem combatSystem;
     private final MonsterFactory monsterFactory;
+    private RandomGenerator random;
+    private SessionChannel channel;
+    private GameEventBus events;
     
     /**
      * Constructor that initializes the explorer with required components
      */
     public DungeonExplorer() {
-        this.scanner = new Scanner(System.in);
-        this.combatSystem = new CombatSystem();
         this.monsterFactory = new MonsterFactory();
     }
     
@@ -61,6 +68,50 @@ public class DungeonExplorer {
         return this;
     }
     
+    /**
+     * Sets the generator shared by the character and the monster for this fight
+     * <p>
+     * With a seeded generator (see {@link GameRandom#create(long)}) the
+     * fight can be replayed exactly. If not set, both keep their own
+     * generators.
+     * </p>
+     * 
+     * @param random The generator for the fight's rolls
+     * @return The explorer instance for method chaining
+     */
+    public DungeonExplorer withRandom(RandomGenerator random) {
+        this.random = random;
+        return this;
+    }
+    
+    /**
+     * Sets the channel used to talk to the player during the fight
+     * <p>
+     * If not set, the channel of the current session is used.
+     * </p>
+     * 
+     * @param channel The player's channel
+     * @return The explorer instance for method chaining
+     */
+    public DungeonExplorer withChannel(SessionChannel channel) {
+        this.channel = channel;
+        return this;
+    }
+    
+    /**
+     * Sets the bus receiving the fight's damage, death and loot events
+     * <p>
+     * If not set, the event bus of the current session is used.
+     * </p>
+     * 
+     * @param events The event bus
+     * @return The explorer instance for method chaining
+     */
+    public DungeonExplorer withEvents(GameEventBus events) {
+        this.events = events;
+        return this;
+    }
+    
     /**
      * Starts the dungeon exploration
      * <p>
@@ -75,27 +126,55 @@ public class DungeonExplorer {
             logger.warning("Cannot explore dungeon: character or dungeon is null");
             return false;
         }
+        if (channel == null) {
+            channel = GameSession.current().getChannel();
+        }
+        if (events == null) {
+            events = GameSession.current().getEvents();
+        }
+        if (combatSystem == null) {
+            combatSystem = new CombatSystem(channel.getSink());
+        }
         
         logger.info(character.getName() + " explores " + dungeon.getName());
-        System.out.println("\nYou are exploring " + dungeon.getName());
-        System.out.println(dungeon.getDescription());
+        channel.println("\nYou are exploring " + dungeon.getName());
+        channel.println(dungeon.getDescription());
         
-        // Create a monster
+        // Create a monster: it keeps the template it was spawned from, so
+        // content reloaded during the fight does not change it
         AbstractMonster monster = monsterFactory.createMonster(dungeon.getMonsterType());
         if (monster == null) {
             logger.warning("No monster created for type: " + dungeon.getMonsterType());
-            System.out.println("There are no monsters here.");
+            channel.println("There are no monsters here.");
             return false;
         }
         
-        System.out.println("\nYou encountered a " + monster.getType() + "!");
+        // The fight's generator only lasts for this fight: the character gets
+        // its own back afterwards, the monster when it is released
+        RandomGenerator previous = character.getRandom();
+        if (random != null) {
+            character.setRandom(random);
+            monster.setRandom(random);
+        }
+        monster.setEventSink(channel.getSink());
+
+        channel.println("\nYou encountered a " + monster.getType() + "!");
         
-        // Fight
-        boolean victory = combat(monster);
+        // Fight, then hand the monster back for the next spawn
+        boolean victory;
+        try {
+            victory = combat(monster);
+        } finally {
+            if (random != null) {
+                character.setRandom(previous);
+            }
+            monsterFactory.release(monster);
+        }
         
         // Recover stamina after the dungeon
         if (victory) {
             StaminaRecoverySystem.recoverStamina(character);
+            AutosaveService.autosave(character);
         }
         
         return victory;
@@ -115,29 +194,30 @@ public class DungeonExplorer {
         try {
             while (monster.isAlive() && character.isAlive()) {
                 // Show status
-                System.out.println("\nHP: " + character.getHealth() + "/" + character.getMaxHealth());
-                System.out.println("Enemy: " + monster.getHealth() + " HP");
+                channel.println("\nHP: " + character.getHealth() + "/" + character.getMaxHealth());
+                channel.println("Enemy: " + monster.getHealth() + " HP");
                 
                 // Player's turn
-                System.out.println("\n1. Attack");
-                System.out.print("What do you do? ");
-                scanner.nextLine();
+                channel.println("\n1. Attack");
+                channel.print("What do you do? ");
+                channel.readLine();
                 
                 combatSystem.executeAttack(character, monster);
                 
                 // Check if the monster is dead
                 if (!monster.isAlive()) {
                     logger.info(character.getName() + " defeated " + monster.getType());
-                    System.out.println("\nYou won!");
-                    System.out.println("You earned " + dungeon.getGoldReward() + " gold!");
+                    channel.println("\nYou won!");
+                    channel.println("You earned " + dungeon.getGoldReward() + " gold!");
                     
                     // Add dropped items to the character's inventory
                     List<Item> droppedItems = monster.getDroppedItems();
                     if (!droppedItems.isEmpty()) {
-                        System.out.println("\nYou found:");
+                        channel.println("\nYou found:");
                         for (Item item : droppedItems) {
                             character.addItem(item);
                             // Confirmation message is already shown in the addItem method
+                            events.publish(new GameEvent.LootFound(character, item));
                         }
                     }
                     
@@ -145,20 +225,28 @@ public class DungeonExplorer {
                 }
                 
                 // Monster's turn
+                int healthBefore = character.getHealth();
                 combatSystem.executeMonsterAttack(monster, character);
+                if (events.hasSubscribers(GameEvent.DamageTaken.class)) {
+                    int health = character.getHealth();
+                    events.publish(new GameEvent.DamageTaken(character, monster.getType(), healthBefore - health, health));
+                }
                 
                 // Check if the character is dead
                 if (!character.isAlive()) {
                     logger.info(character.getName() + " was defeated by " + monster.getType());
-                    System.out.println("\nYou have been defeated!");
+                    events.publish(new GameEvent.CharacterDied(character, monster.getType()));
+                    channel.println("\nYou have been defeated!");
                     return false;
                 }
             }
             
             return character.isAlive();
+        } catch (SessionClosedException e) {
+            throw e;
         } catch (Exception e) {
             logger.severe("Error during combat: " + e.getMessage());
-            ExceptionHandler.handleException(e, "An error occurred during combat.");
+            ExceptionHandler.handleException(e, "An error occurred during combat.", channel);
             return false;
         }
     }
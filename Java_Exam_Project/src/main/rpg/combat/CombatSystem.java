@@ -3,6 +3,10 @@ package rpg.combat;
 import rpg.factory.Character;
 import rpg.factoryMonster.AbstractMonster;
 import rpg.logger.GameLogger;
+import rpg.output.ConsoleEventSink;
+import rpg.output.GameEventSink;
+import rpg.output.GameMessage;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -11,10 +15,32 @@ import java.util.logging.Logger;
  * This class handles combat interactions between characters and monsters,
  * including attack execution and damage calculation.
  * </p>
+ * <p>
+ * Combat messages are emitted to a {@link GameEventSink}; the default
+ * constructor prints them to the console as the interactive game expects.
+ * </p>
  */
 public class CombatSystem {
     
     private static final Logger logger = GameLogger.getLogger();
+
+    private final GameEventSink events;
+
+    /**
+     * Creates a combat system that prints to the console
+     */
+    public CombatSystem() {
+        this(ConsoleEventSink.getDefault());
+    }
+
+    /**
+     * Creates a combat system with a custom message sink
+     * 
+     * @param events The sink receiving combat messages, or null for the console
+     */
+    public CombatSystem(GameEventSink events) {
+        this.events = events != null ? events : ConsoleEventSink.getDefault();
+    }
     
     /**
      * Executes an attack from a character against a monster
@@ -35,11 +61,11 @@ public class CombatSystem {
         int damage = character.attack();
         if (damage > 0) {
             monster.takeDamage(damage);
-            logger.info(character.getName() + " dealt " + damage + " damage to " + monster.getType());
-            System.out.println("You dealt " + damage + " damage!");
+            GameLogger.log(Level.FINE, "{0} dealt {1} damage to {2}", character.getName(), damage, monster.getType());
+            events.emit(GameMessage.PLAYER_HIT, character.getName(), damage);
         } else {
-            logger.info(character.getName() + " missed the target");
-            System.out.println("You missed the target!");
+            GameLogger.log(Level.FINE, "{0} missed the target", character.getName());
+            events.emit(GameMessage.PLAYER_MISSED, character.getName());
         }
 
     }
@@ -63,11 +89,11 @@ public class CombatSystem {
         int damage = monster.attack();
         if (damage > 0) {
             character.takeDamage(damage);
-            logger.info(monster.getType() + " dealt " + damage + " damage to " + character.getName());
-            System.out.println(monster.getType() + " dealt " + damage + " damage to you!");
+            GameLogger.log(Level.FINE, "{0} dealt {1} damage to {2}", monster.getType(), damage, character.getName());
+            events.emit(GameMessage.MONSTER_HIT, monster.getType(), damage);
         } else {
-            logger.info(monster.getType() + " missed the attack");
-            System.out.println(monster.getType() + " missed the attack!");
+            GameLogger.log(Level.FINE, "{0} missed the attack", monster.getType());
+            events.emit(GameMessage.MONSTER_MISSED, monster.getType());
         }
 
     }
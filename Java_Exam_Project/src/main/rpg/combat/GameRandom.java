@@ -0,0 +1,101 @@
+package rpg.combat;
+
+import rpg.server.GameSession;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * GameRandom - Source of random generators for combat
+ * <p>
+ * Characters and monsters each own a {@link SplittableRandom} created here
+ * instead of sharing a {@code static Random}, so threads never contend on a
+ * common seed. Generators can be replaced per combat or per session (see
+ * {@code Character.setRandom}, {@code AbstractMonster.setRandom} and
+ * {@code DungeonExplorer.withRandom}), which makes a fight reproducible from
+ * its seed.
+ * </p>
+ * <p>
+ * When the {@code game.random.seed} system property is set, the default
+ * generators are derived from it, the session identifier and their creation
+ * order within the session (see {@link GameSession#nextRandomIndex()}), so a
+ * session replays identically whatever the other sessions of the server do.
+ * Otherwise every generator gets a fresh seed.
+ * </p>
+ */
+public final class GameRandom {
+
+    // Odd constant of the SplitMix64 sequence (2^64 / golden ratio)
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final Long SESSION_SEED = Long.getLong("game.random.seed");
+
+    /**
+     * Private constructor - utility class
+     */
+    private GameRandom() {
+    }
+
+    /**
+     * Creates a generator for a new character or monster
+     *
+     * @return A new generator, derived from {@code game.random.seed} and the
+     *         current session if the property is set
+     */
+    public static RandomGenerator create() {
+        if (SESSION_SEED != null) {
+            GameSession session = GameSession.current();
+            long sessionSeed = derive(SESSION_SEED, session.getId().hashCode());
+            return new SplittableRandom(derive(sessionSeed, session.nextRandomIndex()));
+        }
+        return new SplittableRandom(newSeed());
+    }
+
+    /**
+     * Creates a generator from a seed
+     *
+     * @param seed The seed
+     * @return A generator producing the same sequence for the same seed
+     */
+    public static RandomGenerator create(long seed) {
+        return new SplittableRandom(seed);
+    }
+
+    /**
+     * Picks a fresh random seed
+     *
+     * @return A seed
+     */
+    public static long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Derives the seed of one element of a seeded sequence
+     * <p>
+     * Used to give every fight of a simulation its own seed: the fight can
+     * then be replayed alone, and results do not depend on which thread ran
+     * which fight.
+     * </p>
+     *
+     * @param seed The master seed
+     * @param index The element index
+     * @return The derived seed
+     */
+    public static long derive(long seed, long index) {
+        return mix64(seed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads the bits of a 64-bit value
+     *
+     * @param z The value to mix
+     * @return The mixed value
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,9 +1,10 @@
 package rpg.composite;
 
 import rpg.rpgSecurity.InputValidator;
-import java.util.Scanner;
+import rpg.server.SessionChannel;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.function.Supplier;
 
 /**
  * GameMenu - Composite pattern implementation for game menus
@@ -12,22 +13,102 @@ import java.util.ArrayList;
  * creating a tree structure of menus. It serves as the composite
  * node in the Composite pattern, allowing a hierarchical menu system.
  * </p>
+ * <p>
+ * A menu holds no player state, so one tree can be built once and run by
+ * many sessions at a time. Its items must all be added before it is shared.
+ * </p>
  */
 public class GameMenu implements MenuComponent {
 
-    private String title;
-    private List<MenuComponent> menuItems;
-    private Scanner scanner;
+    /**
+     * Kind - How a menu offers its "0" option
+     */
+    public enum Kind {
+
+        /** The main menu: "0. Exit" leaves the game */
+        ROOT,
+
+        /** A plain submenu: "0. Back" returns to the parent menu */
+        SUBMENU,
+
+        /** A menu with its own return item, so no "0" option */
+        SELF_CLOSING
+    }
+
+    private static final String NL = System.lineSeparator();
+
+    private final String title;
+    private final Kind kind;
+    private final Supplier<String> subtitle;
+    private final List<MenuComponent> menuItems;
+
+    // Title line up to the subtitle, and the rest of the menu (null when stale)
+    private final String header;
+    private volatile String body;
 
     /**
      * Constructor for creating a menu
+     * <p>
+     * The kind is inferred once from the title, as older menus were
+     * recognised by their titles. New menus should state their kind with
+     * {@link #GameMenu(String, Kind)}.
+     * </p>
      * 
      * @param title The title of the menu
      */
     public GameMenu(String title) {
+        this(title, kindOf(title));
+    }
+
+    /**
+     * Constructor for creating a menu of a given kind
+     * 
+     * @param title The title of the menu
+     * @param kind How the menu offers its "0" option
+     * @throws IllegalArgumentException If the kind is null
+     */
+    public GameMenu(String title, Kind kind) {
+        this(title, kind, null);
+    }
+
+    /**
+     * Constructor for creating a menu whose title ends with a subtitle
+     * <p>
+     * The subtitle is asked for every time the menu is shown, e.g. the name
+     * of the character the player is using, so a single menu can serve every
+     * character. It is shown as "TITLE - SUBTITLE".
+     * </p>
+     * 
+     * @param title The title of the menu
+     * @param kind How the menu offers its "0" option
+     * @param subtitle The source of the subtitle, or null for none
+     * @throws IllegalArgumentException If the kind is null
+     */
+    public GameMenu(String title, Kind kind, Supplier<String> subtitle) {
+        if (kind == null) {
+            throw new IllegalArgumentException("Menu kind cannot be null");
+        }
         this.title = title;
+        this.kind = kind;
+        this.subtitle = subtitle;
         this.menuItems = new ArrayList<>();
-        this.scanner = new Scanner(System.in);
+        this.header = "\n=== " + title.toUpperCase();
+    }
+
+    /**
+     * Infers the kind of a menu from its title
+     * 
+     * @param title The title of the menu
+     * @return The kind matching the title
+     */
+    private static Kind kindOf(String title) {
+        if (title.contains("Menu Principale")) {
+            return Kind.ROOT;
+        }
+        if (title.contains("Menu Personaggio") || title.contains("Esplora Dungeon") || title.contains("Inventario")) {
+            return Kind.SELF_CLOSING;
+        }
+        return Kind.SUBMENU;
     }
 
     /**
@@ -38,6 +119,7 @@ public class GameMenu implements MenuComponent {
     @Override
     public void add(MenuComponent component) {
         menuItems.add(component);
+        body = null;
     }
 
     /**
@@ -47,68 +129,62 @@ public class GameMenu implements MenuComponent {
      */
     @Override
     public void remove(MenuComponent component) {
-        menuItems.remove(component);
+        if (menuItems.remove(component)) {
+            body = null;
+        }
     }
 
     /**
      * Displays and executes the menu
      * <p>
      * This method shows the menu options, handles user input,
-     * and executes the selected menu item or submenu.
+     * and executes the selected menu item or submenu. It returns when
+     * the selected component asks to leave the menu.
      * </p>
+     * 
+     * @param channel The channel used to talk to the player
+     * @return {@link Navigation#STAY} to the parent when the player goes
+     *         back, {@link Navigation#TO_ROOT} or {@link Navigation#EXIT}
+     *         when the request must unwind further
      */
     @Override
-    public void execute() {
-        boolean continueMenu = true;
-
-        while (continueMenu) {
+    public Navigation execute(SessionChannel channel) {
+        while (true) {
             // Display menu
-            display();
+            display(channel);
 
             // Get user choice
-            System.out.print("\nYour choice: ");
-            String input = scanner.nextLine();
-
-            // Determine the maximum number of options
-            int maxOptions = menuItems.size();
+            channel.print("\nYour choice: ");
+            String input = channel.readLine();
 
-            // Check if this menu has a visible zero option
-            boolean hasZeroOption = !(title.contains("Menu Personaggio") || 
-                                     title.contains("Esplora Dungeon") || 
-                                     title.contains("Inventario"));
-
-            Integer choice = InputValidator.validateMenuChoice(input, maxOptions);
+            Integer choice = InputValidator.validateMenuChoice(input, menuItems.size(), channel);
 
             if (choice == null) {
-                System.out.println("Invalid choice! Please try again.");
+                channel.println("Invalid choice! Please try again.");
                 continue;
             }
 
-            if (choice == 0 && hasZeroOption) {
-                // Exit this menu
-                continueMenu = false;
-                
-                // If this is the main menu and user selects 0, exit the game
-                if (title.contains("Menu Principale") || title.equals("RPG Adventure Game - Menu Principale")) {
-                    exitGame();
-                }
+            if (choice == 0 && kind != Kind.SELF_CLOSING) {
+                // "0" leaves the game from the main menu, this menu otherwise
+                return kind == Kind.ROOT ? Navigation.EXIT : Navigation.STAY;
             } else if (choice > 0 && choice <= menuItems.size()) {
                 // Execute the selected menu item
                 MenuComponent selected = menuItems.get(choice - 1);
-                selected.execute();
-
-                // If the last option is "Return to..." and the user selected it, exit the menu
-                if (choice == menuItems.size() && 
-                    selected.getName() != null && 
-                    (selected.getName().contains("Torna al") || 
-                     selected.getName().contains("Back to"))) {
-                    continueMenu = false;
-                }
-                
-                // If it was an action (not a submenu), we might want to pause
-                if (!(selected instanceof GameMenu)) {
-                    System.out.println("\nPress Enter to continue...");
-                    scanner.nextLine();
+                Navigation result = selected.execute(channel);
+
+                switch (result) {
+                    case BACK:
+                        // The item closes this menu; the parent stays
+                        return Navigation.STAY;
+                    case TO_ROOT:
+                    case EXIT:
+                        return result;
+                    default:
+                        // If it was an action (not a submenu), we might want to pause
+                        if (!(selected instanceof GameMenu)) {
+                            channel.println("\nPress Enter to continue...");
+                            channel.readLine();
+                        }
                 }
             }
         }
@@ -120,43 +196,111 @@ public class GameMenu implements MenuComponent {
      * This method shows the menu title and all available options,
      * including a back/exit option appropriate to the menu type.
      * </p>
+     * <p>
+     * When every entry is a plain {@link MenuItem}, whose name never changes, the
+     * menu is rendered once into a single string and reused until an entry
+     * is added or removed; only the subtitle is computed on each call. Menus
+     * containing submenus are rendered each time, since a submenu can change
+     * on its own.
+     * </p>
+     * 
+     * @param channel The channel to print to
      */
     @Override
-    public void display() {
-        System.out.println("\n=== " + title.toUpperCase() + " ===");
+    public void display(SessionChannel channel) {
+        String cached = body;
+        if (cached == null) {
+            boolean leavesOnly = true;
+            for (MenuComponent item : menuItems) {
+                leavesOnly &= item.getClass() == MenuItem.class;
+            }
+            if (!leavesOnly) {
+                displayLive(channel);
+                return;
+            }
+            cached = renderBody();
+            body = cached;
+        }
+
+        channel.print(header);
+        if (subtitle != null) {
+            channel.print(" - " + subtitle.get().toUpperCase());
+        }
+        channel.print(cached);
+    }
 
+    /**
+     * Displays a menu containing submenus, asking each entry to show itself
+     * 
+     * @param channel The channel to print to
+     */
+    private void displayLive(SessionChannel channel) {
+        channel.print(header);
+        if (subtitle != null) {
+            channel.print(" - " + subtitle.get().toUpperCase());
+        }
+        channel.println(" ===");
         for (int i = 0; i < menuItems.size(); i++) {
-            System.out.print((i + 1) + ". ");
-            menuItems.get(i).display();
+            channel.print((i + 1) + ". ");
+            menuItems.get(i).display(channel);
+        }
+        String zeroOption = zeroOption();
+        if (zeroOption != null) {
+            channel.println(zeroOption);
         }
+    }
 
-        // Show the appropriate exit option based on the menu type
-        if (title.contains("Menu Principale") || title.equals("RPG Adventure Game - Menu Principale")) {
-            System.out.println("0. Exit");
-        } else if (!(title.contains("Menu Personaggio") || 
-                   title.contains("Esplora Dungeon") || 
-                   title.contains("Inventario"))) {
-            // Only show "0. Back" for menus that don't already have a return option
-            System.out.println("0. Back");
+    /**
+     * Renders the end of the title line and the entries of a menu made of
+     * plain items
+     * 
+     * @return The text printed by {@link #display(SessionChannel)} after the subtitle
+     */
+    private String renderBody() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(" ===").append(NL);
+        for (int i = 0; i < menuItems.size(); i++) {
+            sb.append(i + 1).append(". ").append(menuItems.get(i).getName()).append(NL);
+        }
+        String zeroOption = zeroOption();
+        if (zeroOption != null) {
+            sb.append(zeroOption).append(NL);
         }
+        return sb.toString();
+    }
 
+    /**
+     * Gets the "0" option line of this menu
+     * 
+     * @return The line, or null if the menu has its own return item
+     */
+    private String zeroOption() {
+        switch (kind) {
+            case ROOT:
+                return "0. Exit";
+            case SUBMENU:
+                return "0. Back";
+            default:
+                return null;
+        }
     }
 
     /**
      * Gets the menu title
      * 
-     * @return The title of the menu
+     * @return The title of the menu, followed by its current subtitle if any
      */
     @Override
     public String getName() {
-        return title;
+        return subtitle == null ? title : title + " - " + subtitle.get();
     }
 
     /**
-     * Helper method to exit the game
+     * Gets the kind of this menu
+     * 
+     * @return How the menu offers its "0" option
      */
-    private void exitGame() {
-        System.out.println("\nGrazie per aver giocato!");
-        System.exit(0);
+    public Kind getKind() {
+        return kind;
     }
 }
@@ -1,5 +1,7 @@
 package rpg.composite;
 
+import rpg.server.SessionChannel;
+
 /**
  * MenuAction - Functional interface for menu actions
  * <p>
@@ -14,6 +16,9 @@ public interface MenuAction {
     
     /**
      * Executes the action associated with a menu item
+     * 
+     * @param channel The channel of the player who selected the item
+     * @return Where the menu system goes next, usually {@link Navigation#STAY}
      */
-    void execute();
+    Navigation execute(SessionChannel channel);
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package rpg.composite;
 
+import rpg.server.SessionChannel;
+
 /**
  * MenuComponent - Base interface for the Composite pattern
  * <p>
@@ -17,8 +19,11 @@ public interface MenuComponent {
      * For leaf nodes (MenuItem), this executes the specific action.
      * For composite nodes (GameMenu), this displays the menu and handles user input.
      * </p>
+     * 
+     * @param channel The channel used to talk to the player
+     * @return Where the menu system goes next
      */
-    void execute();
+    Navigation execute(SessionChannel channel);
 
     /**
      * Displays the menu component
@@ -26,8 +31,10 @@ public interface MenuComponent {
      * For leaf nodes (MenuItem), this displays the menu item name.
      * For composite nodes (GameMenu), this displays the entire menu structure.
      * </p>
+     * 
+     * @param channel The channel to print to
      */
-    void display();
+    void display(SessionChannel channel);
     
     /**
      * Gets the name of this menu component
@@ -1,5 +1,7 @@
 package rpg.composite;
 
+import rpg.server.SessionChannel;
+
 /**
  * MenuItem - Leaf node in the Composite pattern
  * <p>
@@ -10,8 +12,8 @@ package rpg.composite;
  */
 public class MenuItem implements MenuComponent {
     
-    private String name;
-    private MenuAction action;
+    private final String name;
+    private final MenuAction action;
     
     /**
      * Constructor for creating a menu item
@@ -29,23 +31,29 @@ public class MenuItem implements MenuComponent {
      * <p>
      * If an action is defined, it will be executed.
      * </p>
+     * 
+     * @param channel The channel of the player who selected the item
+     * @return The navigation requested by the action, or STAY without an action
      */
     @Override
-    public void execute() {
+    public Navigation execute(SessionChannel channel) {
         if (action != null) {
-            action.execute();
+            return action.execute(channel);
         }
+        return Navigation.STAY;
     }
     
     /**
      * Displays the menu item
      * <p>
-     * Prints the name of the menu item to the console.
+     * Prints the name of the menu item to the channel.
      * </p>
+     * 
+     * @param channel The channel to print to
      */
     @Override
-    public void display() {
-        System.out.println(name);
+    public void display(SessionChannel channel) {
+        channel.println(name);
     }
     
     /**
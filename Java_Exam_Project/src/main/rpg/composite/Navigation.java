@@ -0,0 +1,25 @@
+package rpg.composite;
+
+/**
+ * Navigation - Where the menu system goes after a menu component ran
+ * <p>
+ * Every {@link MenuComponent} and {@link MenuAction} returns one of these
+ * values instead of throwing an exception to unwind the menu stack, so
+ * moving between menus costs no stack trace and every exit path is visible
+ * in the method signatures.
+ * </p>
+ */
+public enum Navigation {
+
+    /** Stay in the current menu and show it again */
+    STAY,
+
+    /** Leave the menu that contains the selected item */
+    BACK,
+
+    /** Unwind every menu up to the main menu */
+    TO_ROOT,
+
+    /** Leave the game */
+    EXIT
+}
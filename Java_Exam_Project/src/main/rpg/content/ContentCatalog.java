@@ -0,0 +1,173 @@
+package rpg.content;
+
+import rpg.builder.ConcreteDungeonBuilder;
+import rpg.builder.Dungeon;
+import rpg.factoryMonster.MonsterTemplate;
+import rpg.iterator.Item;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ContentCatalog - Immutable set of the game's items, monsters and dungeons
+ * <p>
+ * A catalog is compiled from content packs by {@link ContentPackLoader}:
+ * every monster is already a {@link MonsterTemplate} and every dungeon an
+ * immutable {@link Dungeon}, so nothing is parsed or validated while the
+ * game runs. Lookups by id are case-insensitive and allocate nothing.
+ * </p>
+ * <p>
+ * The catalog used by the game is loaded the first time {@link #current()}
+ * is called. It may later be replaced as a whole by a newer catalog (see
+ * {@link ContentReloader}); readers take no lock, and code that already
+ * holds a catalog, or a monster or dungeon taken from one, keeps using
+ * that consistent snapshot.
+ * </p>
+ */
+public final class ContentCatalog {
+
+    private final Map<String, Item> items;
+    private final Map<String, MonsterTemplate> monsters;
+    private final List<Dungeon> dungeons;
+
+    /**
+     * Creates a catalog
+     *
+     * @param items The items by id
+     * @param monsters The monster templates by id
+     * @param dungeons The dungeons, in menu order
+     */
+    ContentCatalog(Map<String, Item> items, Map<String, MonsterTemplate> monsters, List<Dungeon> dungeons) {
+        this.items = byId(items);
+        this.monsters = byId(monsters);
+        this.dungeons = List.copyOf(dungeons);
+    }
+
+    /**
+     * Gets the catalog used by the game
+     *
+     * @return The most recently published catalog
+     */
+    public static ContentCatalog current() {
+        return Holder.CURRENT.get();
+    }
+
+    /**
+     * Replaces the catalog used by the game
+     * <p>
+     * New lookups see the new catalog at once; nothing already taken from
+     * the previous one is affected.
+     * </p>
+     *
+     * @param catalog The new catalog
+     * @throws IllegalArgumentException If the catalog is null
+     */
+    static void publish(ContentCatalog catalog) {
+        if (catalog == null) {
+            throw new IllegalArgumentException("Catalog cannot be null");
+        }
+        Holder.CURRENT.set(catalog);
+    }
+
+    /**
+     * Gets the catalog used when no content pack can be loaded
+     * <p>
+     * It holds the two dungeons of the base game; their monsters are the
+     * built-in ones of the {@link rpg.factoryMonster.MonsterFactory}.
+     * </p>
+     *
+     * @return The built-in catalog
+     */
+    static ContentCatalog builtIn() {
+        List<Dungeon> dungeons = List.of(
+                new ConcreteDungeonBuilder().reset()
+                        .setName("Goblin Cave")
+                        .setDescription("Una grotta piena di goblin.")
+                        .setGoldReward(100)
+                        .setMonsterType("goblin")
+                        .build(),
+                new ConcreteDungeonBuilder().reset()
+                        .setName("Swamp of Trolls")
+                        .setDescription("Una palude pericolosa con troll.")
+                        .setGoldReward(200)
+                        .setMonsterType("troll")
+                        .build());
+        return new ContentCatalog(Map.of(), Map.of(), dungeons);
+    }
+
+    /**
+     * Gets an item definition
+     *
+     * @param id The item id (case-insensitive)
+     * @return The item, or null if the catalog has no such item
+     */
+    public Item getItem(String id) {
+        return id == null ? null : items.get(id);
+    }
+
+    /**
+     * Gets a monster template
+     *
+     * @param id The monster id (case-insensitive)
+     * @return The template, or null if the catalog has no such monster
+     */
+    public MonsterTemplate getMonster(String id) {
+        return id == null ? null : monsters.get(id);
+    }
+
+    /**
+     * Gets the dungeons
+     *
+     * @return An unmodifiable list of the dungeons, in menu order
+     */
+    public List<Dungeon> getDungeons() {
+        return dungeons;
+    }
+
+    /**
+     * Gets the number of item definitions
+     *
+     * @return The number of items
+     */
+    public int getItemCount() {
+        return items.size();
+    }
+
+    /**
+     * Gets the number of monster types
+     *
+     * @return The number of monsters
+     */
+    public int getMonsterCount() {
+        return monsters.size();
+    }
+
+    /**
+     * Copies definitions into an unmodifiable, case-insensitive map
+     *
+     * @param definitions The definitions by id
+     * @param <T> The type of the definitions
+     * @return The lookup map
+     */
+    private static <T> Map<String, T> byId(Map<String, T> definitions) {
+        Map<String, T> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        map.putAll(definitions);
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Holder - Loads the game catalog on first use, and starts watching the
+     * content directory if hot reloading is enabled
+     */
+    private static final class Holder {
+        static final AtomicReference<ContentCatalog> CURRENT =
+                new AtomicReference<>(ContentPackLoader.loadStartupCatalog());
+
+        static {
+            ContentReloader.startDefault();
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package rpg.content;
+
+import rpg.builder.ConcreteDungeonBuilder;
+import rpg.builder.Dungeon;
+import rpg.factoryMonster.DropTable;
+import rpg.factoryMonster.MonsterTemplate;
+import rpg.iterator.Item;
+import rpg.logger.GameLogger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * ContentPackLoader - Compiles content packs into a {@link ContentCatalog}
+ * <p>
+ * A content pack is a plain text file of blocks. Each block starts with a
+ * {@code [kind id]} header, where kind is {@code item}, {@code monster} or
+ * {@code dungeon}, followed by {@code key = value} lines. Blank lines and
+ * lines starting with {@code #} are ignored:
+ * </p>
+ * <pre>
+ * [item health_potion]
+ * name = Health Potion
+ * type = POTION
+ * value = 15
+ *
+ * [monster goblin]
+ * name = Goblin
+ * health = 20
+ * damage = 5
+ * gold = 10
+ * dropChance = 50
+ * drops = health_potion
+ *
+ * [dungeon goblin_cave]
+ * name = Goblin Cave
+ * description = Una grotta piena di goblin.
+ * gold = 100
+ * monster = goblin
+ * </pre>
+ * <p>
+ * A monster either gives every drop the same {@code dropChance}, as above,
+ * or a weighted drop table: each drop may carry a weight
+ * ({@code drops = fang:3, pelt:1}), {@code noDrop} is the weight of rolls
+ * that drop nothing and {@code rolls} the number of rolls per kill
+ * (see {@link DropTable}).
+ * </p>
+ * <p>
+ * Packs are read line by line and each block is compiled as soon as it
+ * ends, so a block may only refer to items and monsters defined above it,
+ * in the same pack or in a pack loaded earlier. A block whose id is
+ * already defined replaces the earlier definition (a dungeon keeps its
+ * place in the menu). Any mistake, including an unknown key, fails the
+ * load with an {@link IllegalArgumentException} naming the file and line.
+ * </p>
+ * <p>
+ * A loader is not thread-safe; the catalogs it builds are immutable.
+ * </p>
+ */
+public final class ContentPackLoader {
+
+    private static final Logger logger = GameLogger.getLogger();
+
+    /** Classpath location of the pack with the base game content */
+    public static final String CORE_PACK = "/content/core.pack";
+
+    // Optional directory of additional packs (*.pack), loaded after the core pack by name
+    static final String CONTENT_DIR = System.getProperty("game.content.dir");
+
+    private final Map<String, Item> items = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, MonsterTemplate> monsters = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, Dungeon> dungeons = new LinkedHashMap<>();
+
+    /**
+     * Loads the catalog used by the game: the core pack, then the packs of
+     * the {@code game.content.dir} directory if it is set
+     * <p>
+     * If a pack cannot be loaded the error is logged and the built-in
+     * content is used instead, so the game stays playable.
+     * </p>
+     *
+     * @return The startup catalog
+     */
+    static ContentCatalog loadStartupCatalog() {
+        try {
+            ContentCatalog catalog = compile(CONTENT_DIR == null ? null : Path.of(CONTENT_DIR));
+            logger.info("Content loaded: " + catalog.getMonsterCount() + " monsters, "
+                    + catalog.getDungeons().size() + " dungeons");
+            return catalog;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.severe("Content packs not loaded, using built-in content: " + e.getMessage());
+            return ContentCatalog.builtIn();
+        }
+    }
+
+    /**
+     * Compiles a fresh catalog from the core pack and a directory of packs
+     *
+     * @param directory The directory of additional packs, or null for none
+     * @return The catalog
+     * @throws IOException If a pack cannot be read
+     * @throws IllegalArgumentException If a pack is invalid
+     */
+    static ContentCatalog compile(Path directory) throws IOException {
+        ContentPackLoader loader = new ContentPackLoader().loadResource(CORE_PACK);
+        if (directory != null) {
+            loader.loadDirectory(directory);
+        }
+        return loader.build();
+    }
+
+    /**
+     * Loads a pack from the classpath
+     *
+     * @param name The resource name
+     * @return This loader, for chaining
+     * @throws IOException If the resource is missing or cannot be read
+     * @throws IllegalArgumentException If the pack is invalid
+     */
+    public ContentPackLoader loadResource(String name) throws IOException {
+        InputStream in = ContentPackLoader.class.getResourceAsStream(name);
+        if (in == null) {
+            throw new IOException("Content pack not found: " + name);
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return load(name, reader);
+        }
+    }
+
+    /**
+     * Loads a pack file
+     *
+     * @param file The pack file
+     * @return This loader, for chaining
+     * @throws IOException If the file cannot be read
+     * @throws IllegalArgumentException If the pack is invalid
+     */
+    public ContentPackLoader load(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return load(file.getFileName().toString(), reader);
+        }
+    }
+
+    /**
+     * Loads every pack ({@code *.pack}) of a directory, in name order
+     *
+     * @param directory The directory
+     * @return This loader, for chaining
+     * @throws IOException If the directory or a pack cannot be read
+     * @throws IllegalArgumentException If a pack is invalid
+     */
+    public ContentPackLoader loadDirectory(Path directory) throws IOException {
+        List<Path> packs = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.pack")) {
+            stream.forEach(packs::add);
+        }
+        packs.sort(null);
+        for (Path pack : packs) {
+            load(pack);
+        }
+        return this;
+    }
+
+    /**
+     * Loads a pack
+     *
+     * @param source The name of the pack, used in error messages
+     * @param reader The pack contents
+     * @return This loader, for chaining
+     * @throws IOException If the pack cannot be read
+     * @throws IllegalArgumentException If the pack is invalid
+     */
+    public ContentPackLoader load(String source, Reader reader) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        Block block = null;
+        int lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            String text = line.strip();
+            if (text.isEmpty() || text.charAt(0) == '#') {
+                continue;
+            }
+            if (text.charAt(0) == '[') {
+                if (block != null) {
+                    compile(block);
+                }
+                block = openBlock(source, lineNumber, text);
+            } else {
+                int separator = text.indexOf('=');
+                if (separator <= 0) {
+                    throw error(source, lineNumber, "Expected 'key = value' or '[kind id]'");
+                }
+                if (block == null) {
+                    throw error(source, lineNumber, "Property outside of a block");
+                }
+                block.put(text.substring(0, separator).strip(), text.substring(separator + 1).strip(), lineNumber);
+            }
+        }
+        if (block != null) {
+            compile(block);
+        }
+        return this;
+    }
+
+    /**
+     * Builds a catalog of everything loaded so far
+     *
+     * @return An immutable catalog
+     */
+    public ContentCatalog build() {
+        return new ContentCatalog(items, monsters, new ArrayList<>(dungeons.values()));
+    }
+
+    /**
+     * Parses a block header
+     *
+     * @param source The name of the pack
+     * @param lineNumber The line of the header
+     * @param text The header, starting with '['
+     * @return The new, empty block
+     */
+    private static Block openBlock(String source, int lineNumber, String text) {
+        if (text.charAt(text.length() - 1) != ']') {
+            throw error(source, lineNumber, "Unterminated block header");
+        }
+        String[] header = text.substring(1, text.length() - 1).strip().split("\\s+");
+        if (header.length != 2) {
+            throw error(source, lineNumber, "Block header must be '[kind id]'");
+        }
+        Kind kind;
+        try {
+            kind = Kind.valueOf(header[0].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw error(source, lineNumber, "Unknown block kind: " + header[0]);
+        }
+        return new Block(source, lineNumber, kind, header[1]);
+    }
+
+    /**
+     * Compiles a complete block into an item, a monster template or a dungeon
+     *
+     * @param block The block
+     */
+    private void compile(Block block) {
+        switch (block.kind) {
+            case ITEM -> {
+                Item item = compileItem(block);
+                block.checkAllUsed();
+                items.put(block.id, item);
+            }
+            case MONSTER -> {
+                MonsterTemplate monster = compileMonster(block);
+                block.checkAllUsed();
+                monsters.put(block.id, monster);
+            }
+            case DUNGEON -> {
+                Dungeon dungeon = compileDungeon(block);
+                block.checkAllUsed();
+                dungeons.put(block.id.toLowerCase(Locale.ROOT), dungeon);
+            }
+        }
+    }
+
+    /**
+     * Compiles an item block into the shared item of its definition
+     *
+     * @param block The item block
+     * @return The item
+     */
+    private Item compileItem(Block block) {
+        String name = block.required("name");
+        String typeName = block.required("type");
+        Item.ItemType type;
+        try {
+            type = Item.ItemType.valueOf(typeName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw block.error("type", "Unknown item type: " + typeName);
+        }
+        int value = block.optionalInt("value", 0);
+        int bonus = block.optionalInt("bonus", 0);
+        if (value < 0) {
+            throw block.error("value", "Item value cannot be negative");
+        }
+        return Item.of(name, type, value, bonus);
+    }
+
+    /**
+     * Compiles a monster block into a template
+     *
+     * @param block The monster block
+     * @return The template
+     */
+    private MonsterTemplate compileMonster(Block block) {
+        String name = block.required("name");
+        String type = block.optional("type", name);
+        int health = block.requiredInt("health");
+        int damage = block.requiredInt("damage");
+        int gold = block.optionalInt("gold", 0);
+        List<Item> drops = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        boolean weighted = block.has("noDrop") || block.has("rolls");
+        String dropIds = block.optional("drops", "");
+        if (!dropIds.isEmpty()) {
+            for (String entry : dropIds.split(",")) {
+                String dropId = entry.strip();
+                int weight = 1;
+                int separator = dropId.indexOf(':');
+                if (separator >= 0) {
+                    weighted = true;
+                    weight = block.parseInt("drops", dropId.substring(separator + 1).strip());
+                    dropId = dropId.substring(0, separator).strip();
+                }
+                Item drop = items.get(dropId);
+                if (drop == null) {
+                    throw block.error("drops", "Unknown item: " + dropId);
+                }
+                drops.add(drop);
+                weights.add(weight);
+            }
+        }
+        if (weighted && block.has("dropChance")) {
+            throw block.error("dropChance", "Use either dropChance or drop weights in " + block.describe());
+        }
+        int dropChance = block.optionalInt("dropChance", 0);
+        int noDrop = block.optionalInt("noDrop", 0);
+        int rolls = block.optionalInt("rolls", 1);
+        try {
+            if (!weighted) {
+                return MonsterTemplate.define(name, type, health, damage, gold, dropChance, drops);
+            }
+            DropTable.Builder table = DropTable.builder().nothing(noDrop).rolls(rolls);
+            for (int i = 0; i < drops.size(); i++) {
+                table.add(drops.get(i), weights.get(i));
+            }
+            return MonsterTemplate.define(name, type, health, damage, gold, table.build());
+        } catch (IllegalArgumentException e) {
+            throw block.error(null, e.getMessage());
+        }
+    }
+
+    /**
+     * Compiles a dungeon block into a dungeon
+     *
+     * @param block The dungeon block
+     * @return The dungeon
+     */
+    private Dungeon compileDungeon(Block block) {
+        String name = block.required("name");
+        String description = block.optional("description", "");
+        int gold = block.optionalInt("gold", 0);
+        String monster = block.required("monster");
+        if (gold < 0) {
+            throw block.error("gold", "Gold reward cannot be negative");
+        }
+        if (!monsters.containsKey(monster)) {
+            throw block.error("monster", "Unknown monster: " + monster);
+        }
+        return new ConcreteDungeonBuilder().reset()
+                .setName(name)
+                .setDescription(description)
+                .setGoldReward(gold)
+                .setMonsterType(monster)
+                .build();
+    }
+
+    /**
+     * Creates the exception for a mistake in a pack
+     *
+     * @param source The name of the pack
+     * @param lineNumber The line of the mistake
+     * @param message The description of the mistake
+     * @return The exception
+     */
+    private static IllegalArgumentException error(String source, int lineNumber, String message) {
+        return new IllegalArgumentException(source + ":" + lineNumber + ": " + message);
+    }
+
+    /**
+     * Kind - The kinds of block a pack may contain
+     */
+    private enum Kind {
+        ITEM, MONSTER, DUNGEON
+    }
+
+    /**
+     * Block - The properties of one block, read but not compiled yet
+     * <p>
+     * Properties are removed as the compiler reads them, so whatever is
+     * left at the end is a key the compiler does not know.
+     * </p>
+     */
+    private static final class Block {
+
+        private final String source;
+        private final int line;
+        private final Kind kind;
+        private final String id;
+        private final Map<String, String> values = new HashMap<>();
+        private final Map<String, Integer> lines = new HashMap<>();
+
+        Block(String source, int line, Kind kind, String id) {
+            this.source = source;
+            this.line = line;
+            this.kind = kind;
+            this.id = id;
+        }
+
+        void put(String key, String value, int lineNumber) {
+            if (values.putIfAbsent(key, value) != null) {
+                throw ContentPackLoader.error(source, lineNumber, "Duplicate key: " + key);
+            }
+            lines.put(key, lineNumber);
+        }
+
+        String required(String key) {
+            String value = values.remove(key);
+            if (value == null || value.isEmpty()) {
+                throw error(null, "Missing '" + key + "' in " + describe());
+            }
+            return value;
+        }
+
+        boolean has(String key) {
+            return values.containsKey(key);
+        }
+
+        String optional(String key, String defaultValue) {
+            String value = values.remove(key);
+            return value == null ? defaultValue : value;
+        }
+
+        int requiredInt(String key) {
+            return parseInt(key, required(key));
+        }
+
+        int optionalInt(String key, int defaultValue) {
+            String value = values.get(key);
+            int parsed = value == null ? defaultValue : parseInt(key, value);
+            values.remove(key);
+            return parsed;
+        }
+
+        void checkAllUsed() {
+            if (!values.isEmpty()) {
+                String key = values.keySet().iterator().next();
+                throw error(key, "Unknown key '" + key + "' in " + describe());
+            }
+        }
+
+        IllegalArgumentException error(String key, String message) {
+            int lineNumber = key == null ? line : lines.getOrDefault(key, line);
+            return ContentPackLoader.error(source, lineNumber, message);
+        }
+
+        int parseInt(String key, String value) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw error(key, "'" + key + "' must be a number: " + value);
+            }
+        }
+
+        String describe() {
+            return kind.name().toLowerCase(Locale.ROOT) + " " + id;
+        }
+    }
+}
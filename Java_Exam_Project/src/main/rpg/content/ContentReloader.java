@@ -0,0 +1,186 @@
+package rpg.content;
+
+import rpg.logger.GameLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * ContentReloader - Hot reload of the content packs of a directory
+ * <p>
+ * A background thread watches the directory and, when a {@code *.pack}
+ * file is created, changed or deleted, compiles a new catalog from the
+ * core pack and the packs of the directory and publishes it with
+ * {@link ContentCatalog#publish}. Changes are collected until the
+ * directory has been quiet for {@code game.content.reloadDelay}
+ * milliseconds (default 200), so an editor saving a file in several
+ * steps causes one reload.
+ * </p>
+ * <p>
+ * Compiling happens entirely on the watcher thread: the game keeps using
+ * the previous catalog until the new one is complete, and keeps it if a
+ * pack is invalid. A fight already in progress goes on with the monster
+ * it spawned, whatever is published meanwhile.
+ * </p>
+ * <p>
+ * Hot reloading is opt-in with {@code game.content.watch=true}, and
+ * watches {@code game.content.dir}.
+ * </p>
+ */
+public final class ContentReloader implements Closeable {
+
+    private static final Logger logger = GameLogger.getLogger();
+
+    private static final boolean ENABLED = Boolean.getBoolean("game.content.watch");
+    private static final long QUIET_MILLIS = Long.getLong("game.content.reloadDelay", 200);
+
+    private final Path directory;
+    private final WatchService watcher;
+    private final Thread thread;
+
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * Starts watching a directory of content packs
+     *
+     * @param directory The directory
+     * @throws IOException If the directory cannot be watched
+     * @throws IllegalArgumentException If the directory is null
+     */
+    public ContentReloader(Path directory) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        this.directory = directory;
+        this.watcher = directory.getFileSystem().newWatchService();
+        directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        this.thread = Thread.ofPlatform().name("rpg-content-reload").daemon(true).start(this::watch);
+        logger.info("Watching content packs in " + directory);
+    }
+
+    /**
+     * Starts the watcher of {@code game.content.dir} if hot reloading is enabled
+     * <p>
+     * Called once, when the game catalog is first loaded. The watcher runs
+     * until the JVM exits.
+     * </p>
+     */
+    static void startDefault() {
+        if (!ENABLED) {
+            return;
+        }
+        if (ContentPackLoader.CONTENT_DIR == null) {
+            logger.warning("game.content.watch is set but game.content.dir is not, nothing to watch");
+            return;
+        }
+        try {
+            new ContentReloader(Path.of(ContentPackLoader.CONTENT_DIR));
+        } catch (IOException e) {
+            logger.warning("Cannot watch content packs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compiles the packs now and publishes the result
+     *
+     * @return true if a new catalog was published, false if a pack could not
+     *         be loaded and the current catalog was kept
+     */
+    public boolean reload() {
+        long start = System.nanoTime();
+        try {
+            ContentCatalog catalog = ContentPackLoader.compile(directory);
+            ContentCatalog.publish(catalog);
+            reloads.incrementAndGet();
+            logger.info("Content reloaded in " + (System.nanoTime() - start) / 1_000_000 + " ms: "
+                    + catalog.getMonsterCount() + " monsters, " + catalog.getDungeons().size() + " dungeons");
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            failures.incrementAndGet();
+            logger.warning("Content reload failed, keeping current content: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Gets the number of catalogs published by this reloader
+     *
+     * @return The number of successful reloads
+     */
+    public long getReloadCount() {
+        return reloads.get();
+    }
+
+    /**
+     * Gets the number of reloads that kept the current catalog
+     *
+     * @return The number of failed reloads
+     */
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    /**
+     * Stops watching the directory
+     *
+     * @throws IOException If the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        watcher.close();
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Watcher thread: waits for changes, lets the directory settle, reloads
+     */
+    private void watch() {
+        try {
+            while (true) {
+                boolean changed = drain(watcher.take());
+                WatchKey more;
+                while ((more = watcher.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(more);
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Consumes the events of a watch key
+     *
+     * @param key The signalled key
+     * @return true if a pack changed, or if events were lost
+     */
+    private static boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || event.context().toString().endsWith(".pack")) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+}
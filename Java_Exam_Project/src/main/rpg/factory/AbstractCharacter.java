@@ -1,6 +1,14 @@
 package rpg.factory;
 
+import rpg.iterator.Inventory;
 import rpg.iterator.Item;
+import rpg.output.ConsoleEventSink;
+import rpg.output.GameEventSink;
+import rpg.output.GameMessage;
+import rpg.combat.GameRandom;
+import rpg.server.SessionChannel;
+
+import java.util.random.RandomGenerator;
 
 /**
  * Base class for all characters
@@ -22,6 +30,16 @@ public abstract class AbstractCharacter implements Character {
     protected int money;
     protected int level;
 
+    // Destination of the character's messages (console by default)
+    protected GameEventSink events = ConsoleEventSink.getDefault();
+
+    // Per-character generator for damage rolls (no shared seed between threads)
+    protected RandomGenerator random = GameRandom.create();
+
+    // Tick of the last stamina regeneration (-1 before the first) and the fraction carried over
+    private long regenerationTick = -1;
+    private double regenerationCarry;
+
     /**
      * Constructor for creating a new character
      * 
@@ -53,11 +71,10 @@ public abstract class AbstractCharacter implements Character {
         }
 
         this.health = Math.max(0, this.health - damage);
-        System.out.printf("%s takes %d damage! Health: %d/%d%n",
-                name, damage, health, maxHealth);
+        events.emit(GameMessage.CHARACTER_DAMAGED, name, damage, health, maxHealth);
 
         if (!isAlive()) {
-            System.out.printf("%s has been defeated!%n", name);
+            events.emit(GameMessage.CHARACTER_DEFEATED, name);
         }
     }
 
@@ -86,8 +103,7 @@ public abstract class AbstractCharacter implements Character {
             
             int restored = stamina - oldStamina;
             if (restored > 0) {
-                System.out.printf("%s restored %d stamina. Stamina: %d/%d%n", 
-                        name, restored, stamina, maxStamina);
+                events.emit(GameMessage.STAMINA_RESTORED, name, restored, stamina, maxStamina);
             }
         } else if (amount < 0) {
             // Reduce stamina (negative amount)
@@ -96,19 +112,53 @@ public abstract class AbstractCharacter implements Character {
             
             int reduced = oldStamina - stamina;
             if (reduced > 0) {
-                System.out.printf("%s used %d stamina. Stamina: %d/%d%n", 
-                        name, reduced, stamina, maxStamina);
+                events.emit(GameMessage.STAMINA_USED, name, reduced, stamina, maxStamina);
             }
         }
     }
 
+    /**
+     * Recovers the stamina earned since the last call
+     * <p>
+     * Fractions of a point are carried over to the next call, so slow
+     * rates still add up. Dead characters and characters at full stamina
+     * recover nothing, and do not bank stamina for later.
+     * </p>
+     * 
+     * @param tick The current tick of the game clock
+     * @return The stamina recovered
+     */
+    @Override
+    public int regenerateStamina(long tick) {
+        if (regenerationTick < 0 || tick <= regenerationTick) {
+            regenerationTick = Math.max(regenerationTick, tick);
+            return 0;
+        }
+
+        long elapsed = tick - regenerationTick;
+        regenerationTick = tick;
+        int missing = maxStamina - stamina;
+        if (!isAlive() || missing <= 0) {
+            regenerationCarry = 0;
+            return 0;
+        }
+
+        double earned = regenerationCarry + elapsed * getStaminaRecoveryRate() * maxStamina;
+        int recovered = (int) Math.min(earned, missing);
+        regenerationCarry = recovered < missing ? earned - recovered : 0;
+        if (recovered > 0) {
+            restoreStamina(recovered);
+        }
+        return recovered;
+    }
+
     /**
      * Rests to recover stamina
      */
     @Override
     public void rest() {
         stamina = maxStamina;
-        System.out.printf("%s rests and recovers stamina.%n", name);
+        events.emit(GameMessage.CHARACTER_RESTED, name);
     }
 
     /**
@@ -117,7 +167,7 @@ public abstract class AbstractCharacter implements Character {
     @Override
     public void train() {
         if (money < 50) {
-            System.out.println("Not enough money to train!");
+            events.emit(GameMessage.TRAINING_NO_MONEY, name);
             return;
         }
         
@@ -125,7 +175,7 @@ public abstract class AbstractCharacter implements Character {
         performTraining();
         level++;
         
-        System.out.printf("%s is now level %d!%n", name, level);
+        events.emit(GameMessage.LEVEL_UP, name, level);
     }
 
     /**
@@ -151,9 +201,57 @@ public abstract class AbstractCharacter implements Character {
 
     /**
      * Shows inventory contents
+     * 
+     * @param channel The channel of the player
+     */
+    @Override
+    public abstract void showInventory(SessionChannel channel);
+
+    /**
+     * Sets the sink receiving the character's messages
+     * <p>
+     * The inventory, if any, is switched to the same sink.
+     * </p>
+     * 
+     * @param sink The sink to use, or null to restore console output
+     */
+    @Override
+    public void setEventSink(GameEventSink sink) {
+        this.events = sink != null ? sink : ConsoleEventSink.getDefault();
+        Inventory inventory = getInventory();
+        if (inventory != null) {
+            inventory.setEventSink(this.events);
+        }
+    }
+
+    /**
+     * Sets the generator used for the character's damage rolls
+     * 
+     * @param random The generator to use, or null for a fresh unseeded one
+     */
+    @Override
+    public void setRandom(RandomGenerator random) {
+        this.random = random != null ? random : GameRandom.create();
+    }
+
+    /**
+     * Gets the generator used for the character's damage rolls
+     * 
+     * @return The current generator
      */
     @Override
-    public abstract void showInventory();
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Gets the sink receiving the character's messages
+     * 
+     * @return The current event sink
+     */
+    public GameEventSink getEventSink() {
+        return events;
+    }
 
     /**
      * Gets the character's name
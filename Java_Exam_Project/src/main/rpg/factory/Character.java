@@ -1,6 +1,12 @@
 package rpg.factory;
 
 import rpg.iterator.Item;
+import rpg.iterator.Inventory;
+import rpg.output.GameEventSink;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
+
+import java.util.random.RandomGenerator;
 
 /**
  * Character interface - defines what every character can do
@@ -50,6 +56,28 @@ public interface Character {
      * @param amount The amount of stamina to restore (positive) or reduce (negative)
      */
     void restoreStamina(int amount);
+
+    /**
+     * Recovers the stamina earned since the last call
+     * <p>
+     * Stamina regenerates over time at {@link #getStaminaRecoveryRate()}
+     * of the maximum per tick of the shared game clock. Nothing runs in the
+     * background: the game calls this method with the current tick before
+     * it reads the stamina, and the character catches up on every tick
+     * elapsed since. The first call only starts the count.
+     * </p>
+     * 
+     * @param tick The current tick of the game clock
+     * @return The stamina recovered
+     */
+    int regenerateStamina(long tick);
+
+    /**
+     * Gets the fraction of the maximum stamina recovered per tick
+     * 
+     * @return The stamina recovery rate as a decimal
+     */
+    double getStaminaRecoveryRate();
     
     /**
      * Equips an item to the character
@@ -65,10 +93,54 @@ public interface Character {
      */
     void addItem(Item item);
     
+    /**
+     * Displays the character's inventory contents to the player of the current session
+     */
+    default void showInventory() {
+        showInventory(GameSession.current().getChannel());
+    }
+
     /**
      * Displays the character's inventory contents
+     * 
+     * @param channel The channel of the player
+     */
+    void showInventory(SessionChannel channel);
+
+    /**
+     * Gets the character's inventory
+     * 
+     * @return The inventory holding the character's items and equipment
+     */
+    Inventory getInventory();
+
+    /**
+     * Sets the sink receiving the character's messages
+     * <p>
+     * The sink is also used by the character's inventory.
+     * </p>
+     * 
+     * @param sink The sink to use, or null to restore console output
+     */
+    void setEventSink(GameEventSink sink);
+
+    /**
+     * Sets the generator used for the character's damage rolls
+     * <p>
+     * Injecting a seeded generator makes the character's fights
+     * reproducible.
+     * </p>
+     * 
+     * @param random The generator to use, or null for a fresh unseeded one
+     */
+    void setRandom(RandomGenerator random);
+
+    /**
+     * Gets the generator used for the character's damage rolls
+     * 
+     * @return The current generator
      */
-    void showInventory();
+    RandomGenerator getRandom();
     
     /**
      * Gets the character's name
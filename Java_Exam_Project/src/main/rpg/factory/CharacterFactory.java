@@ -1,6 +1,9 @@
 package rpg.factory;
 
+import rpg.logger.GameLogger;
 import rpg.rpgSecurity.InputValidator;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
 import java.util.logging.Logger;
 
 /**
@@ -11,10 +14,36 @@ import java.util.logging.Logger;
  * instantiation logic and provides a common interface for creating
  * various character types.
  * </p>
+ * <p>
+ * Messages for the player go to the factory's channel, or to the channel
+ * of the current session.
+ * </p>
  */
 public class CharacterFactory {
 
-    private static final Logger logger = Logger.getLogger(CharacterFactory.class.getName());
+    private static final Logger logger = GameLogger.getLogger();
+
+    private final SessionChannel channel;
+
+    /**
+     * Creates a factory talking to the player of the current session
+     */
+    public CharacterFactory() {
+        this(null);
+    }
+
+    /**
+     * Creates a factory talking to the player through a channel
+     * 
+     * @param channel The player's channel, or null for the current session
+     */
+    public CharacterFactory(SessionChannel channel) {
+        this.channel = channel;
+    }
+
+    private SessionChannel channel() {
+        return channel != null ? channel : GameSession.current().getChannel();
+    }
 
     /**
      * Creates a character based on the specified type
@@ -27,7 +56,7 @@ public class CharacterFactory {
         logger.info("Creating character of type: " + type + " with name: " + name);
         
         // Validate name
-        String validatedName = InputValidator.validateCharacterName(name);
+        String validatedName = InputValidator.validateCharacterName(name, channel());
         if (validatedName == null) {
             logger.warning("Character creation failed: invalid name");
             return null;
@@ -37,7 +66,7 @@ public class CharacterFactory {
         String sanitizedType = InputValidator.sanitizeInput(type);
         if (sanitizedType.isEmpty()) {
             logger.warning("Character creation failed: empty type");
-            System.out.println("Character type cannot be empty!");
+            channel().println("Character type cannot be empty!");
             return null;
         }
         
@@ -52,12 +81,12 @@ public class CharacterFactory {
                 return new Mage(validatedName);
             } else {
                 logger.warning("Character creation failed: invalid type: " + sanitizedType);
-                System.out.println("Invalid character type!");
+                channel().println("Invalid character type!");
                 return null;
             }
         } catch (Exception e) {
             logger.severe("Error creating character: " + e.getMessage());
-            System.out.println("Error creating character: " + e.getMessage());
+            channel().println("Error creating character: " + e.getMessage());
             return null;
         }
     }
@@ -66,9 +95,9 @@ public class CharacterFactory {
      * Shows available character types to the user
      */
     public void showAvailableTypes() {
-        System.out.println("Available character types:");
-        System.out.println("- warrior: Strong fighter with high health");
-        System.out.println("- mage: Magic user with spells");
+        channel().println("Available character types:");
+        channel().println("- warrior: Strong fighter with high health");
+        channel().println("- mage: Magic user with spells");
     }
     
     /**
@@ -88,7 +117,7 @@ public class CharacterFactory {
     public Character createCustomCharacter(String type, String name, int health, int maxHealth, 
                                           int stamina, int maxStamina, int baseDamage, int money, int level) {
         // Validate inputs
-        String validatedName = InputValidator.validateCharacterName(name);
+        String validatedName = InputValidator.validateCharacterName(name, channel());
         if (validatedName == null) {
             logger.warning("Custom character creation failed: invalid name");
             return null;
@@ -132,7 +161,7 @@ public class CharacterFactory {
     public Character createCustomMage(String name, int health, int maxHealth, int stamina, int maxStamina,
                                      int baseDamage, int money, int level, int mana, int maxMana) {
         // Validate name
-        String validatedName = InputValidator.validateCharacterName(name);
+        String validatedName = InputValidator.validateCharacterName(name, channel());
         if (validatedName == null) {
             logger.warning("Custom mage creation failed: invalid name");
             return null;
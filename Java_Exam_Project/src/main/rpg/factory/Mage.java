@@ -2,7 +2,8 @@ package rpg.factory;
 
 import rpg.iterator.Item;
 import rpg.iterator.Inventory;
-import java.util.Random;
+import rpg.output.GameMessage;
+import rpg.server.SessionChannel;
 
 /**
  * Mage character class
@@ -15,7 +16,17 @@ import java.util.Random;
  */
 public class Mage extends AbstractCharacter {
 
-  private static final Random random = new Random();
+  /** Stamina spent by an attack, spell or staff */
+  public static final int ATTACK_STAMINA_COST = 3;
+  /** Mana spent by a spell */
+  public static final int SPELL_MANA_COST = 10;
+  /** Damage a spell adds to the base attack */
+  public static final int SPELL_DAMAGE_BONUS = 5;
+  /** Number of random damage points added to a spell (0 to spread - 1) */
+  public static final int SPELL_DAMAGE_SPREAD = 10;
+  /** Number of random damage points added to a staff attack (0 to spread - 1) */
+  public static final int STAFF_DAMAGE_SPREAD = 3;
+
   int mana;
   int maxMana;
   private final Inventory inventory;
@@ -43,26 +54,25 @@ public class Mage extends AbstractCharacter {
    */
   @Override
   public int attack() {
-    if (stamina < 3) {
-      System.out.printf("%s is too tired!%n", name);
+    if (stamina < ATTACK_STAMINA_COST) {
+      events.emit(GameMessage.MAGE_TOO_TIRED, name);
       return 0;
     }
 
-    stamina -= 3;
+    stamina -= ATTACK_STAMINA_COST;
 
     int equipmentBonus = inventory != null ? inventory.getTotalStatBonus() : 0;
     int baseAttack = baseDamage + equipmentBonus;
 
     // Mana-based attack logic
-    if (mana >= 10) {
-      mana -= 10;
-      int magicDamage = baseAttack + 5 + random.nextInt(10);
-      System.out.printf("%s casts a spell for %d damage! Mana: %d/%d%n",
-              name, magicDamage, mana, maxMana);
+    if (mana >= SPELL_MANA_COST) {
+      mana -= SPELL_MANA_COST;
+      int magicDamage = baseAttack + SPELL_DAMAGE_BONUS + random.nextInt(SPELL_DAMAGE_SPREAD);
+      events.emit(GameMessage.MAGE_SPELL, name, magicDamage, mana, maxMana);
       return magicDamage;
     } else {
-      int staffDamage = baseAttack + random.nextInt(3);
-      System.out.printf("%s attacks with staff for %d damage!%n", name, staffDamage);
+      int staffDamage = baseAttack + random.nextInt(STAFF_DAMAGE_SPREAD);
+      events.emit(GameMessage.MAGE_STAFF, name, staffDamage);
       return staffDamage;
     }
   }
@@ -76,7 +86,7 @@ public class Mage extends AbstractCharacter {
     maxMana += 10;
     mana = maxMana;
     maxStamina += 5;
-    System.out.printf("%s studies magic!%n", name);
+    events.emit(GameMessage.MAGE_TRAINED, name);
   }
 
   /**
@@ -86,7 +96,7 @@ public class Mage extends AbstractCharacter {
   public void rest() {
     super.rest();
     this.mana = maxMana;
-    System.out.printf("%s meditates and restores mana!%n", name);
+    events.emit(GameMessage.MAGE_MEDITATED, name);
   }
 
   /**
@@ -101,12 +111,12 @@ public class Mage extends AbstractCharacter {
     }
 
     if (!inventory.getAllItems().contains(item)) {
-      System.out.println("Item not in inventory!");
+      events.emit(GameMessage.ITEM_NOT_IN_INVENTORY, name);
       return;
     }
 
     inventory.equipItem(item);
-    System.out.printf("%s equipped %s!%n", name, item.getName());
+    events.emit(GameMessage.ITEM_EQUIPPED_BY, name, item.getName());
   }
 
   /**
@@ -121,27 +131,39 @@ public class Mage extends AbstractCharacter {
     }
 
     if (inventory.addItem(item)) {
-      System.out.printf("%s added %s!%n", name, item.getName());
+      events.emit(GameMessage.ITEM_ADDED_BY, name, item.getName());
     }
   }
 
   /**
    * Shows the mage's inventory
+   *
+   * @param channel The channel of the player
    */
   @Override
-  public void showInventory() {
+  public void showInventory(SessionChannel channel) {
     if (inventory == null) {
       return;
     }
 
-    System.out.printf("\n=== %s's Equipment ===%n", name);
-    inventory.displayInventory();
+    channel.printf("\n=== %s's Equipment ===%n", name);
+    inventory.displayInventory(channel);
 
     int totalBonus = inventory.getTotalStatBonus();
     if (totalBonus > 0) {
-      System.out.printf("Magic bonus: +%d power%n", totalBonus);
+      channel.printf("Magic bonus: +%d power%n", totalBonus);
     }
-    System.out.printf("Mana: %d/%d%n", mana, maxMana);
+    channel.printf("Mana: %d/%d%n", mana, maxMana);
+  }
+
+  /**
+   * Gets the mage's inventory
+   * 
+   * @return The mage's inventory
+   */
+  @Override
+  public Inventory getInventory() {
+    return inventory;
   }
 
   /**
@@ -149,6 +171,7 @@ public class Mage extends AbstractCharacter {
    * 
    * @return The stamina recovery rate as a decimal
    */
+  @Override
   public double getStaminaRecoveryRate() {
     return 0.10;
   }
@@ -2,7 +2,8 @@ package rpg.factory;
 
 import rpg.iterator.Item;
 import rpg.iterator.Inventory;
-import java.util.Random;
+import rpg.output.GameMessage;
+import rpg.server.SessionChannel;
 
 /**
  * Warrior character class
@@ -14,7 +15,11 @@ import java.util.Random;
  */
 public class Warrior extends AbstractCharacter {
 
-    private static final Random random = new Random();
+    /** Stamina spent by an attack */
+    public static final int ATTACK_STAMINA_COST = 5;
+    /** Number of random damage points added to an attack (0 to spread - 1) */
+    public static final int ATTACK_DAMAGE_SPREAD = 5;
+
     private final Inventory inventory;
 
     /**
@@ -34,17 +39,17 @@ public class Warrior extends AbstractCharacter {
      */
     @Override
     public int attack() {
-        if (stamina < 5) {
-            System.out.printf("%s is too tired to attack!%n", name);
+        if (stamina < ATTACK_STAMINA_COST) {
+            events.emit(GameMessage.WARRIOR_TOO_TIRED, name);
             return 0;
         }
 
-        stamina -= 5;
+        stamina -= ATTACK_STAMINA_COST;
 
         int equipmentBonus = inventory != null ? inventory.getTotalStatBonus() : 0;
-        int damage = baseDamage + equipmentBonus + random.nextInt(5);
+        int damage = baseDamage + equipmentBonus + random.nextInt(ATTACK_DAMAGE_SPREAD);
         
-        System.out.printf("%s attacks for %d damage!%n", name, damage);
+        events.emit(GameMessage.WARRIOR_ATTACK, name, damage);
         return Math.max(1, damage);
     }
 
@@ -56,7 +61,7 @@ public class Warrior extends AbstractCharacter {
         baseDamage += 2;
         maxHealth += 5;
         health = maxHealth;
-        System.out.printf("%s trains with weapons!%n", name);
+        events.emit(GameMessage.WARRIOR_TRAINED, name);
     }
 
     /**
@@ -71,12 +76,12 @@ public class Warrior extends AbstractCharacter {
         }
 
         if (!inventory.getAllItems().contains(item)) {
-            System.out.println("Item not in inventory!");
+            events.emit(GameMessage.ITEM_NOT_IN_INVENTORY, name);
             return;
         }
 
         inventory.equipItem(item);
-        System.out.printf("%s equipped %s!%n", name, item.getName());
+        events.emit(GameMessage.ITEM_EQUIPPED_BY, name, item.getName());
     }
 
     /**
@@ -91,33 +96,46 @@ public class Warrior extends AbstractCharacter {
         }
 
         if (inventory.addItem(item)) {
-            System.out.printf("%s added %s!%n", name, item.getName());
+            events.emit(GameMessage.ITEM_ADDED_BY, name, item.getName());
         }
     }
 
     /**
      * Shows the warrior's inventory
+     * 
+     * @param channel The channel of the player
      */
     @Override
-    public void showInventory() {
+    public void showInventory(SessionChannel channel) {
         if (inventory == null) {
             return;
         }
 
-        System.out.printf("\n=== %s's Equipment ===%n", name);
-        inventory.displayInventory();
+        channel.printf("\n=== %s's Equipment ===%n", name);
+        inventory.displayInventory(channel);
 
         int totalBonus = inventory.getTotalStatBonus();
         if (totalBonus > 0) {
-            System.out.printf("Equipment bonus: +%d damage%n", totalBonus);
+            channel.printf("Equipment bonus: +%d damage%n", totalBonus);
         }
     }
 
+    /**
+     * Gets the warrior's inventory
+     * 
+     * @return The warrior's inventory
+     */
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+
     /**
      * Gets the warrior's stamina recovery rate
      * 
      * @return The stamina recovery rate as a decimal
      */
+    @Override
     public double getStaminaRecoveryRate() {
         return 0.05;
     }
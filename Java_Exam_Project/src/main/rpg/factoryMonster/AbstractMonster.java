@@ -1,11 +1,15 @@
 package rpg.factoryMonster;
 
+import rpg.combat.GameRandom;
 import rpg.iterator.Item;
+import rpg.output.ConsoleEventSink;
+import rpg.output.GameEventSink;
+import rpg.output.GameMessage;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 import rpg.logger.GameLogger;
-import java.util.logging.Logger;
+import java.util.logging.Level;
 
 /**
  * AbstractMonster - Base class for all monsters in the game
@@ -20,7 +24,8 @@ import java.util.logging.Logger;
  */
 public abstract class AbstractMonster {
 
-    private static final Logger logger = GameLogger.getLogger();
+    /** Largest random variation of an attack, as a share of the base damage */
+    public static final double DAMAGE_VARIANCE = 0.2;
 
     // Base statistics common to all monsters
     protected String name;
@@ -30,12 +35,28 @@ public abstract class AbstractMonster {
     protected int baseDamage;
     protected int goldDrop;
 
+    // "Type Name" label used in messages, built once per monster
+    protected String displayName;
+
     // Item drop system
     protected List<Item> possibleDrops;
     protected int dropChance; // Drop probability percentage (0-100)
 
-    // Random number generator for damage variations and drops
-    protected static final Random random = new Random();
+    // Per-monster generator for damage variations and drops (no shared seed between threads)
+    protected RandomGenerator random = GameRandom.create();
+
+    // Destination of the monster's messages (console by default)
+    protected GameEventSink events = ConsoleEventSink.getDefault();
+
+    // Template of a spawned monster (null when built directly), and its own generator
+    private final MonsterTemplate template;
+    private final RandomGenerator ownRandom = random;
+
+    // True while possibleDrops is the template's shared, unmodifiable list
+    private boolean sharedDrops;
+
+    // Compiled drop table, built from possibleDrops and dropChance when null
+    private DropTable dropTable;
 
     /**
      * Protected constructor - only subclasses can create monsters
@@ -62,12 +83,71 @@ public abstract class AbstractMonster {
 
         this.name = name.trim();
         this.type = type.trim();
+        this.displayName = this.type + " " + this.name;
         this.health = health;
         this.maxHealth = health;
         this.baseDamage = baseDamage;
         this.goldDrop = goldDrop;
         this.dropChance = Math.max(0, Math.min(100, dropChance)); // Ensure between 0 and 100
         this.possibleDrops = new ArrayList<>();
+        this.template = null;
+    }
+
+    /**
+     * Protected constructor for monsters spawned from a template
+     * <p>
+     * The template was validated when it was built, so no check is repeated,
+     * and the monster shares the template's drop list.
+     * </p>
+     *
+     * @param template The template of the monster type
+     */
+    protected AbstractMonster(MonsterTemplate template) {
+        this.template = template;
+        this.name = template.getName();
+        this.type = template.getType();
+        this.displayName = this.type + " " + this.name;
+        this.maxHealth = template.getHealth();
+        this.health = maxHealth;
+        this.baseDamage = template.getBaseDamage();
+        this.goldDrop = template.getGoldDrop();
+        this.dropChance = template.getDropChance();
+        this.possibleDrops = template.getDrops();
+        this.sharedDrops = true;
+        this.dropTable = template.getDropTable();
+    }
+
+    /**
+     * Restores a spawned monster to the state of its template
+     * <p>
+     * Used by the {@link MonsterFactory} pool before handing a monster out
+     * again: health, statistics, drops, message sink and generator are all
+     * reset.
+     * </p>
+     */
+    void reset() {
+        if (template == null) {
+            return;
+        }
+        this.maxHealth = template.getHealth();
+        this.health = maxHealth;
+        this.baseDamage = template.getBaseDamage();
+        this.goldDrop = template.getGoldDrop();
+        this.dropChance = template.getDropChance();
+        this.possibleDrops = template.getDrops();
+        this.sharedDrops = true;
+        this.dropTable = template.getDropTable();
+        this.events = ConsoleEventSink.getDefault();
+        this.random = ownRandom;
+    }
+
+    /**
+     * Gets the template the monster was spawned from
+     *
+     * @return The template, or null if the monster was built directly
+     */
+    public MonsterTemplate getTemplate() {
+        return template;
     }
 
     /**
@@ -81,7 +161,7 @@ public abstract class AbstractMonster {
         int damage = calculateDamage();
 
         // Attack message - subclasses can customize it
-        System.out.printf("%s %s attacks for %d damage!%n", type, name, damage);
+        events.emit(GameMessage.MONSTER_ATTACK, displayName, damage);
 
         return damage;
     }
@@ -94,7 +174,7 @@ public abstract class AbstractMonster {
      */
     protected int calculateDamage() {
         // Random variation of ±20% of base damage
-        int variance = (int)(baseDamage * 0.2); // 20% of base damage
+        int variance = (int)(baseDamage * DAMAGE_VARIANCE); // 20% of base damage
         int variation = random.nextInt(variance * 2 + 1) - variance; // From -variance to +variance
 
         return Math.max(1, baseDamage + variation); // At least 1 damage
@@ -107,22 +187,21 @@ public abstract class AbstractMonster {
      */
     public void takeDamage(int damage) {
         if (damage < 0) {
-            logger.warning("Invalid negative damage attempted: " + damage + " on " + type + " " + name);
-            System.out.println("Invalid damage ignored");
+            GameLogger.log(Level.WARNING, "Invalid negative damage attempted: {0} on {1}", damage, displayName);
+            events.emit(GameMessage.MONSTER_INVALID_DAMAGE, displayName);
             return;
         }
 
         int oldHealth = this.health;
         this.health = Math.max(0, this.health - damage);
         
-        logger.info(type + " " + name + " took " + damage + " damage. Health: " + oldHealth + " -> " + health);
+        GameLogger.log(Level.FINE, "{0} took {1} damage. Health: {2} -> {3}", displayName, damage, oldHealth, health);
 
-        System.out.printf("%s %s takes %d damage! Health: %d/%d%n",
-                type, name, damage, health, maxHealth);
+        events.emit(GameMessage.MONSTER_DAMAGED, displayName, damage, health, maxHealth);
 
         if (!isAlive()) {
-            logger.info(type + " " + name + " was defeated");
-            System.out.printf("%s %s has been defeated!%n", type, name);
+            GameLogger.log(Level.INFO, "{0} was defeated", displayName);
+            events.emit(GameMessage.MONSTER_DEFEATED, displayName);
             onDefeat(); // Call defeat method
         }
     }
@@ -147,39 +226,118 @@ public abstract class AbstractMonster {
 
     /**
      * Adds a possible item to the monster's drop list
+     * <p>
+     * The monster's drop table becomes the one of its possible drops and
+     * drop chance (see {@link DropTable#fromDropChance}), replacing any
+     * weighted table it had.
+     * </p>
      *
      * @param item the item to add to the possible drops list
      */
     public void addPossibleDrop(Item item) {
         if (item != null) {
+            if (sharedDrops) {
+                possibleDrops = new ArrayList<>(possibleDrops);
+                sharedDrops = false;
+            }
             possibleDrops.add(item);
+            dropTable = null;
         }
     }
 
+    /**
+     * Sets a weighted drop table
+     * <p>
+     * The possible drops and drop chance are updated to match the table.
+     * </p>
+     *
+     * @param table The drop table
+     * @throws IllegalArgumentException If the table is null
+     */
+    protected void setDropTable(DropTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Drop table cannot be null");
+        }
+        this.possibleDrops = new ArrayList<>(table.getItems());
+        this.sharedDrops = false;
+        this.dropChance = table.getDropChance();
+        this.dropTable = table;
+    }
+
+    /**
+     * Gets the drop table of the monster
+     *
+     * @return The compiled table (shared with the monster's template, if any)
+     */
+    public DropTable getDropTable() {
+        DropTable table = dropTable;
+        if (table == null) {
+            table = DropTable.fromDropChance(possibleDrops, dropChance);
+            dropTable = table;
+        }
+        return table;
+    }
+
     /**
      * Calculates items dropped by the monster when defeated
-     * Uses probability system based on dropChance
+     * Rolls the monster's drop table
      *
      * @return list of actually dropped items
      */
     public List<Item> getDroppedItems() {
+        DropTable table = getDropTable();
         List<Item> actualDrops = new ArrayList<>();
-
-        // If no possible drops, return empty list
-        if (possibleDrops.isEmpty()) {
+        if (table.isEmpty()) {
             return actualDrops;
         }
 
-        // For each possible drop, check if it's actually dropped
-        for (Item item : possibleDrops) {
-            if (random.nextInt(100) < dropChance) {
-                actualDrops.add(item);
-            }
+        Item[] buffer = new Item[table.getRolls()];
+        int dropped = table.roll(random, buffer, 0);
+        for (int i = 0; i < dropped; i++) {
+            actualDrops.add(buffer[i]);
         }
-
         return actualDrops;
     }
 
+    /**
+     * Rolls the items dropped by the monster into a buffer, without allocating
+     *
+     * @param buffer Receives the dropped items; needs room for
+     *               {@code getDropTable().getRolls()} items
+     * @return The number of items written at the start of the buffer
+     * @throws IllegalArgumentException If the buffer is too small
+     */
+    public int rollDrops(Item[] buffer) {
+        return getDropTable().roll(random, buffer, 0);
+    }
+
+    /**
+     * Sets the sink receiving the monster's messages
+     *
+     * @param sink The sink to use, or null to restore console output
+     */
+    public void setEventSink(GameEventSink sink) {
+        this.events = sink != null ? sink : ConsoleEventSink.getDefault();
+    }
+
+    /**
+     * Sets the generator used for the monster's damage and drop rolls
+     *
+     * @param random The generator to use, or null for a fresh unseeded one
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random != null ? random : GameRandom.create();
+    }
+
+    /**
+     * Gets the sink receiving the monster's messages
+     *
+     * @return The current event sink
+     */
+    public GameEventSink getEventSink() {
+        return events;
+    }
+
     // === Getter methods for monster properties ===
 
     /**
@@ -0,0 +1,60 @@
+package rpg.factoryMonster;
+
+import rpg.logger.GameLogger;
+import java.util.logging.Level;
+
+/**
+ * ContentMonster - Monster whose statistics come from a content pack
+ * <p>
+ * Behaves like the built-in monsters, but its name, statistics and drops
+ * are data: one class serves every monster type defined in a pack.
+ * </p>
+ */
+final class ContentMonster extends AbstractMonster {
+
+    /**
+     * Constructor for the prototype of a content pack monster
+     *
+     * @param name The monster name
+     * @param type The monster type
+     * @param health The monster's hit points
+     * @param baseDamage The monster's base damage
+     * @param goldDrop Gold dropped when defeated
+     * @param dropChance Probability of dropping items (0-100)
+     * @throws IllegalArgumentException If any parameters are invalid
+     */
+    ContentMonster(String name, String type, int health, int baseDamage, int goldDrop, int dropChance) {
+        super(name, type, health, baseDamage, goldDrop, dropChance);
+    }
+
+    /**
+     * Constructor for monsters spawned from a template
+     *
+     * @param template The template of the monster type
+     */
+    ContentMonster(MonsterTemplate template) {
+        super(template);
+    }
+
+    /**
+     * Attack implementation
+     *
+     * @return The damage dealt by the attack
+     */
+    @Override
+    public int attack() {
+        int damage = super.attack();
+        GameLogger.log(Level.FINE, "{0} attacks for {1} damage", type, damage);
+        return damage;
+    }
+
+    /**
+     * Returns a string representation of the monster
+     *
+     * @return Formatted string with the monster stats
+     */
+    @Override
+    public String toString() {
+        return type + " [Health: " + health + "/" + maxHealth + ", Damage: " + baseDamage + "]";
+    }
+}
@@ -0,0 +1,436 @@
+package rpg.factoryMonster;
+
+import rpg.iterator.Item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * DropTable - Weighted loot table of a monster type
+ * <p>
+ * Each entry is an item with a weight; an optional "nothing" weight is the
+ * share of rolls that drop no item. A defeated monster rolls the table
+ * {@link #getRolls()} times, and every roll picks one outcome with a
+ * probability proportional to its weight.
+ * </p>
+ * <p>
+ * Monsters with a single, monster-wide drop chance keep their classic
+ * rules: {@link #fromDropChance} builds an independent table, in which
+ * every possible drop is a single-entry table rolled once per kill, so
+ * each item drops on its own, at most once.
+ * </p>
+ * <p>
+ * The table is compiled with the alias method (Vose): one random long
+ * picks a column of a precomputed table (high bits) and chooses between
+ * the column's outcome and its alias (low bits, compared without a branch),
+ * so a roll costs the same for two entries or two hundred.
+ * {@link #roll(RandomGenerator, Item[], int)} writes into a buffer supplied
+ * by the caller and {@link #rollN(RandomGenerator, long, long[])} only
+ * counts, so no roll allocates.
+ * </p>
+ * <p>
+ * Tables are immutable and shared by every monster of a type.
+ * </p>
+ */
+public final class DropTable {
+
+    /** Table that never drops anything */
+    public static final DropTable EMPTY = new Builder().build();
+
+    // Fixed-point scale of the thresholds (31 bits)
+    private static final double ONE = 1L << 31;
+
+    private final Item[] items;
+    private final double[] chances;
+    private final double nothingChance;
+    private final int rolls;
+
+    // Alias table: column c keeps its own outcome when the low 31 bits of the roll are below
+    // threshold[c], else takes alias[c]. outcomes[items.length], if present, is null ("nothing").
+    private final Item[] outcomes;
+    private final long[] threshold;
+    private final int[] alias;
+
+    // Independent table: one single-entry table per possible drop (null for weighted tables)
+    private final DropTable[] independent;
+    private final int dropChance;
+
+    /**
+     * Compiles a table
+     *
+     * @param builder The builder holding the entries
+     */
+    private DropTable(Builder builder) {
+        int size = builder.items.size();
+        this.items = builder.items.toArray(new Item[0]);
+        this.rolls = builder.rolls;
+
+        long total = builder.nothingWeight;
+        for (int weight : builder.weights) {
+            total += weight;
+        }
+
+        // Columns: one per item, plus one for "nothing" if it can happen
+        int columns = builder.nothingWeight > 0 ? size + 1 : size;
+        double[] scaled = new double[columns];
+        this.chances = new double[size];
+        for (int i = 0; i < size; i++) {
+            chances[i] = total == 0 ? 0 : (double) builder.weights.get(i) / total;
+            scaled[i] = chances[i] * columns;
+        }
+        this.nothingChance = total == 0 ? 1 : (double) builder.nothingWeight / total;
+        if (columns > size) {
+            scaled[size] = nothingChance * columns;
+        }
+
+        this.independent = null;
+        this.dropChance = size == 0 ? 0 : (int) Math.round((1.0 - nothingChance) * 100);
+        this.outcomes = Arrays.copyOf(items, columns);
+        this.threshold = new long[columns];
+        this.alias = new int[columns];
+        int[] small = new int[columns];
+        int[] large = new int[columns];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < columns; i++) {
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            threshold[less] = (long) (scaled[less] * ONE);
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is 1 up to rounding errors
+        while (largeCount > 0) {
+            threshold[large[--largeCount]] = (long) ONE;
+        }
+        while (smallCount > 0) {
+            threshold[small[--smallCount]] = (long) ONE;
+        }
+    }
+
+    /**
+     * Creates an independent table
+     *
+     * @param parts The single-entry table of each possible drop
+     * @param dropChance The chance of each item to drop (0-100)
+     */
+    private DropTable(DropTable[] parts, int dropChance) {
+        this.independent = parts;
+        this.dropChance = dropChance;
+        this.rolls = parts.length;
+        this.items = new Item[parts.length];
+        this.chances = new double[parts.length];
+        double none = 1.0;
+        for (int i = 0; i < parts.length; i++) {
+            items[i] = parts[i].items[0];
+            chances[i] = parts[i].chances[0];
+            none *= 1.0 - chances[i];
+        }
+        this.nothingChance = none;
+        this.outcomes = new Item[0];
+        this.threshold = new long[0];
+        this.alias = new int[0];
+    }
+
+    /**
+     * Creates a builder for a table
+     *
+     * @return A new, empty builder rolling once
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates the table of a monster with a single drop chance
+     * <p>
+     * Each possible drop gets its own single-entry table and is rolled
+     * once per kill: every item drops with the given chance, independently
+     * of the others.
+     * </p>
+     *
+     * @param drops The possible drops
+     * @param dropChance The chance of each item to drop (0-100)
+     * @return The table
+     */
+    public static DropTable fromDropChance(List<Item> drops, int dropChance) {
+        int chance = Math.max(0, Math.min(100, dropChance));
+        if (drops.isEmpty() || chance == 0) {
+            return EMPTY;
+        }
+        DropTable[] parts = new DropTable[drops.size()];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = new Builder().add(drops.get(i), chance).nothing(100 - chance).build();
+        }
+        return new DropTable(parts, chance);
+    }
+
+    /**
+     * Rolls the loot of one kill into a buffer
+     *
+     * @param random The generator
+     * @param buffer Receives the dropped items; needs room for {@link #getRolls()} items,
+     *               and the slots after the written items may be set to null
+     * @param offset The first index of the buffer to write
+     * @return The number of items written
+     * @throws IllegalArgumentException If the buffer is too small
+     */
+    public int roll(RandomGenerator random, Item[] buffer, int offset) {
+        if (offset < 0 || buffer.length - offset < rolls) {
+            throw new IllegalArgumentException("Loot buffer needs room for " + rolls + " items");
+        }
+        if (items.length == 0) {
+            return 0;
+        }
+        int written = 0;
+        if (independent != null) {
+            for (DropTable part : independent) {
+                Item item = part.outcomes[part.pick(random)];
+                buffer[offset + written] = item;
+                written += item == null ? 0 : 1;
+            }
+            return written;
+        }
+        for (int i = 0; i < rolls; i++) {
+            Item item = outcomes[pick(random)];
+            buffer[offset + written] = item;
+            written += item == null ? 0 : 1;
+        }
+        return written;
+    }
+
+    /**
+     * Rolls the loot of many kills, counting the drops of each entry
+     *
+     * @param random The generator
+     * @param kills The number of kills
+     * @param counts Incremented at index i for each drop of {@link #getItem(int) entry i};
+     *               needs at least {@link #size()} elements
+     * @return The total number of items dropped
+     * @throws IllegalArgumentException If kills is negative or counts is too small
+     */
+    public long rollN(RandomGenerator random, long kills, long[] counts) {
+        if (kills < 0) {
+            throw new IllegalArgumentException("Number of kills cannot be negative");
+        }
+        if (counts.length < items.length) {
+            throw new IllegalArgumentException("Counts need room for " + items.length + " entries");
+        }
+        if (items.length == 0) {
+            return 0;
+        }
+        if (independent != null) {
+            long dropped = 0;
+            long[] hits = new long[1];
+            for (int i = 0; i < independent.length; i++) {
+                hits[0] = 0;
+                dropped += independent[i].rollN(random, kills, hits);
+                counts[i] += hits[0];
+            }
+            return dropped;
+        }
+        // Tally every outcome, "nothing" included, so the loop has no branch
+        long[] tally = new long[outcomes.length];
+        long draws = kills * rolls;
+        for (long i = 0; i < draws; i++) {
+            tally[pick(random)]++;
+        }
+        long dropped = 0;
+        for (int i = 0; i < items.length; i++) {
+            counts[i] += tally[i];
+            dropped += tally[i];
+        }
+        return dropped;
+    }
+
+    /**
+     * Picks an outcome with one random number
+     *
+     * @param random The generator
+     * @return The index of an outcome: an item, or items.length for "nothing"
+     */
+    private int pick(RandomGenerator random) {
+        long bits = random.nextLong();
+        int column = (int) (((bits >>> 32) * threshold.length) >>> 32);
+        // All ones if the column keeps its own outcome, zero if it takes the alias
+        int keep = (int) (((bits & 0x7FFFFFFFL) - threshold[column]) >> 63);
+        return alias[column] ^ ((column ^ alias[column]) & keep);
+    }
+
+    /**
+     * Gets the number of items in the table
+     *
+     * @return The number of entries
+     */
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * Checks whether the table can drop anything
+     *
+     * @return true if no roll ever drops an item
+     */
+    public boolean isEmpty() {
+        return items.length == 0 || nothingChance >= 1.0;
+    }
+
+    /**
+     * Gets an item of the table
+     *
+     * @param index The entry index
+     * @return The item
+     */
+    public Item getItem(int index) {
+        return items[index];
+    }
+
+    /**
+     * Gets the chance of one roll to drop an entry (of one kill, for an
+     * independent table)
+     *
+     * @param index The entry index
+     * @return The probability (0-1)
+     */
+    public double getChance(int index) {
+        return chances[index];
+    }
+
+    /**
+     * Gets the chance of one roll to drop nothing (of one kill, for an
+     * independent table)
+     *
+     * @return The probability (0-1)
+     */
+    public double getNothingChance() {
+        return nothingChance;
+    }
+
+    /**
+     * Gets the chance of one roll to drop an item (of each item, for an
+     * independent table), as a percentage
+     *
+     * @return The drop chance (0-100)
+     */
+    public int getDropChance() {
+        return dropChance;
+    }
+
+    /**
+     * Checks whether every item is rolled on its own (see {@link #fromDropChance})
+     *
+     * @return true for an independent table, false for a weighted one
+     */
+    public boolean isIndependent() {
+        return independent != null;
+    }
+
+    /**
+     * Gets the number of rolls per kill, which is also the most items a kill drops
+     *
+     * @return The number of rolls
+     */
+    public int getRolls() {
+        return rolls;
+    }
+
+    /**
+     * Gets the items of the table
+     *
+     * @return An unmodifiable list of the entries' items, in entry order
+     */
+    public List<Item> getItems() {
+        return List.of(items);
+    }
+
+    /**
+     * Builder - Collects the entries of a table
+     */
+    public static final class Builder {
+
+        private final List<Item> items = new ArrayList<>();
+        private final List<Integer> weights = new ArrayList<>();
+        private int nothingWeight;
+        private int rolls = 1;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an item
+         *
+         * @param item The item
+         * @param weight The weight of the item
+         * @return The builder, for chaining
+         * @throws IllegalArgumentException If the item is null or the weight negative
+         */
+        public Builder add(Item item, int weight) {
+            if (item == null) {
+                throw new IllegalArgumentException("Drop item cannot be null");
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Drop weight cannot be negative");
+            }
+            items.add(item);
+            weights.add(weight);
+            return this;
+        }
+
+        /**
+         * Sets the weight of rolls that drop nothing
+         *
+         * @param weight The weight (default 0)
+         * @return The builder, for chaining
+         * @throws IllegalArgumentException If the weight is negative
+         */
+        public Builder nothing(int weight) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Drop weight cannot be negative");
+            }
+            this.nothingWeight = weight;
+            return this;
+        }
+
+        /**
+         * Sets the number of rolls per kill
+         *
+         * @param rolls The number of rolls (default 1)
+         * @return The builder, for chaining
+         * @throws IllegalArgumentException If rolls is not positive
+         */
+        public Builder rolls(int rolls) {
+            if (rolls <= 0) {
+                throw new IllegalArgumentException("Drop rolls must be positive");
+            }
+            this.rolls = rolls;
+            return this;
+        }
+
+        /**
+         * Compiles the table
+         *
+         * @return The immutable table
+         * @throws IllegalArgumentException If the table has items but no positive weight
+         */
+        public DropTable build() {
+            if (!items.isEmpty() && nothingWeight == 0 && weights.stream().allMatch(weight -> weight == 0)) {
+                throw new IllegalArgumentException("Drop table needs a positive weight");
+            }
+            return new DropTable(this);
+        }
+    }
+}
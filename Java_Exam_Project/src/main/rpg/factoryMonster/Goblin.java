@@ -3,7 +3,7 @@ package rpg.factoryMonster;
 
 import rpg.iterator.Item;
 import rpg.logger.GameLogger;
-import java.util.logging.Logger;
+import java.util.logging.Level;
 
 /**
  * Goblin - Basic monster of the Goblin Cave
@@ -14,8 +14,9 @@ import java.util.logging.Logger;
  * </p>
  */
 public class Goblin extends AbstractMonster {
-    
-    private static final Logger logger = GameLogger.getLogger();
+
+    // Shared by every goblin (see ItemCatalog)
+    private static final Item HEALTH_POTION = Item.of("Health Potion", Item.ItemType.POTION, 15, 0);
 
     /**
      * Constructor for creating a Goblin
@@ -31,10 +32,19 @@ public class Goblin extends AbstractMonster {
         );
         
         // Add a possible drop
-        addPossibleDrop(new Item("Health Potion", Item.ItemType.POTION, 15, 0));
-        logger.info("Goblin created with " + health + " HP");
+        addPossibleDrop(HEALTH_POTION);
+        GameLogger.log(Level.FINE, "Goblin created with {0} HP", health);
     }
     
+    /**
+     * Constructor for Goblins spawned from a template (see MonsterFactory)
+     *
+     * @param template The Goblin template
+     */
+    Goblin(MonsterTemplate template) {
+        super(template);
+    }
+
     /**
      * Goblin attack implementation
      * 
@@ -43,7 +53,7 @@ public class Goblin extends AbstractMonster {
     @Override
     public int attack() {
         int damage = super.attack();
-        logger.info("Goblin attacks for " + damage + " damage");
+        GameLogger.log(Level.FINE, "Goblin attacks for {0} damage", damage);
         return damage;
     }
     
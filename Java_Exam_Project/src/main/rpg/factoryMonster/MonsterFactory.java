@@ -1,7 +1,12 @@
 package rpg.factoryMonster;
 
+import rpg.content.ContentCatalog;
 import rpg.logger.GameLogger;
 import rpg.rpgSecurity.ExceptionHandler;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 /**
@@ -12,11 +17,30 @@ import java.util.logging.Logger;
  * It encapsulates the instantiation logic and provides a common
  * interface for creating various monster types.
  * </p>
+ * <p>
+ * Each type is described by an immutable {@link MonsterTemplate} built
+ * once: the types of the content packs come from the
+ * {@link ContentCatalog}, and Goblin and Troll are also built in, as a
+ * fallback when no pack defines them. Monsters are spawned from the
+ * template without validation or logging, and a monster handed back with
+ * {@link #release(AbstractMonster)} is kept in a small per-thread pool and
+ * reset the next time a monster of its type is needed, so a busy
+ * simulation reuses the same few objects instead of allocating new ones.
+ * </p>
  */
 public class MonsterFactory {
 
     private static final Logger logger = GameLogger.getLogger();
 
+    // Maximum number of idle monsters kept per type and per thread
+    private static final int POOL_SIZE = 8;
+
+    private static final MonsterTemplate GOBLIN = MonsterTemplate.of(new Goblin(), Goblin::new);
+    private static final MonsterTemplate TROLL = MonsterTemplate.of(new Troll(), Troll::new);
+
+    // Idle monsters of the current thread (no locking, no sharing between threads)
+    private static final ThreadLocal<Pool> pool = ThreadLocal.withInitial(Pool::new);
+
     /**
      * Creates a monster based on the specified type
      * 
@@ -30,25 +54,130 @@ public class MonsterFactory {
         }
 
         try {
-
-            return switch (type.toLowerCase()) {
-                case "goblin" -> {
-                    logger.info("Creating Goblin");
-                    yield new Goblin();
-                }
-                case "troll" -> {
-                    logger.info("Creating Troll");
-                    yield new Troll();
-                }
-                default -> {
-                    logger.warning("Unknown monster type: " + type + ", creating default Goblin");
-                    yield new Goblin();
-                }
-            };
+            MonsterTemplate template = resolve(type);
+            if (template == null) {
+                logger.warning("Unknown monster type: " + type + ", creating default Goblin");
+                template = resolve("goblin");
+            }
+            return spawn(template);
         } catch (Exception e) {
             logger.severe("Error creating monster: " + e.getMessage());
             ExceptionHandler.handleException(e, "Error creating monster.");
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the template of a monster type
+     *
+     * @param type The type of monster (case-insensitive)
+     * @return The template of the type, or null if the type is unknown
+     */
+    public MonsterTemplate getTemplate(String type) {
+        return type == null ? null : resolve(type);
+    }
+
+    /**
+     * Hands a monster back to the factory once its fight is over
+     * <p>
+     * The monster must no longer be used by the caller. Monsters that were
+     * not created by this factory are ignored, and so are monsters beyond
+     * the capacity of the pool and monsters of a template replaced by a
+     * content reload.
+     * </p>
+     *
+     * @param monster The monster to recycle
+     */
+    public void release(AbstractMonster monster) {
+        if (monster == null || monster.getTemplate() == null) {
+            return;
+        }
+        ArrayDeque<AbstractMonster> idle = pool.get().idle().get(monster.getTemplate());
+        if (idle != null && idle.size() < POOL_SIZE && !containsInstance(idle, monster)) {
+            idle.push(monster);
+        }
+    }
+
+    /**
+     * Takes an idle monster from the pool of the current thread, or builds one
+     *
+     * @param template The template of the monster type
+     * @return A monster at full health
+     */
+    private static AbstractMonster spawn(MonsterTemplate template) {
+        AbstractMonster monster = pool.get().idle()
+                .computeIfAbsent(template, key -> new ArrayDeque<>(POOL_SIZE))
+                .poll();
+        if (monster == null) {
+            return template.instantiate();
+        }
+        monster.reset();
+        return monster;
+    }
+
+    /**
+     * Finds the template of a type, in the content catalog first
+     *
+     * @param type The type of monster (case-insensitive)
+     * @return The template, or null if the type is unknown
+     */
+    private static MonsterTemplate resolve(String type) {
+        MonsterTemplate template = ContentCatalog.current().getMonster(type);
+        return template != null ? template : templateOf(type);
+    }
+
+    /**
+     * Matches a type name against the built-in templates without allocating
+     *
+     * @param type The type of monster
+     * @return The template, or null if the type is unknown
+     */
+    private static MonsterTemplate templateOf(String type) {
+        if (type.equalsIgnoreCase("goblin")) {
+            return GOBLIN;
+        }
+        if (type.equalsIgnoreCase("troll")) {
+            return TROLL;
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a monster is already idle (guards against double release)
+     *
+     * @param idle The idle monsters
+     * @param monster The monster
+     * @return true if this very monster is in the pool
+     */
+    private static boolean containsInstance(ArrayDeque<AbstractMonster> idle, AbstractMonster monster) {
+        for (AbstractMonster candidate : idle) {
+            if (candidate == monster) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Pool - Idle monsters of one thread, by template
+     * <p>
+     * A template gets a queue when it is first spawned from. The pool is
+     * emptied when a new content catalog is published, so monsters of
+     * replaced templates are neither handed out nor kept alive.
+     * </p>
+     */
+    private static final class Pool {
+
+        private final Map<MonsterTemplate, ArrayDeque<AbstractMonster>> idle = new IdentityHashMap<>();
+        private ContentCatalog catalog;
+
+        Map<MonsterTemplate, ArrayDeque<AbstractMonster>> idle() {
+            ContentCatalog current = ContentCatalog.current();
+            if (current != catalog) {
+                idle.clear();
+                catalog = current;
+            }
+            return idle;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package rpg.factoryMonster;
+
+import rpg.iterator.Item;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * MonsterTemplate - Immutable statistics of one monster type
+ * <p>
+ * A template is taken once from a prototype built with the monster's
+ * public constructor, so the statistics stay defined in one place (the
+ * Goblin or Troll constructor) and are validated once. Monsters spawned
+ * from the template skip validation and logging, and share its drop list
+ * instead of building their own.
+ * </p>
+ * <p>
+ * Monster types described in a content pack are turned into templates
+ * with {@link #define}, once, when the pack is loaded.
+ * </p>
+ */
+public final class MonsterTemplate {
+
+    private final String name;
+    private final String type;
+    private final int health;
+    private final int baseDamage;
+    private final int goldDrop;
+    private final int dropChance;
+    private final List<Item> drops;
+    private final DropTable dropTable;
+    private final Function<MonsterTemplate, AbstractMonster> constructor;
+
+    /**
+     * Creates a template from a prototype
+     *
+     * @param prototype A freshly built monster of the type
+     * @param constructor Builds a monster of the type from the template
+     */
+    private MonsterTemplate(AbstractMonster prototype, Function<MonsterTemplate, AbstractMonster> constructor) {
+        this.name = prototype.getName();
+        this.type = prototype.getType();
+        this.health = prototype.getMaxHealth();
+        this.baseDamage = prototype.getBaseDamage();
+        this.goldDrop = prototype.getGoldDrop();
+        this.dropChance = prototype.getDropChance();
+        this.drops = List.copyOf(prototype.getPossibleDrops());
+        this.dropTable = prototype.getDropTable();
+        this.constructor = constructor;
+    }
+
+    /**
+     * Creates a template from a prototype
+     *
+     * @param prototype A freshly built monster of the type
+     * @param constructor Builds a monster of the type from the template
+     * @return The template
+     * @throws IllegalArgumentException If an argument is null
+     */
+    static MonsterTemplate of(AbstractMonster prototype, Function<MonsterTemplate, AbstractMonster> constructor) {
+        if (prototype == null || constructor == null) {
+            throw new IllegalArgumentException("Prototype and constructor cannot be null");
+        }
+        return new MonsterTemplate(prototype, constructor);
+    }
+
+    /**
+     * Defines a monster type from data (e.g. a content pack)
+     * <p>
+     * The statistics go through the same validation as a monster built in
+     * code; monsters of the type are {@link ContentMonster}s.
+     * </p>
+     *
+     * @param name The monster name
+     * @param type The monster type
+     * @param health The monster's hit points
+     * @param baseDamage The monster's base damage
+     * @param goldDrop Gold dropped when defeated
+     * @param dropChance Probability of dropping items (0-100)
+     * @param drops The items the monster may drop
+     * @return The template
+     * @throws IllegalArgumentException If any statistic is invalid
+     */
+    public static MonsterTemplate define(String name, String type, int health, int baseDamage, int goldDrop,
+                                         int dropChance, List<Item> drops) {
+        ContentMonster prototype = new ContentMonster(name, type, health, baseDamage, goldDrop, dropChance);
+        for (Item drop : drops) {
+            prototype.addPossibleDrop(drop);
+        }
+        return new MonsterTemplate(prototype, ContentMonster::new);
+    }
+
+    /**
+     * Defines a monster type with a weighted drop table
+     *
+     * @param name The monster name
+     * @param type The monster type
+     * @param health The monster's hit points
+     * @param baseDamage The monster's base damage
+     * @param goldDrop Gold dropped when defeated
+     * @param drops The drop table
+     * @return The template
+     * @throws IllegalArgumentException If any statistic is invalid or the table is null
+     */
+    public static MonsterTemplate define(String name, String type, int health, int baseDamage, int goldDrop,
+                                         DropTable drops) {
+        if (drops == null) {
+            throw new IllegalArgumentException("Drop table cannot be null");
+        }
+        ContentMonster prototype = new ContentMonster(name, type, health, baseDamage, goldDrop, drops.getDropChance());
+        prototype.setDropTable(drops);
+        return new MonsterTemplate(prototype, ContentMonster::new);
+    }
+
+    /**
+     * Builds a new monster from this template
+     *
+     * @return A monster at full health
+     */
+    AbstractMonster instantiate() {
+        return constructor.apply(this);
+    }
+
+    /**
+     * Gets the monster name
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the monster type
+     *
+     * @return The type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Gets the full health of the monster
+     *
+     * @return The maximum health
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Gets the base damage of the monster
+     *
+     * @return The base damage
+     */
+    public int getBaseDamage() {
+        return baseDamage;
+    }
+
+    /**
+     * Gets the gold dropped when the monster is defeated
+     *
+     * @return The gold drop
+     */
+    public int getGoldDrop() {
+        return goldDrop;
+    }
+
+    /**
+     * Gets the drop chance percentage
+     *
+     * @return The drop chance (0-100)
+     */
+    public int getDropChance() {
+        return dropChance;
+    }
+
+    /**
+     * Gets the items the monster may drop
+     *
+     * @return An unmodifiable list of the possible drops
+     */
+    public List<Item> getDrops() {
+        return drops;
+    }
+
+    /**
+     * Gets the compiled drop table, shared by every monster of the type
+     *
+     * @return The drop table
+     */
+    public DropTable getDropTable() {
+        return dropTable;
+    }
+}
@@ -2,7 +2,7 @@ package rpg.factoryMonster;
 
 import rpg.iterator.Item;
 import rpg.logger.GameLogger;
-import java.util.logging.Logger;
+import java.util.logging.Level;
 
 /**
  * Troll - Monster of the Swamp of Trolls
@@ -13,8 +13,10 @@ import java.util.logging.Logger;
  * </p>
  */
 public class Troll extends AbstractMonster {
-    
-    private static final Logger logger = GameLogger.getLogger();
+
+    // Shared by every troll (see ItemCatalog)
+    private static final Item LARGE_HEALTH_POTION = Item.of("Large Health Potion", Item.ItemType.POTION, 30, 0);
+    private static final Item CLUB = Item.of("Club", Item.ItemType.WEAPON, 50, 3);
 
     /**
      * Constructor for creating a Troll
@@ -30,11 +32,20 @@ public class Troll extends AbstractMonster {
         );
 
         // Add possible drops
-        addPossibleDrop(new Item("Large Health Potion", Item.ItemType.POTION, 30, 0));
-        addPossibleDrop(new Item("Club", Item.ItemType.WEAPON, 50, 3));
-        logger.info("Troll created with " + health + " HP");
+        addPossibleDrop(LARGE_HEALTH_POTION);
+        addPossibleDrop(CLUB);
+        GameLogger.log(Level.FINE, "Troll created with {0} HP", health);
     }
     
+    /**
+     * Constructor for Trolls spawned from a template (see MonsterFactory)
+     *
+     * @param template The Troll template
+     */
+    Troll(MonsterTemplate template) {
+        super(template);
+    }
+
     /**
      * Troll attack implementation
      * 
@@ -43,7 +54,7 @@ public class Troll extends AbstractMonster {
     @Override
     public int attack() {
         int damage = super.attack();
-        logger.info("Troll attacks for " + damage + " damage");
+        GameLogger.log(Level.FINE, "Troll attacks for {0} damage", damage);
         return damage;
     }
     
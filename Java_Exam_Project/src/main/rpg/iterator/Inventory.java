@@ -1,5 +1,10 @@
 package rpg.iterator;
 
+import rpg.output.ConsoleEventSink;
+import rpg.output.GameEventSink;
+import rpg.output.GameMessage;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
 import rpg.strategy.InventorySortStrategy;
 
 import java.util.*;
@@ -24,11 +29,18 @@ public class Inventory implements Iterable<Item> {
     // Using ArrayList for the main storage (Collections requirement)
     private final List<Item> items;
 
-    // Using HashMap for equipped items (Collections requirement)
+    // One slot per item type: EnumMap is an array indexed by ordinal
     private final Map<Item.ItemType, Item> equippedItems;
 
+    // Aggregates kept up to date on every change, read on every attack
+    private int totalValue;
+    private int totalStatBonus;
+
     private final int maxCapacity;
 
+    // Destination of inventory messages (console by default)
+    private GameEventSink events = ConsoleEventSink.getDefault();
+
     /**
      * Constructor with configurable capacity
      *
@@ -38,7 +50,7 @@ public class Inventory implements Iterable<Item> {
         // We ignore the maxCapacity parameter as there's no longer a limit. It will be implemented in the future.
         this.maxCapacity = Integer.MAX_VALUE; // Set to a very high value
         this.items = new ArrayList<>();
-        this.equippedItems = new HashMap<>();
+        this.equippedItems = new EnumMap<>(Item.ItemType.class);
     }
 
 
@@ -57,10 +69,20 @@ public class Inventory implements Iterable<Item> {
 
         // Capacity check removed as inventory is no longer limited
         items.add(item);
-        System.out.println("Added " + item.getName() + " to inventory");
+        totalValue += item.getValue();
+        events.emit(GameMessage.INVENTORY_ADDED, null, item.getName());
         return true;
     }
 
+    /**
+     * Sets the sink receiving inventory messages
+     *
+     * @param sink The sink to use, or null to restore console output
+     */
+    public void setEventSink(GameEventSink sink) {
+        this.events = sink != null ? sink : ConsoleEventSink.getDefault();
+    }
+
     /**
      * Equips an item (for weapons and armor)
      * 
@@ -73,24 +95,80 @@ public class Inventory implements Iterable<Item> {
         }
 
         if (!items.contains(item)) {
-            System.out.println("Item not in inventory!");
+            events.emit(GameMessage.ITEM_NOT_IN_INVENTORY, null);
             return false;
         }
 
         // Unequip current item of same type if any
         Item currentEquipped = equippedItems.get(item.getType());
         if (currentEquipped != null) {
-            System.out.println("Unequipping " + currentEquipped.getName());
+            totalStatBonus -= currentEquipped.getStatBonus();
+            events.emit(GameMessage.INVENTORY_UNEQUIPPED, null, currentEquipped.getName());
         }
 
         equippedItems.put(item.getType(), item);
-        System.out.println("Equipped " + item.getName());
+        totalStatBonus += item.getStatBonus();
+        events.emit(GameMessage.INVENTORY_EQUIPPED, null, item.getName());
         return true;
     }
 
+    /**
+     * Replaces the inventory contents with saved items
+     * <p>
+     * Used when a character is loaded: no messages are emitted and no
+     * capacity or ownership checks are repeated. Equipped items that are
+     * not equippable are ignored; an equipped item missing from the item
+     * list is added to it.
+     * </p>
+     *
+     * @param savedItems The items, in inventory order
+     * @param savedEquipped The equipped items
+     * @throws IllegalArgumentException if a collection or an item is null
+     */
+    public void restore(List<Item> savedItems, Collection<Item> savedEquipped) {
+        if (savedItems == null || savedEquipped == null) {
+            throw new IllegalArgumentException("Saved items cannot be null");
+        }
+        if (savedItems.contains(null) || savedEquipped.contains(null)) {
+            throw new IllegalArgumentException("Cannot restore null item to inventory");
+        }
+
+        items.clear();
+        equippedItems.clear();
+        items.addAll(savedItems);
+
+        for (Item item : savedEquipped) {
+            if (!item.isEquippable()) {
+                continue;
+            }
+            if (!items.contains(item)) {
+                items.add(item);
+            }
+            equippedItems.put(item.getType(), item);
+        }
+
+        totalValue = 0;
+        for (Item item : items) {
+            totalValue += item.getValue();
+        }
+        totalStatBonus = 0;
+        for (Item item : equippedItems.values()) {
+            totalStatBonus += item.getStatBonus();
+        }
+    }
+
+    /**
+     * Gets a read-only view of the equipped items
+     *
+     * @return An unmodifiable collection of the equipped items
+     */
+    public Collection<Item> getEquippedItems() {
+        return Collections.unmodifiableCollection(equippedItems.values());
+    }
+
     /**
      * Checks if an item is currently equipped
-     * 
+     *
      * @param item The item to check
      * @return true if the item is equipped, false otherwise
      */
@@ -100,25 +178,29 @@ public class Inventory implements Iterable<Item> {
 
 
     /**
-     * Calculates total value of all items
+     * Gets total value of all items
+     * <p>
+     * The total is maintained as items are added and removed, so this
+     * is a field read.
+     * </p>
      * 
      * @return The total gold value of all items in the inventory
      */
     public int getTotalValue() {
-        return items.stream()
-                .mapToInt(Item::getValue)
-                .sum();
+        return totalValue;
     }
 
     /**
      * Gets total stat bonus from equipped items
+     * <p>
+     * Called on every attack; the total is maintained as items are
+     * equipped, so this is a field read.
+     * </p>
      * 
      * @return The total stat bonus from all equipped items
      */
     public int getTotalStatBonus() {
-        return equippedItems.values().stream()
-                .mapToInt(Item::getStatBonus)
-                .sum();
+        return totalStatBonus;
     }
 
 
@@ -179,24 +261,33 @@ public class Inventory implements Iterable<Item> {
             if (currentIndex <= 0) {
                 throw new IllegalStateException("Cannot remove before calling next()");
             }
-            items.remove(--currentIndex);
+            totalValue -= items.remove(--currentIndex).getValue();
         }
     }
 
+    /**
+     * Displays inventory contents to the player of the current session
+     */
+    public void displayInventory() {
+        displayInventory(GameSession.current().getChannel());
+    }
+
     /**
      * Displays inventory contents
      * <p>
-     * Prints a formatted representation of the inventory to the console,
-     * including all items grouped by type and their equipped status.
+     * Prints a formatted representation of the inventory on the player's
+     * channel, including all items grouped by type and their equipped status.
      * </p>
+     * 
+     * @param channel The channel of the player
      */
-    public void displayInventory() {
-        System.out.println("\n=== INVENTORY ===");
-        System.out.println("Total items: " + items.size());
-        System.out.println("Total value: " + getTotalValue() + " gold");
+    public void displayInventory(SessionChannel channel) {
+        channel.println("\n=== INVENTORY ===");
+        channel.println("Total items: " + items.size());
+        channel.println("Total value: " + getTotalValue() + " gold");
 
         if (items.isEmpty()) {
-            System.out.println("Inventory is empty");
+            channel.println("Inventory is empty");
             return;
         }
 
@@ -207,10 +298,10 @@ public class Inventory implements Iterable<Item> {
         for (Item.ItemType type : Item.ItemType.values()) {
             List<Item> typeItems = itemsByType.get(type);
             if (typeItems != null && !typeItems.isEmpty()) {
-                System.out.println("\n" + type.getDisplayName() + "s:");
+                channel.println("\n" + type.getDisplayName() + "s:");
                 for (Item item : typeItems) {
                     String equipped = isEquipped(item) ? " [EQUIPPED]" : "";
-                    System.out.println("  - " + item + equipped);
+                    channel.println("  - " + item + equipped);
                 }
             }
         }
@@ -15,8 +15,16 @@ import java.util.NoSuchElementException;
  * The class also defines an inner enum for item types and provides
  * a self-iterator implementation.
  * </p>
+ * <p>
+ * Items are flyweights: {@link #of(String, ItemType, int, int)} returns
+ * the one shared instance of each definition from the {@link ItemCatalog},
+ * which is the only place items are created. Two equal items are the same
+ * object, and every item carries the integer id of its definition, so
+ * hashing never looks at the name.
+ * </p>
  */
 public class Item implements Iterable<Item> {
+    private final int id;
     private final String name;
     private final ItemType type;
     private final int value;
@@ -69,20 +77,44 @@ public class Item implements Iterable<Item> {
     }
 
     /**
-     * Constructor for creating a new item
+     * Constructor used by the {@link ItemCatalog} for canonical items
      * 
+     * @param id The id of the item definition
      * @param name The name of the item
      * @param type The type of the item
      * @param value The gold value of the item
      * @param statBonus The stat bonus provided by the item
      */
-    public Item(String name, ItemType type, int value, int statBonus) {
+    Item(int id, String name, ItemType type, int value, int statBonus) {
+        this.id = id;
         this.name = name;
         this.type = type;
         this.value = value;
         this.statBonus = statBonus;
     }
 
+    /**
+     * Gets the shared item of a definition
+     * 
+     * @param name The name of the item
+     * @param type The type of the item
+     * @param value The gold value of the item
+     * @param statBonus The stat bonus provided by the item
+     * @return The canonical item from the {@link ItemCatalog}
+     */
+    public static Item of(String name, ItemType type, int value, int statBonus) {
+        return ItemCatalog.intern(name, type, value, statBonus);
+    }
+
+    /**
+     * Gets the id of the item definition
+     * 
+     * @return The compact id assigned by the {@link ItemCatalog}
+     */
+    public int getId() {
+        return id;
+    }
+
     /**
      * Gets the item's name
      * 
@@ -142,6 +174,11 @@ public class Item implements Iterable<Item> {
 
     /**
      * Compares this item with another object for equality
+     * <p>
+     * Two items are equal when they have the same definition (name, type,
+     * value and stat bonus), i.e. the same catalog id. Shared items are
+     * only equal to themselves.
+     * </p>
      * 
      * @param obj The object to compare with
      * @return true if the objects are equal, false otherwise
@@ -151,20 +188,17 @@ public class Item implements Iterable<Item> {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
 
-        Item item = (Item) obj;
-        return name.equals(item.name) && type == item.type;
+        return id == ((Item) obj).id;
     }
 
     /**
      * Generates a hash code for the item
      * 
-     * @return The hash code value
+     * @return The catalog id of the item
      */
     @Override
     public int hashCode() {
-        int result = name.hashCode();
-        result = 31 * result + type.hashCode();
-        return result;
+        return id;
     }
     
     /**
@@ -0,0 +1,141 @@
+package rpg.iterator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ItemCatalog - Flyweight registry of item definitions
+ * <p>
+ * Every distinct item definition (name, type, value and stat bonus) is
+ * interned once and given a compact integer id, in order of first use.
+ * {@link #intern(String, Item.ItemType, int, int)} always returns the same
+ * {@link Item} for the same definition, so an inventory holding a thousand
+ * health potions holds a thousand references to one object, and comparing
+ * or hashing items is an integer operation.
+ * </p>
+ * <p>
+ * Lookups of known definitions take no lock and allocate nothing: the
+ * items are grouped by name, and the few variants of a name are compared
+ * field by field. New definitions are appended to a growable array under
+ * a lock, so registering n definitions costs O(n) overall.
+ * </p>
+ * <p>
+ * Retention: definitions are immutable and are never removed or
+ * renumbered, because ids and shared instances must stay valid for every
+ * inventory and save that refers to them. The catalog therefore holds one
+ * small object per distinct definition seen by the process. Loading the
+ * same save again, or reloading a content pack whose items did not change,
+ * adds nothing; only definitions that never appeared before (a new item in
+ * a save or a content pack) make it grow.
+ * </p>
+ */
+public final class ItemCatalog {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Canonical items of each name: usually one, a few if stats differ between saves or packs
+    private static final Map<String, Item[]> byName = new ConcurrentHashMap<>();
+
+    // Items by id; replaced by a larger copy when full. Written under the class lock only,
+    // and size is written after the slot, so readers see every item below size.
+    private static volatile Item[] byId = new Item[INITIAL_CAPACITY];
+    private static volatile int size;
+
+    private ItemCatalog() {
+    }
+
+    /**
+     * Gets the canonical item for a definition, registering it on first use
+     *
+     * @param name The name of the item
+     * @param type The type of the item
+     * @param value The gold value of the item
+     * @param statBonus The stat bonus provided by the item
+     * @return The shared item
+     * @throws IllegalArgumentException If the name or type is null
+     */
+    public static Item intern(String name, Item.ItemType type, int value, int statBonus) {
+        if (name == null || type == null) {
+            throw new IllegalArgumentException("Item name and type cannot be null");
+        }
+        Item item = find(byName.get(name), type, value, statBonus);
+        return item != null ? item : register(name, type, value, statBonus);
+    }
+
+    /**
+     * Finds the variant of a name with the given stats
+     *
+     * @param variants The canonical items of the name, or null
+     * @param type The type of the item
+     * @param value The gold value of the item
+     * @param statBonus The stat bonus provided by the item
+     * @return The matching item, or null
+     */
+    private static Item find(Item[] variants, Item.ItemType type, int value, int statBonus) {
+        if (variants != null) {
+            for (Item item : variants) {
+                if (item.getType() == type && item.getValue() == value && item.getStatBonus() == statBonus) {
+                    return item;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a definition under the next id, unless another thread just did
+     *
+     * @param name The name of the item
+     * @param type The type of the item
+     * @param value The gold value of the item
+     * @param statBonus The stat bonus provided by the item
+     * @return The canonical item of the definition
+     */
+    private static synchronized Item register(String name, Item.ItemType type, int value, int statBonus) {
+        Item[] variants = byName.get(name);
+        Item item = find(variants, type, value, statBonus);
+        if (item != null) {
+            return item;
+        }
+
+        int id = size;
+        Item[] items = byId;
+        if (id == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+            byId = items;
+        }
+        item = new Item(id, name, type, value, statBonus);
+        items[id] = item;
+        size = id + 1;
+
+        Item[] grown = variants == null ? new Item[1] : Arrays.copyOf(variants, variants.length + 1);
+        grown[grown.length - 1] = item;
+        byName.put(name, grown);
+        return item;
+    }
+
+    /**
+     * Gets the canonical item with an id
+     *
+     * @param id The item id
+     * @return The item
+     * @throws IllegalArgumentException If no item has this id
+     */
+    public static Item get(int id) {
+        // Read size first: any array read afterwards holds every item below it
+        if (id < 0 || id >= size) {
+            throw new IllegalArgumentException("Unknown item id: " + id);
+        }
+        return byId[id];
+    }
+
+    /**
+     * Gets the number of item definitions registered so far
+     *
+     * @return The catalog size
+     */
+    public static int size() {
+        return size;
+    }
+}
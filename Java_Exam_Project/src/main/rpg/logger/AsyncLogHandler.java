@@ -0,0 +1,256 @@
+package rpg.logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * AsyncLogHandler - Hands log records off to a background writer thread
+ * <p>
+ * Game threads only place the record in a bounded ring buffer and return;
+ * formatting and console I/O happen on a single daemon writer thread that
+ * forwards each record to a delegate handler. The ring buffer is lock-free
+ * (a sequence number per slot, claimed with a CAS on the tail), so producers
+ * never block each other nor wait for the writer.
+ * </p>
+ * <p>
+ * When the buffer is full the record is dropped and counted rather than
+ * stalling the game; {@link #getDroppedCount()} exposes the counter.
+ * Source class and method are not inferred, because that requires walking
+ * the caller's stack: records show the logger name instead.
+ * </p>
+ */
+public final class AsyncLogHandler extends Handler {
+
+    // Writer sleeps this long when the buffer is empty
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    // Flushing threads recheck this often, in case the writer died
+    private static final long FLUSH_WAIT_MILLIS = 10;
+
+    private final Handler delegate;
+    private final int mask;
+    private final AtomicReferenceArray<LogRecord> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+
+    // Threads in flush() wait on this monitor; the writer only locks it when someone waits
+    private final Object progress = new Object();
+    private final AtomicInteger flushWaiters = new AtomicInteger();
+
+    // Only advanced by the writer thread, read by flush() and metrics
+    private volatile long head;
+    private volatile boolean running = true;
+
+    /**
+     * Creates an async handler and starts its writer thread
+     *
+     * @param delegate The handler that formats and writes the records
+     * @param capacity The ring buffer size, rounded up to a power of two
+     * @throws IllegalArgumentException If delegate is null or capacity is not positive
+     */
+    public AsyncLogHandler(Handler delegate, int capacity) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate handler cannot be null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.delegate = delegate;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        setLevel(delegate.getLevel());
+
+        this.writer = new Thread(this::drainLoop, "rpg-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Queues a record for the writer thread
+     *
+     * @param record The record to publish
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null || !running || !isLoggable(record)) {
+            return;
+        }
+
+        // Skip the stack walk: the writer thread cannot see the caller anyway
+        record.setSourceClassName(null);
+
+        if (!offer(record)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Claims a slot in the ring buffer and stores the record
+     *
+     * @param record The record to store
+     * @return true if the record was queued, false if the buffer was full
+     */
+    private boolean offer(LogRecord record) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long sequence = sequences.get(index);
+            long difference = sequence - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, record);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            // Another producer claimed this slot first: retry with the new tail
+        }
+    }
+
+    /**
+     * Takes the next record from the ring buffer (writer thread only)
+     *
+     * @return The next record, or null if the buffer is empty
+     */
+    private LogRecord poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+
+        LogRecord record = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, position + mask + 1);
+        head = position + 1;
+        return record;
+    }
+
+    /**
+     * Writer thread body: forwards records until the handler is closed
+     */
+    private void drainLoop() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        drain();
+        delegate.flush();
+    }
+
+    /**
+     * Forwards every queued record to the delegate
+     *
+     * @return The number of records forwarded
+     */
+    private int drain() {
+        int count = 0;
+        LogRecord record;
+        while ((record = poll()) != null) {
+            try {
+                delegate.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Async log delegate failed", e, ErrorManager.WRITE_FAILURE);
+            }
+            count++;
+        }
+        if (count > 0) {
+            delegate.flush();
+            signalProgress();
+        }
+        return count;
+    }
+
+    /**
+     * Wakes the threads waiting in {@link #flush()} (writer thread only)
+     */
+    private void signalProgress() {
+        if (flushWaiters.get() > 0) {
+            synchronized (progress) {
+                progress.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of records waiting for the writer thread
+     *
+     * @return The current queue depth
+     */
+    public int getQueueDepth() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Gets the number of records dropped because the buffer was full
+     *
+     * @return The dropped record count
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Waits until the writer has forwarded every record queued so far
+     */
+    @Override
+    public void flush() {
+        long target = tail.get();
+        if (head < target) {
+            flushWaiters.incrementAndGet();
+            try {
+                LockSupport.unpark(writer);
+                synchronized (progress) {
+                    while (running && writer.isAlive() && head < target) {
+                        progress.wait(FLUSH_WAIT_MILLIS);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                flushWaiters.decrementAndGet();
+            }
+        }
+        delegate.flush();
+    }
+
+    /**
+     * Stops the writer after draining the buffer, then closes the delegate
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+}
@@ -1,7 +1,10 @@
 package rpg.logger;
 
+import java.util.function.Supplier;
 import java.util.logging.ConsoleHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -19,15 +22,30 @@ import java.util.logging.SimpleFormatter;
  * This prevents logging issues from causing application failures.
  * </p>
  * <p>
+ * Configuration is read from system properties:
+ * <ul>
+ *   <li>{@code game.log.level} - minimum level to log (default ALL)</li>
+ *   <li>{@code game.log.async} - hand records to a background writer thread (default false)</li>
+ *   <li>{@code game.log.buffer} - async ring buffer size (default 8192)</li>
+ * </ul>
+ * </p>
+ * <p>
  * Usage example:
  * <pre>
  * private static final Logger logger = GameLogger.getLogger();
  * logger.info("Game component initialized");
+ * GameLogger.log(Level.FINE, "{0} took {1} damage", name, damage);
  * </pre>
  * </p>
  */
 public class GameLogger {
 
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+
+    // Set when records are handed to the background writer
+    private static volatile boolean async;
+
     private static final Logger logger = createLogger();
 
     /**
@@ -47,7 +65,7 @@ public class GameLogger {
      * handlers and formatters. It includes error handling to ensure that
      * even if the configuration fails, a working logger is returned.
      * </p>
-     * 
+     *
      * @return Configured logger instance
      */
     private static Logger createLogger() {
@@ -56,12 +74,18 @@ public class GameLogger {
         try {
             gameLogger.setUseParentHandlers(false);
 
+            Level level = parseLevel(System.getProperty("game.log.level", "ALL"));
+
             ConsoleHandler handler = new ConsoleHandler();
-            handler.setLevel(Level.ALL);
+            handler.setLevel(level);
             handler.setFormatter(new SimpleFormatter());
 
-            gameLogger.addHandler(handler);
-            gameLogger.setLevel(Level.ALL);
+            if (Boolean.getBoolean("game.log.async")) {
+                gameLogger.addHandler(createAsyncHandler(handler));
+            } else {
+                gameLogger.addHandler(handler);
+            }
+            gameLogger.setLevel(level);
 
         } catch (Exception e) {
             // Fallback: if handler setup fails, still return working logger
@@ -71,16 +95,188 @@ public class GameLogger {
         return gameLogger;
     }
 
+    /**
+     * Wraps a handler in an async handler flushed at JVM shutdown
+     *
+     * @param delegate The handler doing the actual output
+     * @return The async handler
+     */
+    private static AsyncLogHandler createAsyncHandler(Handler delegate) {
+        int capacity = Integer.getInteger("game.log.buffer", DEFAULT_BUFFER_SIZE);
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(delegate, capacity);
+        async = true;
+        Runtime.getRuntime().addShutdownHook(new Thread(asyncHandler::close, "rpg-log-shutdown"));
+        return asyncHandler;
+    }
+
+    /**
+     * Parses a level name, falling back to ALL
+     *
+     * @param name The level name (e.g. "INFO", "FINE")
+     * @return The parsed level
+     */
+    private static Level parseLevel(String name) {
+        try {
+            return Level.parse(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Warning: unknown log level " + name + ", using ALL");
+            return Level.ALL;
+        }
+    }
+
     /**
      * Gets the singleton logger instance
      * <p>
      * This method provides access to the centralized logger instance
      * that should be used throughout the application for all logging needs.
      * </p>
-     * 
+     *
      * @return Logger instance configured for the game
      */
     public static Logger getLogger() {
         return logger;
     }
-}
\ No newline at end of file
+
+    /**
+     * Switches the game logger to asynchronous output
+     * <p>
+     * Every synchronous handler is wrapped in an {@link AsyncLogHandler};
+     * calling this method twice has no further effect.
+     * </p>
+     */
+    public static synchronized void enableAsync() {
+        for (Handler handler : logger.getHandlers()) {
+            if (!(handler instanceof AsyncLogHandler)) {
+                logger.removeHandler(handler);
+                logger.addHandler(createAsyncHandler(handler));
+            }
+        }
+    }
+
+    /**
+     * Gets the async handler, if asynchronous output is enabled
+     *
+     * @return The async handler, or null when logging is synchronous
+     */
+    public static AsyncLogHandler getAsyncHandler() {
+        for (Handler handler : logger.getHandlers()) {
+            if (handler instanceof AsyncLogHandler asyncHandler) {
+                return asyncHandler;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a message at the given level would be logged
+     * <p>
+     * Use it to guard expensive log statements on hot paths.
+     * </p>
+     *
+     * @param level The level to check
+     * @return true if the level is enabled
+     */
+    public static boolean isLoggable(Level level) {
+        return logger.isLoggable(level);
+    }
+
+    /**
+     * Logs a message built only if the level is enabled
+     *
+     * @param level The message level
+     * @param message Supplier of the message text
+     */
+    public static void log(Level level, Supplier<String> message) {
+        if (logger.isLoggable(level)) {
+            publish(level, message.get(), null);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with one argument
+     * <p>
+     * The pattern uses {@link java.text.MessageFormat} placeholders
+     * ({@code {0}}); it is only formatted by the handler, so nothing is
+     * built when the level is disabled.
+     * </p>
+     *
+     * @param level The message level
+     * @param pattern The message pattern
+     * @param arg0 The first argument
+     */
+    public static void log(Level level, String pattern, Object arg0) {
+        if (logger.isLoggable(level)) {
+            publish(level, pattern, new Object[] {arg0});
+        }
+    }
+
+    /**
+     * Logs a parameterized message with two arguments
+     *
+     * @param level The message level
+     * @param pattern The message pattern
+     * @param arg0 The first argument
+     * @param arg1 The second argument
+     */
+    public static void log(Level level, String pattern, Object arg0, Object arg1) {
+        if (logger.isLoggable(level)) {
+            publish(level, pattern, new Object[] {arg0, arg1});
+        }
+    }
+
+    /**
+     * Logs a parameterized message with three arguments
+     *
+     * @param level The message level
+     * @param pattern The message pattern
+     * @param arg0 The first argument
+     * @param arg1 The second argument
+     * @param arg2 The third argument
+     */
+    public static void log(Level level, String pattern, Object arg0, Object arg1, Object arg2) {
+        if (logger.isLoggable(level)) {
+            publish(level, pattern, new Object[] {arg0, arg1, arg2});
+        }
+    }
+
+    /**
+     * Logs a parameterized message with four arguments
+     *
+     * @param level The message level
+     * @param pattern The message pattern
+     * @param arg0 The first argument
+     * @param arg1 The second argument
+     * @param arg2 The third argument
+     * @param arg3 The fourth argument
+     */
+    public static void log(Level level, String pattern, Object arg0, Object arg1, Object arg2, Object arg3) {
+        if (logger.isLoggable(level)) {
+            publish(level, pattern, new Object[] {arg0, arg1, arg2, arg3});
+        }
+    }
+
+    /**
+     * Publishes a parameterized record on the game logger
+     *
+     * @param level The message level
+     * @param pattern The message pattern
+     * @param params The pattern arguments, or null for a plain message
+     */
+    private static void publish(Level level, String pattern, Object[] params) {
+        LogRecord record = new LogRecord(level, pattern);
+        record.setLoggerName(logger.getName());
+        record.setParameters(params);
+
+        // Synchronous handlers print the source: report the caller, not this helper
+        if (!async) {
+            stackWalker.walk(frames -> frames
+                    .filter(frame -> !frame.getClassName().equals(GameLogger.class.getName()))
+                    .findFirst())
+                    .ifPresent(frame -> {
+                        record.setSourceClassName(frame.getClassName());
+                        record.setSourceMethodName(frame.getMethodName());
+                    });
+        }
+        logger.log(record);
+    }
+}
@@ -2,13 +2,20 @@ package rpg.menu;
 
 import rpg.composite.GameMenu;
 import rpg.composite.MenuItem;
+import rpg.composite.Navigation;
 import rpg.factory.Character;
+import rpg.rpgIO.AutosaveService;
 import rpg.rpgIO.CharacterManagement;
 import rpg.rpgSecurity.InputValidator;
 import rpg.logger.GameLogger;
+import rpg.observer.GameEvent;
+import rpg.observer.GameEventBus;
+import rpg.observer.StaminaRecoverySystem;
 
 import rpg.rpgSecurity.ExceptionHandler;
-import java.util.Scanner;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
+import rpg.server.SessionClosedException;
 import java.util.logging.Logger;
 
 /**
@@ -26,7 +33,6 @@ import java.util.logging.Logger;
  */
 public class CharacterMenu {
     private static final Logger logger = GameLogger.getLogger();
-    private static final Scanner scanner = new Scanner(System.in);
 
     /**
      * Shows character menu
@@ -37,50 +43,57 @@ public class CharacterMenu {
      * </p>
      * 
      * @param character The character for which to show the menu
-     * @throws ReturnToMainMenuException if the user chooses to return to the main menu
+     * @param channel The channel of the player
+     * @return {@link Navigation#TO_ROOT} when the player leaves for the main menu,
+     *         {@link Navigation#STAY} if the menu could not be shown
      */
-    public static void showCharacterMenu(Character character) {
+    public static Navigation showCharacterMenu(Character character, SessionChannel channel) {
         if (character == null) {
             logger.warning("Cannot show character menu: null character");
-            return;
+            return Navigation.STAY;
         }
 
         if (!character.isAlive()) {
             logger.warning("Character is dead, returning to main menu: " + character.getName());
-            System.out.println("Il tuo personaggio è morto! Ritorno al menu principale.");
-            throw new ReturnToMainMenuException();
+            channel.println("Il tuo personaggio è morto! Ritorno al menu principale.");
+            return Navigation.TO_ROOT;
         }
 
         try {
-            GameMenu characterMenu = buildCharacterMenu(character);
-            characterMenu.execute();
-        } catch (ReturnToMainMenuException e) {
+            StaminaRecoverySystem.regenerate(character);
+            return MenuRegistry.execute(MenuRegistry.CHARACTER, character, channel);
+        } catch (SessionClosedException e) {
             throw e;
         } catch (Exception e) {
             logger.severe("Error in character menu: " + e.getMessage());
-            ExceptionHandler.handleException(e, "Errore nel menu personaggio.");
+            ExceptionHandler.handleException(e, "Errore nel menu personaggio.", channel);
+            return Navigation.STAY;
         }
     }
 
     /**
      * Builds character menu
      * <p>
-     * Creates a GameMenu instance with options specific to the character,
-     * including training, resting, inventory access, dungeon exploration,
-     * saving, and returning to the main menu.
+     * Creates a GameMenu instance with options for a character, including
+     * training, resting, inventory access, dungeon exploration, saving, and
+     * returning to the main menu. The menu is built once and shared (see
+     * {@link MenuRegistry}): its actions work on the character bound to the
+     * session.
      * </p>
      * 
-     * @param character The character for which to build the menu
-     * @return A configured GameMenu instance for the character
+     * @return A configured GameMenu instance for the characters
      */
-    private static GameMenu buildCharacterMenu(Character character) {
-        GameMenu menu = new GameMenu("Menu Personaggio - " + character.getName());
-        menu.add(new MenuItem("Allenati", () -> trainCharacter(character)));
-        menu.add(new MenuItem("Riposa", () -> restCharacter(character)));
-        menu.add(new MenuItem("Accedi inventario", () -> InventoryMenu.showInventoryMenu(character)));
-        menu.add(new MenuItem("Esplora Dungeon", () -> DungeonMenu.showDungeonMenu(character)));
-        menu.add(new MenuItem("Salva", () -> saveAndReturnToMain(character)));
-        menu.add(new MenuItem("Torna al menu principale", CharacterMenu::exitToMain));
+    static GameMenu buildCharacterMenu() {
+        GameMenu menu = new GameMenu("Menu Personaggio", GameMenu.Kind.SELF_CLOSING,
+                () -> MenuRegistry.boundCharacter().getName());
+        menu.add(new MenuItem("Allenati", channel -> trainCharacter(MenuRegistry.boundCharacter(), channel)));
+        menu.add(new MenuItem("Riposa", channel -> restCharacter(MenuRegistry.boundCharacter(), channel)));
+        menu.add(new MenuItem("Accedi inventario",
+                channel -> InventoryMenu.showInventoryMenu(MenuRegistry.boundCharacter(), channel)));
+        menu.add(new MenuItem("Esplora Dungeon",
+                channel -> DungeonMenu.showDungeonMenu(MenuRegistry.boundCharacter(), channel)));
+        menu.add(new MenuItem("Salva", channel -> saveAndReturnToMain(MenuRegistry.boundCharacter(), channel)));
+        menu.add(new MenuItem("Torna al menu principale", channel -> exitToMain()));
         return menu;
     }
 
@@ -93,18 +106,22 @@ public class CharacterMenu {
      * </p>
      * 
      * @param character The character to train
+     * @param channel The channel of the player
+     * @return Always {@link Navigation#STAY}
      */
-    private static void trainCharacter(Character character) {
-        System.out.println("\n=== ALLENAMENTO ===");
-        System.out.println("Personaggio: " + character);
+    private static Navigation trainCharacter(Character character, SessionChannel channel) {
+        StaminaRecoverySystem.regenerate(character);
+        channel.println("\n=== ALLENAMENTO ===");
+        channel.println("Personaggio: " + character);
 
         if (character.getStamina() < 10) {
-            System.out.println("Non hai abbastanza stamina per allenarti! (Serve almeno 10)");
-            return;
+            channel.println("Non hai abbastanza stamina per allenarti! (Serve almeno 10)");
+            return Navigation.STAY;
         }
 
         int oldDamage = character.getBaseDamage();
         int oldStamina = character.getStamina();
+        int oldLevel = character.getLevel();
         
         character.restoreStamina(-10);
         
@@ -114,11 +131,19 @@ public class CharacterMenu {
         
         character.train();
 
-        System.out.println("Allenamento completato!");
-        System.out.println("Danno aumentato da " + oldDamage + " a " + character.getBaseDamage());
-        System.out.println("Stamina consumata: -10 (Stamina attuale: " + character.getStamina() + ")");
+        GameEventBus events = GameSession.current().getEvents();
+        events.publish(new GameEvent.StaminaChanged(character, oldStamina, character.getStamina()));
+        if (character.getLevel() > oldLevel) {
+            events.publish(new GameEvent.LevelUp(character, character.getLevel()));
+        }
+
+        channel.println("Allenamento completato!");
+        channel.println("Danno aumentato da " + oldDamage + " a " + character.getBaseDamage());
+        channel.println("Stamina consumata: -10 (Stamina attuale: " + character.getStamina() + ")");
 
         logger.info("Character trained: " + character.getName());
+        AutosaveService.autosave(character);
+        return Navigation.STAY;
     }
 
     /**
@@ -151,34 +176,43 @@ public class CharacterMenu {
      * </p>
      * 
      * @param character The character to rest
+     * @param channel The channel of the player
+     * @return Always {@link Navigation#STAY}
      */
-    private static void restCharacter(Character character) {
-        System.out.println("\n=== RIPOSO ===");
-        System.out.println("Stato attuale: " + character);
+    private static Navigation restCharacter(Character character, SessionChannel channel) {
+        StaminaRecoverySystem.regenerate(character);
+        channel.println("\n=== RIPOSO ===");
+        channel.println("Stato attuale: " + character);
 
         if (character.getHealth() == character.getMaxHealth() &&
                 character.getStamina() == character.getMaxStamina()) {
-            System.out.println("Sei già completamente riposato!");
-            return;
+            channel.println("Sei già completamente riposato!");
+            return Navigation.STAY;
         }
 
         int oldHealth = character.getHealth();
         int oldStamina = character.getStamina();
 
         character.rest();
+        if (character.getStamina() != oldStamina) {
+            GameSession.current().getEvents()
+                    .publish(new GameEvent.StaminaChanged(character, oldStamina, character.getStamina()));
+        }
 
         int healthRecovered = character.getHealth() - oldHealth;
         int staminaRecovered = character.getStamina() - oldStamina;
 
-        System.out.println("Riposo completato!");
+        channel.println("Riposo completato!");
         if (healthRecovered > 0) {
-            System.out.println("Vita recuperata: +" + healthRecovered);
+            channel.println("Vita recuperata: +" + healthRecovered);
         }
         if (staminaRecovered > 0) {
-            System.out.println("Stamina recuperata: +" + staminaRecovered);
+            channel.println("Stamina recuperata: +" + staminaRecovered);
         }
 
         logger.info("Character rested: " + character.getName());
+        AutosaveService.autosave(character);
+        return Navigation.STAY;
     }
 
     /**
@@ -189,48 +223,39 @@ public class CharacterMenu {
      * </p>
      * 
      * @param character The character to save
+     * @param channel The channel of the player
+     * @return {@link Navigation#TO_ROOT} once saved, {@link Navigation#STAY} otherwise
      */
-    private static void saveAndReturnToMain(Character character) {
-        System.out.println("\n=== SALVATAGGIO ===");
-        System.out.print("Nome del salvataggio: ");
-        String filename = InputValidator.sanitizeInput(scanner.nextLine());
+    private static Navigation saveAndReturnToMain(Character character, SessionChannel channel) {
+        channel.println("\n=== SALVATAGGIO ===");
+        channel.print("Nome del salvataggio: ");
+        String filename = InputValidator.sanitizeInput(channel.readLine());
 
         if (!filename.isEmpty()) {
-            boolean success = CharacterManagement.saveCharacter(character, filename);
+            boolean success = CharacterManagement.saveCharacter(character, filename, channel);
             if (success) {
-                System.out.println("Personaggio salvato!");
+                channel.println("Personaggio salvato!");
                 logger.info("Character saved: " + character.getName());
-                throw new ReturnToMainMenuException();
+                return Navigation.TO_ROOT;
             } else {
-                System.out.println("Errore nel salvataggio!");
+                channel.println("Errore nel salvataggio!");
             }
         } else {
-            System.out.println("Nome non valido!");
+            channel.println("Nome non valido!");
         }
+        return Navigation.STAY;
     }
 
     /**
      * Exits to main menu
      * <p>
-     * Logs the action and throws a ReturnToMainMenuException to signal
-     * that the application should return to the main menu.
+     * Logs the action and asks the menu system to unwind to the main menu.
      * </p>
      * 
-     * @throws ReturnToMainMenuException to signal return to main menu
+     * @return Always {@link Navigation#TO_ROOT}
      */
-    private static void exitToMain() {
+    private static Navigation exitToMain() {
         logger.info("User returned to main menu");
-        throw new ReturnToMainMenuException();
-    }
-
-    /**
-     * Custom exception to signal return to main menu
-     * <p>
-     * This exception is used to signal that the application should
-     * return to the main menu from any point in the character menu
-     * or its submenus.
-     * </p>
-     */
-    public static class ReturnToMainMenuException extends RuntimeException {
+        return Navigation.TO_ROOT;
     }
 }
\ No newline at end of file
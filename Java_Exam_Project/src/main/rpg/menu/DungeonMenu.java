@@ -3,22 +3,25 @@ package rpg.menu;
 
 import rpg.composite.GameMenu;
 import rpg.composite.MenuItem;
+import rpg.composite.Navigation;
 import rpg.factory.Character;
-import rpg.builder.ConcreteDungeonBuilder;
 import rpg.builder.Dungeon;
-import rpg.builder.DungeonBuilder;
 import rpg.builder.DungeonExplorer;
-import rpg.menu.CharacterMenu.ReturnToMainMenuException;
+import rpg.content.ContentCatalog;
 import rpg.logger.GameLogger;
+import rpg.observer.StaminaRecoverySystem;
 import rpg.rpgSecurity.ExceptionHandler;
+import rpg.server.SessionChannel;
+import rpg.server.SessionClosedException;
+import java.util.Locale;
 import java.util.logging.Logger;
 
 /**
  * DungeonMenu - Manages dungeon exploration menu
  * <p>
  * This class is responsible for building and executing the dungeon exploration menu.
- * It provides options for exploring different dungeons and handles the creation
- * of dungeon instances using the Builder pattern. The class uses the Composite pattern
+ * It provides one option per dungeon of the content packs (see
+ * {@link ContentCatalog}). The class uses the Composite pattern
  * through the GameMenu and MenuItem classes to structure the menu hierarchy.
  * </p>
  * <p>
@@ -28,7 +31,6 @@ import java.util.logging.Logger;
  */
 public class DungeonMenu {
     private static final Logger logger = GameLogger.getLogger();
-    private static final DungeonBuilder dungeonBuilder = new ConcreteDungeonBuilder();
     
     /**
      * Shows dungeon menu
@@ -38,86 +40,67 @@ public class DungeonMenu {
      * </p>
      * 
      * @param character The character for which to show the dungeon menu
-     * @throws ReturnToMainMenuException if the user chooses to return to the main menu
+     * @param channel The channel of the player
+     * @return The navigation requested from the dungeon menu, STAY when the
+     *         player goes back to the character menu
      */
-    public static void showDungeonMenu(Character character) {
+    public static Navigation showDungeonMenu(Character character, SessionChannel channel) {
         if (character == null || !character.isAlive()) {
             logger.warning("Impossibile mostrare menu dungeon: personaggio nullo o morto");
-            return;
+            return Navigation.STAY;
         }
         
         try {
             logger.info("Mostrando menu dungeon per " + character.getName());
-            GameMenu menu = new GameMenu("Esplora Dungeon");
-            
-            menu.add(new MenuItem("Goblin Cave", () -> enterGoblinCave(character)));
-            menu.add(new MenuItem("Swamp of Trolls", () -> enterSwamp(character)));
-            menu.add(new MenuItem("Torna al menu personaggio", () -> {}));
-            
-            menu.execute();
-        } catch (ReturnToMainMenuException e) {
-            logger.info("Ritorno al menu principale");
+            return MenuRegistry.execute(MenuRegistry.dungeonMenu(), character, channel);
+        } catch (SessionClosedException e) {
             throw e;
         } catch (Exception e) {
             logger.severe("Errore nel menu dungeon: " + e.getMessage());
-            ExceptionHandler.handleException(e, "Errore nel menu dungeon.");
+            ExceptionHandler.handleException(e, "Errore nel menu dungeon.", channel);
+            return Navigation.STAY;
         }
     }
     
     /**
-     * Enters Goblin Cave dungeon
+     * Builds the dungeon menu
      * <p>
-     * Creates a Goblin Cave dungeon instance and initiates the exploration
-     * process for the specified character.
+     * The menu is built once per catalog and shared (see {@link MenuRegistry}):
+     * it has one entry per dungeon of the catalog, whose action sends the
+     * character bound to the session into that dungeon.
      * </p>
      * 
-     * @param character The character that will explore the dungeon
+     * @param catalog The content catalog listing the dungeons
+     * @return A configured GameMenu instance for dungeon selection
      */
-    private static void enterGoblinCave(Character character) {
-        System.out.println("\n=== GOBLIN CAVE ===");
-        logger.info(character.getName() + " entra nella Goblin Cave");
-        
-        Dungeon goblinCave = buildDungeon("Goblin Cave", "Una grotta piena di goblin.", 100, "goblin");
-        exploreDungeon(character, goblinCave);
+    static GameMenu buildDungeonMenu(ContentCatalog catalog) {
+        GameMenu menu = new GameMenu("Esplora Dungeon", GameMenu.Kind.SELF_CLOSING);
+        for (Dungeon dungeon : catalog.getDungeons()) {
+            menu.add(new MenuItem(dungeon.getName(),
+                    io -> enterDungeon(MenuRegistry.boundCharacter(), dungeon, io)));
+        }
+        menu.add(new MenuItem("Torna al menu personaggio", io -> Navigation.BACK));
+        return menu;
     }
     
     /**
-     * Enters Swamp of Trolls dungeon
+     * Enters a dungeon
      * <p>
-     * Creates a Swamp of Trolls dungeon instance and initiates the exploration
-     * process for the specified character.
+     * The dungeon comes from the content catalog, already built: entering
+     * it only starts the exploration for the specified character.
      * </p>
      * 
      * @param character The character that will explore the dungeon
+     * @param dungeon The dungeon to explore
+     * @param channel The channel of the player
+     * @return Always {@link Navigation#STAY}
      */
-    private static void enterSwamp(Character character) {
-        System.out.println("\n=== SWAMP OF TROLLS ===");
-        logger.info(character.getName() + " entra nella Swamp of Trolls");
+    private static Navigation enterDungeon(Character character, Dungeon dungeon, SessionChannel channel) {
+        channel.println("\n=== " + dungeon.getName().toUpperCase(Locale.ROOT) + " ===");
+        logger.info(character.getName() + " entra nella " + dungeon.getName());
         
-        Dungeon swamp = buildDungeon("Swamp of Trolls", "Una palude pericolosa con troll.", 200, "troll");
-        exploreDungeon(character, swamp);
-    }
-    
-    /**
-     * Builds a dungeon with specified parameters
-     * <p>
-     * Uses the DungeonBuilder to create a dungeon with the specified name,
-     * description, gold reward, and monster type.
-     * </p>
-     * 
-     * @param name The name of the dungeon
-     * @param description The description of the dungeon
-     * @param goldReward The gold reward for completing the dungeon
-     * @param monsterType The type of monsters in the dungeon
-     * @return A configured Dungeon instance
-     */
-    private static Dungeon buildDungeon(String name, String description, int goldReward, String monsterType) {
-        return dungeonBuilder.reset()
-                .setName(name)
-                .setDescription(description)
-                .setGoldReward(goldReward)
-                .setMonsterType(monsterType)
-                .build();
+        exploreDungeon(character, dungeon, channel);
+        return Navigation.STAY;
     }
     
     /**
@@ -129,11 +112,14 @@ public class DungeonMenu {
      * 
      * @param character The character that will explore the dungeon
      * @param dungeon The dungeon to explore
+     * @param channel The channel of the player
      */
-    private static void exploreDungeon(Character character, Dungeon dungeon) {
+    private static void exploreDungeon(Character character, Dungeon dungeon, SessionChannel channel) {
+        StaminaRecoverySystem.regenerate(character);
         new DungeonExplorer()
                 .withCharacter(character)
                 .withDungeon(dungeon)
+                .withChannel(channel)
                 .build();
     }
 }
\ No newline at end of file
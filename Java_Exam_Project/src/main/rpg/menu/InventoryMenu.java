@@ -3,6 +3,7 @@ package rpg.menu;
 
 import rpg.composite.GameMenu;
 import rpg.composite.MenuItem;
+import rpg.composite.Navigation;
 import rpg.factory.Character;
 import rpg.factory.Warrior;
 import rpg.factory.Mage;
@@ -13,6 +14,8 @@ import rpg.strategy.SortByTypeStrategy;
 import rpg.strategy.SortByValueStrategy;
 import rpg.strategy.InventorySortStrategy;
 import rpg.logger.GameLogger;
+import rpg.server.SessionChannel;
+import rpg.server.SessionClosedException;
 
 import java.util.List;
 import java.util.Map;
@@ -37,6 +40,11 @@ import java.util.logging.Logger;
 public class InventoryMenu {
     private static final Logger logger = GameLogger.getLogger();
 
+    // The strategies are stateless, so every inventory can share them
+    private static final InventorySortStrategy BY_TYPE = new SortByTypeStrategy();
+    private static final InventorySortStrategy BY_VALUE = new SortByValueStrategy();
+    private static final InventorySortStrategy BY_NAME = new SortByNameStrategy();
+
     /**
      * Shows inventory menu
      * <p>
@@ -45,27 +53,51 @@ public class InventoryMenu {
      * </p>
      * 
      * @param character The character whose inventory to display
+     * @param channel The channel of the player
+     * @return The navigation requested from the inventory menu, STAY when the
+     *         player goes back to the character menu
      */
-    public static void showInventoryMenu(Character character) {
+    public static Navigation showInventoryMenu(Character character, SessionChannel channel) {
         if (character == null) {
             logger.warning("Cannot show inventory menu: null character");
-            return;
+            return Navigation.STAY;
         }
 
         try {
-            GameMenu menu = new GameMenu("Inventario - " + character.getName());
-            menu.add(new MenuItem("Mostra tutti gli oggetti", () -> showItems(character, null, "TUTTI GLI OGGETTI")));
-            menu.add(new MenuItem("Mostra oggetti per tipologia", () -> showItems(character, new SortByTypeStrategy(), "OGGETTI PER TIPOLOGIA")));
-            menu.add(new MenuItem("Mostra oggetti per valore", () -> showItems(character, new SortByValueStrategy(), "OGGETTI PER VALORE")));
-            menu.add(new MenuItem("Mostra oggetti per nome", () -> showItems(character, new SortByNameStrategy(), "OGGETTI PER NOME")));
-            menu.add(new MenuItem("Torna al menu personaggio", () -> {}));
-            menu.execute();
+            return MenuRegistry.execute(MenuRegistry.INVENTORY, character, channel);
+        } catch (SessionClosedException e) {
+            throw e;
         } catch (Exception e) {
             logger.severe("Error in inventory menu: " + e.getMessage());
-            System.out.println("Errore nel menu inventario.");
+            channel.println("Errore nel menu inventario.");
+            return Navigation.STAY;
         }
     }
 
+    /**
+     * Builds the inventory menu
+     * <p>
+     * The menu is built once and shared (see {@link MenuRegistry}): its
+     * actions work on the character bound to the session.
+     * </p>
+     * 
+     * @return A configured GameMenu instance for the inventories
+     */
+    static GameMenu buildInventoryMenu() {
+        GameMenu menu = new GameMenu("Inventario", GameMenu.Kind.SELF_CLOSING,
+                () -> MenuRegistry.boundCharacter().getName());
+        menu.add(new MenuItem("Mostra tutti gli oggetti",
+                io -> showItems(MenuRegistry.boundCharacter(), null, "TUTTI GLI OGGETTI", io)));
+        menu.add(new MenuItem("Mostra oggetti per tipologia",
+                io -> showItems(MenuRegistry.boundCharacter(), BY_TYPE, "OGGETTI PER TIPOLOGIA", io)));
+        menu.add(new MenuItem("Mostra oggetti per valore",
+                io -> showItems(MenuRegistry.boundCharacter(), BY_VALUE, "OGGETTI PER VALORE", io)));
+        menu.add(new MenuItem("Mostra oggetti per nome",
+                io -> showItems(MenuRegistry.boundCharacter(), BY_NAME, "OGGETTI PER NOME", io)));
+        menu.add(new MenuItem("Torna al menu personaggio", io -> Navigation.BACK));
+        return menu;
+    }
+
     /**
      * Shows items using the specified sorting strategy
      * <p>
@@ -77,20 +109,23 @@ public class InventoryMenu {
      * @param character The character whose items to display
      * @param strategy The sorting strategy to apply, or null for default sorting
      * @param title The title to display for the item list
+     * @param channel The channel of the player
+     * @return Always {@link Navigation#STAY}
      */
-    private static void showItems(Character character, InventorySortStrategy strategy, String title) {
-        System.out.println("\n=== " + title + " ===");
+    private static Navigation showItems(Character character, InventorySortStrategy strategy, String title,
+                                        SessionChannel channel) {
+        channel.println("\n=== " + title + " ===");
         Inventory inventory = getCharacterInventory(character);
         
         if (inventory == null) {
-            System.out.println("Errore nell'accesso all’inventario!");
-            return;
+            channel.println("Errore nell'accesso all’inventario!");
+            return Navigation.STAY;
         }
 
         List<Item> items = inventory.getAllItems();
         if (items.isEmpty()) {
-            System.out.println("L'inventario è vuoto.");
-            return;
+            channel.println("L'inventario è vuoto.");
+            return Navigation.STAY;
         }
 
         // Apply the sorting strategy (Strategy Pattern)
@@ -99,13 +134,14 @@ public class InventoryMenu {
         
         // Special display for items grouped by type
         if (strategy instanceof SortByTypeStrategy) {
-            displayItemsByType(items, inventory);
+            displayItemsByType(items, inventory, channel);
         } else {
-            displayItems(items, inventory);
+            displayItems(items, inventory, channel);
         }
         
         logger.info("Displayed items for " + character.getName() + " using strategy: " + 
                     (strategy == null ? "none" : strategy.getClass().getSimpleName()));
+        return Navigation.STAY;
     }
 
     /**
@@ -117,24 +153,25 @@ public class InventoryMenu {
      * 
      * @param items The list of items to display
      * @param inventory The inventory containing the items
+     * @param channel The channel to print to
      */
-    private static void displayItemsByType(List<Item> items, Inventory inventory) {
+    private static void displayItemsByType(List<Item> items, Inventory inventory, SessionChannel channel) {
         Map<Item.ItemType, List<Item>> itemsByType = items.stream()
                 .collect(Collectors.groupingBy(Item::getType));
 
         for (Item.ItemType type : Item.ItemType.values()) {
             List<Item> itemsOfType = itemsByType.get(type);
             if (itemsOfType != null && !itemsOfType.isEmpty()) {
-                System.out.println("\n📦 " + type.getDisplayName().toUpperCase() + "S:");
+                channel.println("\n📦 " + type.getDisplayName().toUpperCase() + "S:");
                 for (Item item : itemsOfType) {
                     String bonus = item.getStatBonus() > 0 ? " (+" + item.getStatBonus() + ")" : "";
-                    System.out.printf("  • %s - %d oro%s%n", item.getName(), item.getValue(), bonus);
+                    channel.printf("  • %s - %d oro%s%n", item.getName(), item.getValue(), bonus);
                 }
             }
         }
         
-        System.out.println("\nTotale oggetti: " + inventory.getSize());
-        System.out.println("Valore totale: " + inventory.getTotalValue() + " oro");
+        channel.println("\nTotale oggetti: " + inventory.getSize());
+        channel.println("Valore totale: " + inventory.getTotalValue() + " oro");
     }
 
     /**
@@ -146,17 +183,18 @@ public class InventoryMenu {
      * 
      * @param items The list of items to display
      * @param inventory The inventory containing the items
+     * @param channel The channel to print to
      */
-    private static void displayItems(List<Item> items, Inventory inventory) {
-        System.out.println("Oggetti nell'inventario: " + items.size());
+    private static void displayItems(List<Item> items, Inventory inventory, SessionChannel channel) {
+        channel.println("Oggetti nell'inventario: " + items.size());
         
         int index = 1;
         for (Item item : items) {
-            System.out.printf("%d. %s [%s] - Valore: %d oro%n",
+            channel.printf("%d. %s [%s] - Valore: %d oro%n",
                     index++, item.getName(), item.getType().getDisplayName(), item.getValue());
         }
 
-        System.out.println("\nValore totale: " + inventory.getTotalValue() + " oro");
+        channel.println("\nValore totale: " + inventory.getTotalValue() + " oro");
     }
 
     /**
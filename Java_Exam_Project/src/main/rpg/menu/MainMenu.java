@@ -3,13 +3,19 @@ package rpg.menu;
 
 import rpg.composite.GameMenu;
 import rpg.composite.MenuItem;
+import rpg.composite.Navigation;
 import rpg.factory.Character;
 import rpg.factory.CharacterFactory;
 import rpg.rpgIO.CharacterManagement;
+import rpg.rpgIO.SaveIndex;
 import rpg.rpgSecurity.InputValidator;
 import rpg.logger.GameLogger;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
+import rpg.server.SessionClosedException;
 
-import java.util.Scanner;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 /**
@@ -28,7 +34,9 @@ import java.util.logging.Logger;
  */
 public class MainMenu {
     private static final Logger logger = GameLogger.getLogger();
-    private static final Scanner scanner = new Scanner(System.in);
+
+    // Saves listed per page of the load menu
+    private static final int SAVES_PER_PAGE = 20;
 
     /**
      * Builds and returns the main menu
@@ -42,14 +50,14 @@ public class MainMenu {
      */
     public static GameMenu buildMainMenu() {
         try {
-            GameMenu mainMenu = new GameMenu("RPG Adventure Game - Menu Principale");
+            GameMenu mainMenu = new GameMenu("RPG Adventure Game - Menu Principale", GameMenu.Kind.ROOT);
             mainMenu.add(new MenuItem("Crea nuovo personaggio", MainMenu::createNewCharacter));
             mainMenu.add(new MenuItem("Carica Personaggio", MainMenu::loadCharacter));
             return mainMenu;
         } catch (Exception e) {
             logger.severe("Error building main menu: " + e.getMessage());
-            GameMenu emergency = new GameMenu("Emergency Menu");
-            emergency.add(new MenuItem("Esci", () -> System.exit(0)));
+            GameMenu emergency = new GameMenu("Emergency Menu", GameMenu.Kind.SUBMENU);
+            emergency.add(new MenuItem("Esci", MainMenu::exitGame));
             return emergency;
         }
     }
@@ -61,94 +69,173 @@ public class MainMenu {
      * then creates a new character using the CharacterFactory.
      * If successful, it displays the character menu for the new character.
      * </p>
+     * 
+     * @param channel The channel of the player
+     * @return The navigation requested from the character menu, or STAY
      */
-    private static void createNewCharacter() {
-        System.out.println("\n=== CREA NUOVO PERSONAGGIO ===");
+    private static Navigation createNewCharacter(SessionChannel channel) {
+        channel.println("\n=== CREA NUOVO PERSONAGGIO ===");
 
-        CharacterFactory factory = new CharacterFactory();
+        CharacterFactory factory = new CharacterFactory(channel);
         factory.showAvailableTypes();
 
-        System.out.print("\nTipo (warrior/mage): ");
-        String type = InputValidator.sanitizeInput(scanner.nextLine());
+        channel.print("\nTipo (warrior/mage): ");
+        String type = InputValidator.sanitizeInput(channel.readLine());
 
-        System.out.print("Nome: ");
-        String name = InputValidator.validateCharacterName(scanner.nextLine());
+        channel.print("Nome: ");
+        String name = InputValidator.validateCharacterName(channel.readLine(), channel);
 
         if (name == null) {
-            return;
+            return Navigation.STAY;
         }
 
         Character character = factory.createCharacter(type, name);
 
         if (character != null) {
-            System.out.println("Personaggio creato: " + character.getName());
+            character.setEventSink(channel.getSink());
+            channel.println("Personaggio creato: " + character.getName());
             logger.info("Character created: " + character.getName());
-            CharacterMenu.showCharacterMenu(character);
-        } else {
-            System.out.println("Creazione fallita!");
+            return CharacterMenu.showCharacterMenu(character, channel);
         }
+        channel.println("Creazione fallita!");
+        return Navigation.STAY;
     }
 
     /**
      * Loads an existing character and navigates to character menu
      * <p>
-     * Displays a list of available save files and prompts the user to select one.
-     * If a valid selection is made, it loads the character from the save file
-     * and displays the character menu for the loaded character.
+     * Displays the available save files one page at a time and prompts the
+     * user to select one, or to move to the next or previous page. Pages are
+     * read from the {@link SaveIndex}, so opening the menu costs the same
+     * with ten saves or ten thousand; without the index the directory is
+     * scanned once and paged in memory. If a valid selection is made, it
+     * loads the character from the save file and displays the character
+     * menu for the loaded character.
      * </p>
+     * 
+     * @param channel The channel of the player
+     * @return The navigation requested from the character menu, or STAY
      */
-    private static void loadCharacter() {
-        System.out.println("\n=== CARICA PERSONAGGIO ===");
-
-        String[] saves = CharacterManagement.listSaveFiles();
-        if (saves.length == 0) {
-            System.out.println("Nessun salvataggio trovato!");
-            return;
-        }
+    private static Navigation loadCharacter(SessionChannel channel) {
+        channel.println("\n=== CARICA PERSONAGGIO ===");
+
+        SaveIndex index = CharacterManagement.getSaveIndex();
+        String[] scanned = index == null ? CharacterManagement.listSaveFiles() : null;
+
+        int page = 0;
+        while (true) {
+            int total = index != null ? index.size() : scanned.length;
+            if (total == 0) {
+                channel.println("Nessun salvataggio trovato!");
+                return Navigation.STAY;
+            }
+            int pages = (total + SAVES_PER_PAGE - 1) / SAVES_PER_PAGE;
+            page = Math.min(page, pages - 1);
+
+            List<String> names = new ArrayList<>(SAVES_PER_PAGE);
+            List<String> labels = new ArrayList<>(SAVES_PER_PAGE);
+            int offset = page * SAVES_PER_PAGE;
+            if (index != null) {
+                for (SaveIndex.Entry entry : index.list(offset, SAVES_PER_PAGE)) {
+                    names.add(entry.getFileName());
+                    labels.add(entry.toString());
+                }
+            } else {
+                for (int i = offset; i < Math.min(total, offset + SAVES_PER_PAGE); i++) {
+                    names.add(scanned[i]);
+                    labels.add(scanned[i]);
+                }
+            }
 
-        System.out.println("Salvataggi disponibili:");
-        for (int i = 0; i < saves.length; i++) {
-            System.out.println((i + 1) + ". " + saves[i]);
-        }
+            channel.println("Salvataggi disponibili (pagina " + (page + 1) + "/" + pages + "):");
+            for (int i = 0; i < labels.size(); i++) {
+                channel.println((i + 1) + ". " + labels.get(i));
+            }
+            if (page + 1 < pages) {
+                channel.println("n. Pagina successiva");
+            }
+            if (page > 0) {
+                channel.println("p. Pagina precedente");
+            }
 
-        System.out.print("\nScegli (1-" + saves.length + "): ");
-        Integer choice = InputValidator.validateMenuChoice(scanner.nextLine(), saves.length);
+            channel.print("\nScegli (1-" + names.size() + "): ");
+            String input = channel.readLine();
+            String command = input == null ? "" : input.trim().toLowerCase();
+            if (command.equals("n") && page + 1 < pages) {
+                page++;
+                continue;
+            }
+            if (command.equals("p") && page > 0) {
+                page--;
+                continue;
+            }
 
-        if (choice != null && choice > 0) {
-            Character loaded = CharacterManagement.loadCharacter(saves[choice - 1]);
-            if (loaded != null) {
-                System.out.println("Personaggio caricato: " + loaded.getName());
-                CharacterMenu.showCharacterMenu(loaded);
+            Integer choice = InputValidator.validateMenuChoice(input, names.size(), channel);
+            if (choice != null && choice > 0) {
+                Character loaded = CharacterManagement.loadCharacter(names.get(choice - 1), channel);
+                if (loaded != null) {
+                    loaded.setEventSink(channel.getSink());
+                    channel.println("Personaggio caricato: " + loaded.getName());
+                    return CharacterMenu.showCharacterMenu(loaded, channel);
+                }
             }
+            return Navigation.STAY;
         }
     }
 
     /**
      * Exits the game
      * <p>
-     * Displays a farewell message, logs the exit action, and terminates the application.
+     * Logs the exit action and asks the menu system to leave the game;
+     * the GameManager says goodbye and ends the session.
      * </p>
+     * 
+     * @param channel The channel of the player
+     * @return Always {@link Navigation#EXIT}
      */
-    private static void exitGame() {
-        System.out.println("\nGrazie per aver giocato!");
+    private static Navigation exitGame(SessionChannel channel) {
         logger.info("Game exited by user");
-        System.exit(0);
+        return Navigation.EXIT;
     }
 
     /**
      * Runs the main menu
      * <p>
-     * Builds the main menu and executes it, handling any exceptions that may occur.
+     * Executes the shared main menu, handling any exceptions that may occur.
      * This is the primary entry point for starting the game's menu system.
+     * The menu talks through the channel of the current session.
+     * </p>
+     * 
+     * @return {@link Navigation#EXIT} when the player leaves the game,
+     *         {@link Navigation#TO_ROOT} when a submenu asked to show the main menu again
+     * @throws RuntimeException if an unrecoverable error occurs while running the menu
+     */
+    public static Navigation runMainMenu() {
+        return runMainMenu(GameSession.current().getChannel());
+    }
+
+    /**
+     * Runs the main menu over a channel
+     * <p>
+     * Lets the game be driven by any source of lines: a socket, a file
+     * or an in-memory script.
      * </p>
      * 
+     * @param channel The channel used to talk to the player
+     * @return {@link Navigation#EXIT} when the player leaves the game,
+     *         {@link Navigation#TO_ROOT} when a submenu asked to show the main menu again
+     * @throws SessionClosedException if the player's input ends
      * @throws RuntimeException if an unrecoverable error occurs while running the menu
      */
-    public static void runMainMenu() {
+    public static Navigation runMainMenu(SessionChannel channel) {
         try {
-            GameMenu mainMenu = buildMainMenu();
-            mainMenu.execute();
-            logger.info("User exited from main menu");
+            Navigation result = MenuRegistry.MAIN.execute(channel);
+            if (result == Navigation.EXIT) {
+                logger.info("User exited from main menu");
+            }
+            return result;
+        } catch (SessionClosedException e) {
+            throw e;
         } catch (Exception e) {
             logger.severe("Error running main menu: " + e.getMessage());
             throw e;
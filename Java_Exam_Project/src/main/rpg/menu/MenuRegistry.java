@@ -0,0 +1,102 @@
+package rpg.menu;
+
+import rpg.composite.GameMenu;
+import rpg.content.ContentCatalog;
+import rpg.composite.Navigation;
+import rpg.factory.Character;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
+
+/**
+ * MenuRegistry - Menu trees shared by every player
+ * <p>
+ * Each menu tree is built once, when the registry is first used, and then
+ * reused by every session on every visit instead of being rebuilt with new
+ * lambdas each time the player enters it. The trees hold no player state:
+ * their actions work on the character bound to the current
+ * {@link GameSession} by {@link #execute(GameMenu, Character, SessionChannel)}
+ * while the menu runs.
+ * </p>
+ * <p>
+ * The dungeon menu lists the dungeons of the content catalog, so it is
+ * rebuilt the first time it is needed after a new catalog is published.
+ * </p>
+ */
+final class MenuRegistry {
+
+    static final GameMenu MAIN = MainMenu.buildMainMenu();
+    static final GameMenu CHARACTER = CharacterMenu.buildCharacterMenu();
+    static final GameMenu INVENTORY = InventoryMenu.buildInventoryMenu();
+
+    // Dungeon menu and the catalog it lists
+    private static volatile CatalogMenu dungeon = CatalogMenu.of(ContentCatalog.current());
+
+    private MenuRegistry() {
+    }
+
+    /**
+     * Gets the dungeon menu of the current content catalog
+     * <p>
+     * Two sessions may both rebuild it after a reload; either menu is
+     * correct, so no lock is taken.
+     * </p>
+     *
+     * @return The dungeon menu
+     */
+    static GameMenu dungeonMenu() {
+        ContentCatalog catalog = ContentCatalog.current();
+        CatalogMenu built = dungeon;
+        if (built.catalog() != catalog) {
+            built = CatalogMenu.of(catalog);
+            dungeon = built;
+        }
+        return built.menu();
+    }
+
+    /**
+     * Runs a shared menu for a character
+     * <p>
+     * The character is bound to the current session for the time the menu
+     * runs, then the previous binding is restored, so a submenu can be
+     * entered from its parent and return to it.
+     * </p>
+     *
+     * @param menu The menu to run
+     * @param character The character its actions work on
+     * @param channel The channel of the player
+     * @return The navigation requested from the menu
+     */
+    static Navigation execute(GameMenu menu, Character character, SessionChannel channel) {
+        GameSession session = GameSession.current();
+        Character previous = session.getCharacter();
+        session.setCharacter(character);
+        try {
+            return menu.execute(channel);
+        } finally {
+            session.setCharacter(previous);
+        }
+    }
+
+    /**
+     * Gets the character the running menu works on
+     *
+     * @return The bound character
+     * @throws IllegalStateException If no menu is running for a character
+     */
+    static Character boundCharacter() {
+        Character character = GameSession.current().getCharacter();
+        if (character == null) {
+            throw new IllegalStateException("No character bound to the session");
+        }
+        return character;
+    }
+
+    /**
+     * CatalogMenu - A menu built from a content catalog
+     */
+    private record CatalogMenu(ContentCatalog catalog, GameMenu menu) {
+        static CatalogMenu of(ContentCatalog catalog) {
+            return new CatalogMenu(catalog, DungeonMenu.buildDungeonMenu(catalog));
+        }
+    }
+}
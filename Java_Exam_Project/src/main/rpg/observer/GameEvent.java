@@ -0,0 +1,81 @@
+package rpg.observer;
+
+import rpg.factory.Character;
+import rpg.iterator.Item;
+
+/**
+ * GameEvent - Something that happened to a character during the game
+ * <p>
+ * Events are immutable and published on a {@link GameEventBus}, where
+ * listeners subscribe to the event types they care about. Unlike the
+ * messages of {@code rpg.output.GameEventSink}, which are text for the
+ * player, events carry the character itself so observers can react to
+ * its state.
+ * </p>
+ */
+public sealed interface GameEvent {
+
+    /**
+     * Gets the character the event happened to
+     *
+     * @return The character
+     */
+    Character character();
+
+    /**
+     * StaminaChanged - A character's stamina went from one value to another
+     *
+     * @param character The character
+     * @param oldStamina The stamina before the change
+     * @param newStamina The stamina after the change
+     */
+    record StaminaChanged(Character character, int oldStamina, int newStamina) implements GameEvent {
+    }
+
+    /**
+     * StaminaRecovered - A character recovered stamina automatically
+     *
+     * @param character The character
+     * @param amount The stamina recovered
+     */
+    record StaminaRecovered(Character character, int amount) implements GameEvent {
+    }
+
+    /**
+     * DamageTaken - A character was hit
+     *
+     * @param character The character that was hit
+     * @param source The name of the attacker
+     * @param damage The health lost
+     * @param health The health left
+     */
+    record DamageTaken(Character character, String source, int damage, int health) implements GameEvent {
+    }
+
+    /**
+     * LevelUp - A character reached a new level
+     *
+     * @param character The character
+     * @param level The new level
+     */
+    record LevelUp(Character character, int level) implements GameEvent {
+    }
+
+    /**
+     * LootFound - A character picked up an item
+     *
+     * @param character The character
+     * @param item The item found
+     */
+    record LootFound(Character character, Item item) implements GameEvent {
+    }
+
+    /**
+     * CharacterDied - A character was defeated
+     *
+     * @param character The character
+     * @param killer The name of the winner
+     */
+    record CharacterDied(Character character, String killer) implements GameEvent {
+    }
+}
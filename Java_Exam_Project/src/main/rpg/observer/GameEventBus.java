@@ -0,0 +1,253 @@
+package rpg.observer;
+
+import rpg.logger.GameLogger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * GameEventBus - Typed publish/subscribe hub for game events
+ * <p>
+ * Listeners subscribe to one {@link GameEvent} type, or to
+ * {@code GameEvent.class} to receive every event. Subscriber lists are
+ * copy-on-write, so publishing never locks and listeners can subscribe or
+ * unsubscribe while events are delivered. A listener that throws is logged
+ * and the others still receive the event.
+ * </p>
+ * <p>
+ * A bus is synchronous by default: listeners run on the publishing thread,
+ * before {@link #publish(GameEvent)} returns. An asynchronous bus (see
+ * {@link #GameEventBus(int)}) only queues the event and delivers it on a
+ * dispatcher thread, so a slow listener never stalls combat. When the
+ * queue is full the event is dropped and counted rather than blocking the
+ * game; {@link #getDroppedCount()} exposes the counter. Events nobody
+ * listens to are never queued.
+ * </p>
+ */
+public class GameEventBus implements AutoCloseable {
+
+    private static final Logger logger = GameLogger.getLogger();
+
+    private final Map<Class<?>, CopyOnWriteArrayList<GameEventListener<?>>> listeners = new ConcurrentHashMap<>();
+    private final BlockingQueue<GameEvent> queue;
+    private final Thread dispatcher;
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Only advanced by the dispatcher thread
+    private volatile long delivered;
+    private volatile boolean running = true;
+
+    /**
+     * Creates a synchronous bus
+     */
+    public GameEventBus() {
+        this.queue = null;
+        this.dispatcher = null;
+    }
+
+    /**
+     * Creates an asynchronous bus and starts its dispatcher thread
+     *
+     * @param capacity The maximum number of events waiting for delivery
+     * @throws IllegalArgumentException If capacity is not positive
+     */
+    public GameEventBus(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.dispatcher = Thread.ofVirtual().name("rpg-event-dispatcher").start(this::dispatchLoop);
+    }
+
+    /**
+     * Subscribes a listener to one type of event
+     * <p>
+     * Subscribing the same listener twice to the same type has no effect.
+     * </p>
+     *
+     * @param type The event type, or {@code GameEvent.class} for every event
+     * @param listener The listener
+     * @param <E> The event type
+     * @return true if the listener was added, false if it was already subscribed
+     * @throws IllegalArgumentException If type or listener is null
+     */
+    public <E extends GameEvent> boolean subscribe(Class<E> type, GameEventListener<? super E> listener) {
+        if (type == null || listener == null) {
+            throw new IllegalArgumentException("Event type and listener cannot be null");
+        }
+        return listeners.computeIfAbsent(type, t -> new CopyOnWriteArrayList<>()).addIfAbsent(listener);
+    }
+
+    /**
+     * Unsubscribes a listener from one type of event
+     *
+     * @param type The event type it was subscribed to
+     * @param listener The listener
+     * @return true if the listener was subscribed
+     */
+    public boolean unsubscribe(Class<? extends GameEvent> type, GameEventListener<?> listener) {
+        List<GameEventListener<?>> subscribers = listeners.get(type);
+        return subscribers != null && subscribers.remove(listener);
+    }
+
+    /**
+     * Checks whether anyone listens to a type of event
+     * <p>
+     * Lets publishers skip building events nobody receives.
+     * </p>
+     *
+     * @param type The event type
+     * @return true if at least one listener receives events of this type
+     */
+    public boolean hasSubscribers(Class<? extends GameEvent> type) {
+        return !subscribersOf(type).isEmpty() || !subscribersOf(GameEvent.class).isEmpty();
+    }
+
+    /**
+     * Publishes an event
+     * <p>
+     * On a synchronous bus the listeners have run when this method returns.
+     * On an asynchronous bus the event is queued, or dropped if the queue is
+     * full or the bus is closed.
+     * </p>
+     *
+     * @param event The event, ignored if null
+     */
+    public void publish(GameEvent event) {
+        if (event == null || !hasSubscribers(event.getClass())) {
+            return;
+        }
+        if (queue == null) {
+            deliver(event);
+        } else if (running && queue.offer(event)) {
+            queued.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Delivers an event to the listeners of its type, then to those of every event
+     *
+     * @param event The event
+     */
+    private void deliver(GameEvent event) {
+        deliver(event, subscribersOf(event.getClass()));
+        deliver(event, subscribersOf(GameEvent.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(GameEvent event, List<GameEventListener<?>> subscribers) {
+        for (GameEventListener<?> listener : subscribers) {
+            try {
+                ((GameEventListener<GameEvent>) listener).onEvent(event);
+            } catch (RuntimeException e) {
+                logger.warning("Event listener failed on " + event.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private List<GameEventListener<?>> subscribersOf(Class<?> type) {
+        List<GameEventListener<?>> subscribers = listeners.get(type);
+        return subscribers != null ? subscribers : List.of();
+    }
+
+    /**
+     * Dispatcher thread body: delivers queued events until the bus is closed
+     */
+    private void dispatchLoop() {
+        try {
+            while (running) {
+                GameEvent event = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    deliver(event);
+                    delivered++;
+                }
+            }
+        } catch (InterruptedException e) {
+            // Closing: deliver what is left below
+        }
+        GameEvent event;
+        while ((event = queue.poll()) != null) {
+            deliver(event);
+            delivered++;
+        }
+    }
+
+    /**
+     * Checks whether listeners run on a dispatcher thread
+     *
+     * @return true for an asynchronous bus
+     */
+    public boolean isAsync() {
+        return queue != null;
+    }
+
+    /**
+     * Gets the number of events waiting for the dispatcher thread
+     *
+     * @return The current queue depth, always 0 for a synchronous bus
+     */
+    public int getQueueDepth() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Gets the number of events dropped because the queue was full
+     *
+     * @return The dropped event count
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Waits until every event queued so far has been delivered
+     * <p>
+     * Returns at once on a synchronous bus.
+     * </p>
+     *
+     * @param timeoutMillis The maximum time to wait
+     * @return true if every event was delivered in time
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean flush(long timeoutMillis) throws InterruptedException {
+        long target = queued.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (delivered < target) {
+            if (System.nanoTime() - deadline >= 0 || !dispatcher.isAlive()) {
+                return delivered >= target;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    /**
+     * Stops the dispatcher thread after delivering the queued events
+     * <p>
+     * Events published afterwards are dropped. Does nothing on a synchronous bus.
+     * </p>
+     */
+    @Override
+    public void close() {
+        if (dispatcher == null || !running) {
+            return;
+        }
+        running = false;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package rpg.observer;
+
+/**
+ * GameEventListener - Receives the events of one type from a {@link GameEventBus}
+ * <p>
+ * Listeners of a synchronous bus run on the thread that published the
+ * event; listeners of an asynchronous bus run on the bus dispatcher thread.
+ * </p>
+ *
+ * @param <E> The type of event received
+ */
+@FunctionalInterface
+public interface GameEventListener<E extends GameEvent> {
+
+    /**
+     * Called for every event of the subscribed type
+     *
+     * @param event The event
+     */
+    void onEvent(E event);
+}
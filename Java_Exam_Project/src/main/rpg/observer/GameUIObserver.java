@@ -2,9 +2,9 @@ package rpg.observer;
 
 import rpg.factory.Character;
 import rpg.logger.GameLogger;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
 import java.util.logging.Logger;
-import java.util.List;
-import java.util.ArrayList;
 
 /**
  * GameUIObserver - Concrete implementation of StaminaObserver
@@ -15,24 +15,45 @@ import java.util.ArrayList;
  * </p>
  * <p>
  * The GameUIObserver maintains a list of characters it is observing and
- * provides visual feedback to the player about stamina changes through
- * console output. In a full game implementation, this would update
+ * provides visual feedback to the player about stamina changes on the
+ * player's channel. In a full game implementation, this would update
  * graphical UI elements like stamina bars.
  * </p>
+ * <p>
+ * Observed characters are tracked by identity and held weakly: a character
+ * the game no longer uses is forgotten instead of being kept alive for the
+ * lifetime of the observer.
+ * </p>
  */
 public class GameUIObserver implements StaminaObserver {
 
     private static final Logger logger = GameLogger.getLogger();
-    private final List<Character> observedCharacters = new ArrayList<>();
+    private final WeakIdentitySet<Character> observedCharacters = new WeakIdentitySet<>();
+    private final SessionChannel channel;
 
     /**
      * Constructor for GameUIObserver
      * <p>
      * Initializes a new UI observer that can be registered with the
      * stamina recovery system to receive notifications about stamina changes.
+     * Updates are shown to the player of the current session.
      * </p>
      */
     public GameUIObserver() {
+        this(GameSession.current().getChannel());
+    }
+
+    /**
+     * Creates a UI observer showing updates on a channel
+     * 
+     * @param channel The channel of the player
+     * @throws IllegalArgumentException If the channel is null
+     */
+    public GameUIObserver(SessionChannel channel) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Observer channel cannot be null");
+        }
+        this.channel = channel;
         logger.info("GameUIObserver created");
     }
 
@@ -50,14 +71,12 @@ public class GameUIObserver implements StaminaObserver {
      */
     @Override
     public void onStaminaChanged(Character character, int oldStamina, int newStamina) {
-        if (!observedCharacters.contains(character)) {
-            observedCharacters.add(character);
-        }
+        track(character);
         
         int diff = newStamina - oldStamina;
         String change = diff > 0 ? "increased" : "decreased";
         
-        System.out.println("[UI] " + character.getName() + " stamina " + 
+        channel.println("[UI] " + character.getName() + " stamina " + 
                 change + " by " + Math.abs(diff));
         
         logger.info(character.getName() + " stamina " + change + ": " + oldStamina + " -> " + newStamina);
@@ -76,11 +95,48 @@ public class GameUIObserver implements StaminaObserver {
      */
     @Override
     public void onStaminaRecovered(Character character, int recoveredAmount) {
-        if (!observedCharacters.contains(character)) {
-            observedCharacters.add(character);
-        }
+        track(character);
         
-        System.out.println("[UI] " + character.getName() + " recovers " + recoveredAmount + " stamina");
+        channel.println("[UI] " + character.getName() + " recovers " + recoveredAmount + " stamina");
         logger.info(character.getName() + " recovers " + recoveredAmount + " stamina");
     }
+
+    /**
+     * Records that a character is observed
+     * 
+     * @param character The character
+     */
+    private void track(Character character) {
+        synchronized (observedCharacters) {
+            if (observedCharacters.add(character)) {
+                logger.fine("GameUIObserver now tracks " + character.getName());
+            }
+        }
+    }
+
+    /**
+     * Checks whether a character has been observed
+     * 
+     * @param character The character
+     * @return true if the observer received an event about this character
+     */
+    public boolean isTracking(Character character) {
+        synchronized (observedCharacters) {
+            return observedCharacters.contains(character);
+        }
+    }
+
+    /**
+     * Gets the number of observed characters still in use
+     * <p>
+     * Characters reclaimed by the garbage collector are not counted.
+     * </p>
+     * 
+     * @return The tracked character count
+     */
+    public int getTrackedCount() {
+        synchronized (observedCharacters) {
+            return observedCharacters.size();
+        }
+    }
 }
@@ -2,45 +2,115 @@ package rpg.observer;
 
 import rpg.factory.Character;
 import rpg.logger.GameLogger;
+import rpg.server.GameSession;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * StaminaRecoverySystem - Implements the stamina recovery mechanism
  * <p>
  * This class serves as the Subject in the Observer Pattern implementation
- * for the stamina system. It manages a list of observers that are notified
- * when stamina changes occur, and provides methods for recovering stamina
- * for characters.
+ * for the stamina system. It connects {@link StaminaObserver}s to the
+ * stamina events of the {@link GameEventBus}, and provides methods for
+ * recovering stamina for characters.
  * </p>
  * <p>
- * The system uses a simplified approach with a fixed recovery amount,
- * but could be extended to support variable recovery rates based on
- * character attributes or game conditions.
+ * Besides the fixed recovery after a victory, stamina regenerates over
+ * time at the rate of each character class. All characters share one tick
+ * clock ({@code game.stamina.tickMillis}, 10 seconds by default) and no
+ * timer runs per character: {@link #regenerate(Character)} applies the
+ * ticks elapsed since the character's last catch-up, in constant time, when
+ * the game is about to read its stamina. Idle characters cost nothing, so
+ * this scales to any number of them.
+ * </p>
+ * <p>
+ * Observers subscribe to the bus of the current {@link GameSession}: on
+ * the game server each player registers its own UI observer and only hears
+ * about its own characters.
  * </p>
  */
 public class StaminaRecoverySystem {
     
     private static final Logger logger = GameLogger.getLogger();
-    private static final List<StaminaObserver> observers = new ArrayList<>();
+
+    private static final long TICK_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(Math.max(1, Long.getLong("game.stamina.tickMillis", 10_000)));
+    private static final long CLOCK_ORIGIN = System.nanoTime();
     
     /**
      * Adds an observer to the stamina recovery system
      * <p>
-     * Registers a new observer to be notified of stamina changes.
-     * Prevents duplicate registrations of the same observer.
+     * Registers a new observer of the current session to be notified of
+     * stamina changes. Prevents duplicate registrations of the same observer.
      * </p>
      * 
      * @param observer The observer to add
      */
-    public static void addObserver(GameUIObserver observer) {
-        if (observer != null && !observers.contains(observer)) {
-            observers.add(observer);
+    public static void addObserver(StaminaObserver observer) {
+        if (observer == null) {
+            return;
+        }
+        GameEventBus events = GameSession.current().getEvents();
+        StaminaListener listener = new StaminaListener(observer);
+        if (events.subscribe(GameEvent.StaminaChanged.class, listener)) {
+            events.subscribe(GameEvent.StaminaRecovered.class, listener);
             logger.info("Observer added to stamina recovery system");
         }
     }
+
+    /**
+     * Removes an observer of the current session
+     * 
+     * @param observer The observer to remove
+     */
+    public static void removeObserver(StaminaObserver observer) {
+        GameEventBus events = GameSession.current().getEvents();
+        StaminaListener listener = new StaminaListener(observer);
+        events.unsubscribe(GameEvent.StaminaChanged.class, listener);
+        events.unsubscribe(GameEvent.StaminaRecovered.class, listener);
+    }
     
+    /**
+     * Gets the current tick of the shared stamina clock
+     * 
+     * @return The number of ticks elapsed since the game started
+     */
+    public static long currentTick() {
+        return (System.nanoTime() - CLOCK_ORIGIN) / TICK_NANOS;
+    }
+
+    /**
+     * Applies the stamina a character regenerated since its last catch-up
+     * <p>
+     * Call before reading the stamina for a game decision. Observers of the
+     * current session are notified when stamina was recovered.
+     * </p>
+     * 
+     * @param character The character, ignored if null
+     * @return The stamina recovered
+     */
+    public static int regenerate(Character character) {
+        return regenerate(character, currentTick());
+    }
+
+    /**
+     * Applies the stamina a character regenerated up to a given tick
+     * 
+     * @param character The character, ignored if null
+     * @param tick The tick of the stamina clock
+     * @return The stamina recovered
+     */
+    public static int regenerate(Character character, long tick) {
+        if (character == null) {
+            return 0;
+        }
+        int recovered = character.regenerateStamina(tick);
+        if (recovered > 0) {
+            GameSession.current().getEvents().publish(new GameEvent.StaminaRecovered(character, recovered));
+        }
+        return recovered;
+    }
+
     /**
      * Recovers stamina for a character
      * <p>
@@ -58,9 +128,7 @@ public class StaminaRecoverySystem {
                 character.restoreStamina(recoveryAmount);
                 
                 // Notify observers
-                for (StaminaObserver observer : observers) {
-                    observer.onStaminaRecovered(character, recoveryAmount);
-                }
+                GameSession.current().getEvents().publish(new GameEvent.StaminaRecovered(character, recoveryAmount));
                 
                 logger.info(character.getName() + " recovered " + recoveryAmount + " stamina");
             }
@@ -68,4 +136,25 @@ public class StaminaRecoverySystem {
             logger.warning("Error in stamina recovery: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * StaminaListener - Forwards the stamina events of the bus to an observer
+     * <p>
+     * Two listeners for the same observer are equal, so an observer is
+     * never subscribed twice.
+     * </p>
+     *
+     * @param observer The observer to notify
+     */
+    private record StaminaListener(StaminaObserver observer) implements GameEventListener<GameEvent> {
+
+        @Override
+        public void onEvent(GameEvent event) {
+            if (event instanceof GameEvent.StaminaChanged changed) {
+                observer.onStaminaChanged(changed.character(), changed.oldStamina(), changed.newStamina());
+            } else if (event instanceof GameEvent.StaminaRecovered recovered) {
+                observer.onStaminaRecovered(recovered.character(), recovered.amount());
+            }
+        }
+    }
+}
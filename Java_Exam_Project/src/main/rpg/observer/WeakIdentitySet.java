@@ -0,0 +1,119 @@
+package rpg.observer;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * WeakIdentitySet - Set of objects compared by identity and held weakly
+ * <p>
+ * Membership is a hash lookup on {@link System#identityHashCode(Object)},
+ * so two distinct objects that happen to be equal are both kept. The set
+ * does not keep its elements alive: once an element is only reachable from
+ * here, the garbage collector reclaims it and the set forgets it the next
+ * time it is used.
+ * </p>
+ * <p>
+ * The set is not thread-safe; callers synchronize if they share it.
+ * </p>
+ *
+ * @param <T> The type of the elements
+ */
+final class WeakIdentitySet<T> {
+
+    private final Set<Entry> entries = new HashSet<>();
+    private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+    /**
+     * Adds an element
+     *
+     * @param element The element, ignored if null
+     * @return true if the element was not in the set
+     */
+    boolean add(T element) {
+        if (element == null) {
+            return false;
+        }
+        expungeCollected();
+        if (entries.contains(new Entry(element, null))) {
+            return false;
+        }
+        return entries.add(new Entry(element, collected));
+    }
+
+    /**
+     * Checks whether an element is in the set
+     *
+     * @param element The element
+     * @return true if this very object was added and is still in the set
+     */
+    boolean contains(T element) {
+        return element != null && entries.contains(new Entry(element, null));
+    }
+
+    /**
+     * Removes an element
+     *
+     * @param element The element
+     * @return true if the element was in the set
+     */
+    boolean remove(T element) {
+        return element != null && entries.remove(new Entry(element, null));
+    }
+
+    /**
+     * Gets the number of elements still alive
+     *
+     * @return The number of elements
+     */
+    int size() {
+        expungeCollected();
+        return entries.size();
+    }
+
+    /**
+     * Forgets the elements reclaimed by the garbage collector
+     */
+    private void expungeCollected() {
+        Reference<? extends T> reference;
+        while ((reference = collected.poll()) != null) {
+            entries.remove(reference);
+        }
+    }
+
+    /**
+     * Entry - Weak reference hashed and compared by the identity of its referent
+     * <p>
+     * A cleared entry is only equal to itself, which is enough to remove it
+     * once it comes out of the reference queue.
+     * </p>
+     */
+    private final class Entry extends WeakReference<T> {
+
+        private final int hash;
+
+        Entry(T referent, ReferenceQueue<T> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof WeakIdentitySet<?>.Entry other)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == other.get();
+        }
+    }
+}
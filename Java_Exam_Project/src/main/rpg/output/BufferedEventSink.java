@@ -0,0 +1,80 @@
+package rpg.output;
+
+import java.io.PrintStream;
+
+/**
+ * BufferedEventSink - Collects messages in memory
+ * <p>
+ * Messages are rendered into a private buffer without touching any shared
+ * stream; the owner decides when to flush them (for example once per turn
+ * or once per network response). The sink is meant to be owned by a single
+ * game session and is not thread-safe.
+ * </p>
+ */
+public class BufferedEventSink implements GameEventSink {
+
+    private final StringBuilder buffer;
+    private int messageCount;
+
+    /**
+     * Creates an empty buffered sink
+     */
+    public BufferedEventSink() {
+        this.buffer = new StringBuilder(256);
+    }
+
+    /**
+     * Renders a message into the buffer
+     *
+     * @param message The message to emit
+     * @param actor The acting character or monster name
+     * @param detail A secondary name (usually an item)
+     * @param value The main numeric value
+     * @param current The current value of the affected statistic
+     * @param max The maximum value of the affected statistic
+     */
+    @Override
+    public void emit(GameMessage message, String actor, String detail, int value, int current, int max) {
+        message.renderTo(buffer, actor, detail, value, current, max).append(System.lineSeparator());
+        messageCount++;
+    }
+
+    /**
+     * Gets the number of messages collected since the last flush
+     *
+     * @return The number of buffered messages
+     */
+    public int getMessageCount() {
+        return messageCount;
+    }
+
+    /**
+     * Gets the buffered text without clearing it
+     *
+     * @return The buffered messages, one per line
+     */
+    public String getText() {
+        return buffer.toString();
+    }
+
+    /**
+     * Writes the buffered messages to a stream and clears the buffer
+     *
+     * @param out The stream to write to
+     */
+    public void flushTo(PrintStream out) {
+        if (buffer.length() > 0) {
+            out.print(buffer);
+            out.flush();
+        }
+        clear();
+    }
+
+    /**
+     * Discards the buffered messages
+     */
+    public void clear() {
+        buffer.setLength(0);
+        messageCount = 0;
+    }
+}
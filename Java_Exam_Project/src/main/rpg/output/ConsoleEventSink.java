@@ -0,0 +1,55 @@
+package rpg.output;
+
+import rpg.server.GameSession;
+
+import java.io.PrintStream;
+
+/**
+ * ConsoleEventSink - Prints every message, one per line
+ * <p>
+ * This is the default sink of the interactive game and reproduces the
+ * output that game objects used to print directly. Without an explicit
+ * stream it writes to the channel of the current session, which is
+ * {@code System.out} for the console game.
+ * </p>
+ */
+public class ConsoleEventSink implements GameEventSink {
+
+    private static final ConsoleEventSink DEFAULT = new ConsoleEventSink(null);
+
+    private final PrintStream out;
+
+    /**
+     * Creates a sink printing to the given stream
+     *
+     * @param out The stream to print to, or null for the current session
+     */
+    public ConsoleEventSink(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Gets the shared sink printing to the current session
+     *
+     * @return The default console sink
+     */
+    public static ConsoleEventSink getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Renders and prints a message
+     *
+     * @param message The message to emit
+     * @param actor The acting character or monster name
+     * @param detail A secondary name (usually an item)
+     * @param value The main numeric value
+     * @param current The current value of the affected statistic
+     * @param max The maximum value of the affected statistic
+     */
+    @Override
+    public void emit(GameMessage message, String actor, String detail, int value, int current, int max) {
+        PrintStream target = out != null ? out : GameSession.current().getChannel().getOut();
+        target.println(message.render(actor, detail, value, current, max));
+    }
+}
@@ -0,0 +1,78 @@
+package rpg.output;
+
+/**
+ * GameEventSink - Destination of the messages emitted by game objects
+ * <p>
+ * Characters, monsters, inventories and the combat system receive a sink
+ * instead of writing to {@code System.out}. The sink decides what to do with
+ * each {@link GameMessage}:
+ * <ul>
+ *   <li>{@link ConsoleEventSink} prints it, as the interactive game does</li>
+ *   <li>{@link BufferedEventSink} collects it for a later flush</li>
+ *   <li>{@link NoOpEventSink} drops it without rendering anything</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Arguments are passed unformatted and with fixed arity, so emitting a
+ * message allocates nothing when the sink ignores it.
+ * </p>
+ */
+public interface GameEventSink {
+
+    /**
+     * Emits a message with all of its arguments
+     *
+     * @param message The message to emit
+     * @param actor The acting character or monster name
+     * @param detail A secondary name (usually an item)
+     * @param value The main numeric value (damage, amount, level)
+     * @param current The current value of the affected statistic
+     * @param max The maximum value of the affected statistic
+     */
+    void emit(GameMessage message, String actor, String detail, int value, int current, int max);
+
+    /**
+     * Emits a message that only names its actor
+     *
+     * @param message The message to emit
+     * @param actor The acting character or monster name
+     */
+    default void emit(GameMessage message, String actor) {
+        emit(message, actor, null, 0, 0, 0);
+    }
+
+    /**
+     * Emits a message with an actor and a numeric value
+     *
+     * @param message The message to emit
+     * @param actor The acting character or monster name
+     * @param value The main numeric value
+     */
+    default void emit(GameMessage message, String actor, int value) {
+        emit(message, actor, null, value, 0, 0);
+    }
+
+    /**
+     * Emits a message with an actor and a secondary name
+     *
+     * @param message The message to emit
+     * @param actor The acting character or monster name
+     * @param detail The secondary name (usually an item)
+     */
+    default void emit(GameMessage message, String actor, String detail) {
+        emit(message, actor, detail, 0, 0, 0);
+    }
+
+    /**
+     * Emits a message about a bounded statistic (health, stamina, mana)
+     *
+     * @param message The message to emit
+     * @param actor The acting character or monster name
+     * @param value The amount of the change
+     * @param current The current value of the statistic
+     * @param max The maximum value of the statistic
+     */
+    default void emit(GameMessage message, String actor, int value, int current, int max) {
+        emit(message, actor, null, value, current, max);
+    }
+}
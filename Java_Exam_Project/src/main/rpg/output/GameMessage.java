@@ -0,0 +1,169 @@
+package rpg.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameMessage - Catalog of the messages produced by game objects
+ * <p>
+ * Characters, monsters, inventories and the combat system no longer format
+ * text themselves: they emit one of these constants with its raw arguments
+ * to a {@link GameEventSink}. Only sinks that actually show the message pay
+ * for rendering it.
+ * </p>
+ * <p>
+ * Templates use named placeholders ({@code {actor}}, {@code {detail}},
+ * {@code {value}}, {@code {current}}, {@code {max}}) that are parsed once,
+ * when the enum is loaded, so rendering is a sequence of appends.
+ * </p>
+ */
+public enum GameMessage {
+    CHARACTER_DAMAGED("{actor} takes {value} damage! Health: {current}/{max}"),
+    CHARACTER_DEFEATED("{actor} has been defeated!"),
+    STAMINA_RESTORED("{actor} restored {value} stamina. Stamina: {current}/{max}"),
+    STAMINA_USED("{actor} used {value} stamina. Stamina: {current}/{max}"),
+    CHARACTER_RESTED("{actor} rests and recovers stamina."),
+    TRAINING_NO_MONEY("Not enough money to train!"),
+    LEVEL_UP("{actor} is now level {value}!"),
+    WARRIOR_TOO_TIRED("{actor} is too tired to attack!"),
+    WARRIOR_ATTACK("{actor} attacks for {value} damage!"),
+    WARRIOR_TRAINED("{actor} trains with weapons!"),
+    MAGE_TOO_TIRED("{actor} is too tired!"),
+    MAGE_SPELL("{actor} casts a spell for {value} damage! Mana: {current}/{max}"),
+    MAGE_STAFF("{actor} attacks with staff for {value} damage!"),
+    MAGE_TRAINED("{actor} studies magic!"),
+    MAGE_MEDITATED("{actor} meditates and restores mana!"),
+    ITEM_NOT_IN_INVENTORY("Item not in inventory!"),
+    ITEM_EQUIPPED_BY("{actor} equipped {detail}!"),
+    ITEM_ADDED_BY("{actor} added {detail}!"),
+    INVENTORY_ADDED("Added {detail} to inventory"),
+    INVENTORY_UNEQUIPPED("Unequipping {detail}"),
+    INVENTORY_EQUIPPED("Equipped {detail}"),
+    MONSTER_ATTACK("{actor} attacks for {value} damage!"),
+    MONSTER_INVALID_DAMAGE("Invalid damage ignored"),
+    MONSTER_DAMAGED("{actor} takes {value} damage! Health: {current}/{max}"),
+    MONSTER_DEFEATED("{actor} has been defeated!"),
+    PLAYER_HIT("You dealt {value} damage!"),
+    PLAYER_MISSED("You missed the target!"),
+    MONSTER_HIT("{actor} dealt {value} damage to you!"),
+    MONSTER_MISSED("{actor} missed the attack!");
+
+    // Placeholder codes stored in the compiled template
+    private static final int ACTOR = 0;
+    private static final int DETAIL = 1;
+    private static final int VALUE = 2;
+    private static final int CURRENT = 3;
+    private static final int MAX = 4;
+
+    private final String template;
+    private final String[] literals;
+    private final int[] arguments;
+
+    /**
+     * Constructor for GameMessage enum
+     * <p>
+     * Splits the template into literal parts and placeholder codes:
+     * literals[i] is appended before arguments[i], and the last literal
+     * closes the message.
+     * </p>
+     *
+     * @param template The message template
+     */
+    GameMessage(String template) {
+        this.template = template;
+
+        List<String> parts = new ArrayList<>();
+        List<Integer> codes = new ArrayList<>();
+        int start = 0;
+        int open = template.indexOf('{');
+        while (open >= 0) {
+            int code = placeholderAt(template, open);
+            if (code >= 0) {
+                parts.add(template.substring(start, open));
+                codes.add(code);
+                start = open + Placeholders.NAMES[code].length();
+            }
+            open = template.indexOf('{', open + 1);
+        }
+        parts.add(template.substring(start));
+
+        this.literals = parts.toArray(new String[0]);
+        this.arguments = codes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Identifies the placeholder starting at a position of a template
+     *
+     * @param template The template to inspect
+     * @param index The position of the opening brace
+     * @return The placeholder code, or -1 if the brace is a literal
+     */
+    private static int placeholderAt(String template, int index) {
+        for (int code = 0; code < Placeholders.NAMES.length; code++) {
+            if (template.startsWith(Placeholders.NAMES[code], index)) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Placeholder names, indexed by placeholder code
+     * <p>
+     * Kept in a holder class because enum constructors run before the
+     * enum's own static fields are initialized.
+     * </p>
+     */
+    private static final class Placeholders {
+        private static final String[] NAMES = {"{actor}", "{detail}", "{value}", "{current}", "{max}"};
+    }
+
+    /**
+     * Gets the raw message template
+     *
+     * @return The template with its placeholders
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Appends the rendered message to a buffer
+     *
+     * @param out The buffer receiving the text
+     * @param actor The acting character or monster name
+     * @param detail A secondary name (usually an item)
+     * @param value The main numeric value (damage, amount, level)
+     * @param current The current value of the affected statistic
+     * @param max The maximum value of the affected statistic
+     * @return The same buffer, for chaining
+     */
+    public StringBuilder renderTo(StringBuilder out, String actor, String detail, int value, int current, int max) {
+        for (int i = 0; i < arguments.length; i++) {
+            out.append(literals[i]);
+            switch (arguments[i]) {
+                case ACTOR -> out.append(actor);
+                case DETAIL -> out.append(detail);
+                case VALUE -> out.append(value);
+                case CURRENT -> out.append(current);
+                case MAX -> out.append(max);
+                default -> throw new IllegalStateException("Unknown placeholder in " + name());
+            }
+        }
+        return out.append(literals[literals.length - 1]);
+    }
+
+    /**
+     * Renders the message as a string
+     *
+     * @param actor The acting character or monster name
+     * @param detail A secondary name (usually an item)
+     * @param value The main numeric value (damage, amount, level)
+     * @param current The current value of the affected statistic
+     * @param max The maximum value of the affected statistic
+     * @return The rendered message
+     */
+    public String render(String actor, String detail, int value, int current, int max) {
+        return renderTo(new StringBuilder(template.length() + 16), actor, detail, value, current, max).toString();
+    }
+}
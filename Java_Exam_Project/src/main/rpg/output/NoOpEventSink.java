@@ -0,0 +1,37 @@
+package rpg.output;
+
+/**
+ * NoOpEventSink - Discards every message
+ * <p>
+ * Used by simulations and headless servers: game objects run their normal
+ * code paths but no message is ever rendered or printed.
+ * </p>
+ */
+public final class NoOpEventSink implements GameEventSink {
+
+    /**
+     * Shared instance; the sink has no state
+     */
+    public static final NoOpEventSink INSTANCE = new NoOpEventSink();
+
+    /**
+     * Private constructor - use {@link #INSTANCE}
+     */
+    private NoOpEventSink() {
+    }
+
+    /**
+     * Ignores the message
+     *
+     * @param message The message to emit
+     * @param actor The acting character or monster name
+     * @param detail A secondary name (usually an item)
+     * @param value The main numeric value
+     * @param current The current value of the affected statistic
+     * @param max The maximum value of the affected statistic
+     */
+    @Override
+    public void emit(GameMessage message, String actor, String detail, int value, int current, int max) {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,91 @@
+package rpg.rpgIO;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * AtomicFiles - Crash-safe file replacement
+ * <p>
+ * A file is replaced by writing the new content to a temporary file in the
+ * same directory, forcing it to disk and renaming it over the target with
+ * {@link StandardCopyOption#ATOMIC_MOVE}. Readers see either the old or the
+ * new content, never a truncated file, even if the process dies mid-write.
+ * The directory is then forced too, so the rename itself survives a power
+ * failure.
+ * </p>
+ */
+public final class AtomicFiles {
+
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  /**
+   * Private constructor - utility class
+   */
+  private AtomicFiles() {
+  }
+
+  /**
+   * Atomically replaces a file with new content
+   *
+   * @param target The file to write
+   * @param content The new content
+   * @throws IOException If writing or renaming fails; the target is then unchanged
+   */
+  public static void write(Path target, byte[] content) throws IOException {
+    Path dir = target.toAbsolutePath().getParent();
+    // Leading dot keeps temp files out of "*.save" listings
+    Path temp = Files.createTempFile(dir, "." + target.getFileName(), TEMP_SUFFIX);
+    try {
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+      move(temp, target);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  /**
+   * Renames a file over another, atomically where the file system allows it,
+   * and forces the directory entry to disk
+   *
+   * @param source The file to rename
+   * @param target The file to replace
+   * @throws IOException If the rename fails
+   */
+  static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+    forceDirectory(target.toAbsolutePath().getParent());
+  }
+
+  /**
+   * Forces a directory to disk, making the renames done in it durable
+   * <p>
+   * Some platforms (e.g. Windows) cannot open or sync a directory; there
+   * the rename is left to the file system.
+   * </p>
+   *
+   * @param dir The directory
+   */
+  static void forceDirectory(Path dir) {
+    try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException e) {
+      // Not supported on this platform
+    }
+  }
+}
@@ -0,0 +1,309 @@
+package rpg.rpgIO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import rpg.factory.Character;
+import rpg.logger.GameLogger;
+import rpg.rpgSecurity.InputValidator;
+
+/**
+ * AutosaveService - Background, batched autosaves
+ * <p>
+ * Game events (dungeon cleared, training, rest) call {@link #autosave};
+ * the character is snapshotted on the calling thread, which is cheap, and
+ * the disk write happens later on a background thread. Requests for the
+ * same save are coalesced: if a character trains five times between two
+ * flushes, only the last snapshot is written.
+ * </p>
+ * <p>
+ * Pending saves are flushed in batches every {@code game.autosave.interval}
+ * milliseconds (default 5000) and once more at JVM shutdown, before the
+ * save journal is closed. Autosaving is opt-in with
+ * {@code game.autosave=true}; when disabled, {@link #autosave} does
+ * nothing. Autosaves go to {@code auto_<character name>}.
+ * </p>
+ * <p>
+ * Metrics: queue depth (pending saves), saves written, requests coalesced,
+ * failures, and last/maximum/average flush latency.
+ * </p>
+ */
+public final class AutosaveService implements Closeable {
+
+  public static final String SAVE_PREFIX = "auto_";
+
+  private static final boolean ENABLED = Boolean.getBoolean("game.autosave");
+  private static final long DEFAULT_INTERVAL_MILLIS = 5000;
+  private static final Logger logger = GameLogger.getLogger();
+
+  /**
+   * Writer - Destination of flushed saves
+   */
+  @FunctionalInterface
+  public interface Writer {
+
+    /**
+     * Writes one save
+     *
+     * @param saveName The save name without extension
+     * @param data The save data
+     * @throws IOException If the save cannot be written
+     */
+    void write(String saveName, SaveData data) throws IOException;
+  }
+
+  private final Writer writer;
+  private final Map<String, SaveData> pending = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService executor;
+
+  private final AtomicLong requested = new AtomicLong();
+  private final AtomicLong saved = new AtomicLong();
+  private final AtomicLong coalesced = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong flushes = new AtomicLong();
+  private final AtomicLong totalFlushNanos = new AtomicLong();
+  private volatile long lastFlushNanos;
+  private volatile long maxFlushNanos;
+
+  /**
+   * Creates an autosave service flushing at a fixed interval
+   *
+   * @param intervalMillis Time between two flushes in milliseconds
+   * @param writer The destination of flushed saves
+   * @throws IllegalArgumentException If the interval is not positive or the writer is null
+   */
+  public AutosaveService(long intervalMillis, Writer writer) {
+    if (intervalMillis <= 0) {
+      throw new IllegalArgumentException("Autosave interval must be positive");
+    }
+    if (writer == null) {
+      throw new IllegalArgumentException("Writer cannot be null");
+    }
+    this.writer = writer;
+    this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "rpg-autosave");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Requests an autosave of a character if autosaving is enabled
+   *
+   * @param character The character to save
+   */
+  public static void autosave(Character character) {
+    if (ENABLED && character != null) {
+      Holder.INSTANCE.submit(character);
+    }
+  }
+
+  /**
+   * Checks whether autosaving is enabled
+   *
+   * @return true if {@code game.autosave} is set
+   */
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  /**
+   * Gets the shared service used by {@link #autosave}
+   *
+   * @return The shared service (created on first use)
+   */
+  public static AutosaveService getDefault() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Lazy holder for the shared service
+   */
+  private static final class Holder {
+    static final AutosaveService INSTANCE = createDefault();
+
+    private static AutosaveService createDefault() {
+      long interval = Long.getLong("game.autosave.interval", DEFAULT_INTERVAL_MILLIS);
+      AutosaveService service = new AutosaveService(interval, CharacterManagement::storeSave);
+      CharacterManagement.closeAtShutdown(service);
+      return service;
+    }
+  }
+
+  /**
+   * Queues a snapshot of a character, replacing any pending one for the same save
+   *
+   * @param character The character to save
+   * @throws IllegalArgumentException If the character is null or has no usable name
+   */
+  public void submit(Character character) {
+    if (character == null) {
+      throw new IllegalArgumentException("Character cannot be null");
+    }
+    String saveName = InputValidator.sanitizeFilename(SAVE_PREFIX + character.getName());
+    if (saveName.isEmpty()) {
+      throw new IllegalArgumentException("Cannot autosave character: " + character.getName());
+    }
+
+    requested.incrementAndGet();
+    if (pending.put(saveName, SaveData.fromCharacter(character)) != null) {
+      coalesced.incrementAndGet();
+    }
+  }
+
+  /**
+   * Writes all pending saves now
+   * <p>
+   * Runs on the background thread at every interval; may also be called
+   * directly. A failed save is logged and counted, not retried.
+   * </p>
+   */
+  public synchronized void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    long start = System.nanoTime();
+
+    List<String> names = new ArrayList<>(pending.keySet());
+    for (String saveName : names) {
+      SaveData data = pending.remove(saveName);
+      if (data == null) {
+        continue;
+      }
+      try {
+        writer.write(saveName, data);
+        saved.incrementAndGet();
+      } catch (IOException | RuntimeException e) {
+        failed.incrementAndGet();
+        logger.warning("Autosave failed for " + saveName + ": " + e.getMessage());
+      }
+    }
+
+    long elapsed = System.nanoTime() - start;
+    lastFlushNanos = elapsed;
+    maxFlushNanos = Math.max(maxFlushNanos, elapsed);
+    totalFlushNanos.addAndGet(elapsed);
+    flushes.incrementAndGet();
+    logger.fine("Autosave flushed " + names.size() + " saves in " + elapsed / 1_000_000 + " ms");
+  }
+
+  /**
+   * Flushes pending saves and stops the background thread
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      executor.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+
+  /**
+   * Gets the number of saves waiting to be written
+   *
+   * @return The queue depth
+   */
+  public int getQueueDepth() {
+    return pending.size();
+  }
+
+  /**
+   * Gets the number of autosave requests
+   *
+   * @return The number of calls to {@link #submit}
+   */
+  public long getRequestedCount() {
+    return requested.get();
+  }
+
+  /**
+   * Gets the number of saves written
+   *
+   * @return The number of successful writes
+   */
+  public long getSavedCount() {
+    return saved.get();
+  }
+
+  /**
+   * Gets the number of requests replaced by a later one before being written
+   *
+   * @return The number of coalesced requests
+   */
+  public long getCoalescedCount() {
+    return coalesced.get();
+  }
+
+  /**
+   * Gets the number of failed writes
+   *
+   * @return The number of failures
+   */
+  public long getFailedCount() {
+    return failed.get();
+  }
+
+  /**
+   * Gets the number of non-empty flushes
+   *
+   * @return The flush count
+   */
+  public long getFlushCount() {
+    return flushes.get();
+  }
+
+  /**
+   * Gets the duration of the last flush
+   *
+   * @return The latency in milliseconds
+   */
+  public double getLastFlushMillis() {
+    return lastFlushNanos / 1e6;
+  }
+
+  /**
+   * Gets the duration of the slowest flush
+   *
+   * @return The latency in milliseconds
+   */
+  public double getMaxFlushMillis() {
+    return maxFlushNanos / 1e6;
+  }
+
+  /**
+   * Gets the average flush duration
+   *
+   * @return The latency in milliseconds, or 0 if nothing was flushed
+   */
+  public double getAverageFlushMillis() {
+    long count = flushes.get();
+    return count == 0 ? 0 : totalFlushNanos.get() / 1e6 / count;
+  }
+
+  /**
+   * Returns a summary of the metrics
+   *
+   * @return A one-line description of the service state
+   */
+  @Override
+  public String toString() {
+    return String.format(
+        "Autosave: %d queued, %d requested, %d saved, %d coalesced, %d failed, "
+            + "flush avg %.2f ms / max %.2f ms",
+        getQueueDepth(), getRequestedCount(), getSavedCount(), getCoalescedCount(),
+        getFailedCount(), getAverageFlushMillis(), getMaxFlushMillis());
+  }
+}
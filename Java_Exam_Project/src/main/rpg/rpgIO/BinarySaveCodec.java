@@ -0,0 +1,280 @@
+package rpg.rpgIO;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import rpg.iterator.Item;
+
+/**
+ * BinarySaveCodec - Compact, versioned binary save format
+ * <p>
+ * Layout:
+ * <pre>
+ * offset size  field
+ * 0      4     magic "RPGS"
+ * 4      1     format version
+ * 5      1     type tag (1 = Warrior, 2 = Mage)
+ * 6      1     flags (bit 0 = mana fields, bit 1 = inventory)
+ * 7      1     reserved (0)
+ * 8      var   name: varint length + UTF-8 bytes
+ * ...    var   health, maxHealth, stamina, maxStamina, damage, money, level
+ * ...    var   mana, maxMana (only if flag bit 0 is set)
+ * ...    var   inventory (only if flag bit 1 is set, version 2+):
+ *                dictionary size, then per item: name, type ordinal, value, bonus;
+ *                item count + dictionary indices; equipped count + indices
+ * </pre>
+ * Numbers are unsigned LEB128 varints: statistics below 128 take a single
+ * byte, so a typical save is around 20 bytes instead of ~200 for the
+ * Properties format, and decoding needs no text parsing.
+ * </p>
+ */
+public class BinarySaveCodec implements SaveCodec {
+
+  static final byte[] MAGIC = {'R', 'P', 'G', 'S'};
+  static final int HEADER_SIZE = 8;
+  static final int VERSION = 2;
+
+  private static final int TAG_WARRIOR = 1;
+  private static final int TAG_MAGE = 2;
+  private static final int FLAG_MANA = 1;
+  private static final int FLAG_INVENTORY = 2;
+  private static final int MAX_NAME_BYTES = 256;
+  // Largest dictionary or reference list accepted when reading (shared with the text format)
+  static final int MAX_ELEMENTS = 1 << 20;
+  private static final Item.ItemType[] ITEM_TYPES = Item.ItemType.values();
+
+  /**
+   * Writes a save in the binary format
+   *
+   * @param data The save data to write
+   * @param out The destination stream
+   * @throws IOException If writing fails
+   */
+  @Override
+  public void write(SaveData data, OutputStream out) throws IOException {
+    byte[] header = new byte[HEADER_SIZE];
+    System.arraycopy(MAGIC, 0, header, 0, MAGIC.length);
+    header[4] = VERSION;
+    header[5] = (byte) (SaveData.TYPE_WARRIOR.equals(data.type) ? TAG_WARRIOR : TAG_MAGE);
+    header[6] = (byte) ((data.hasMana ? FLAG_MANA : 0) | (data.hasInventory() ? FLAG_INVENTORY : 0));
+    out.write(header);
+
+    writeString(out, data.name);
+
+    writeVarint(out, data.health);
+    writeVarint(out, data.maxHealth);
+    writeVarint(out, data.stamina);
+    writeVarint(out, data.maxStamina);
+    writeVarint(out, data.damage);
+    writeVarint(out, data.money);
+    writeVarint(out, data.level);
+
+    if (data.hasMana) {
+      writeVarint(out, data.mana);
+      writeVarint(out, data.maxMana);
+    }
+
+    if (data.hasInventory()) {
+      writeVarint(out, data.dictionary.length);
+      for (Item item : data.dictionary) {
+        writeString(out, item.getName());
+        out.write(item.getType().ordinal());
+        writeVarint(out, item.getValue());
+        writeVarint(out, item.getStatBonus());
+      }
+      writeRefs(out, data.inventory);
+      writeRefs(out, data.equipped);
+    }
+  }
+
+  /**
+   * Reads a save in the binary format
+   *
+   * @param in The source stream
+   * @return The decoded save data
+   * @throws IOException If reading fails or the header is not valid
+   */
+  @Override
+  public SaveData read(InputStream in) throws IOException {
+    byte[] header = in.readNBytes(HEADER_SIZE);
+    if (!hasMagic(header)) {
+      throw new IOException("Corrupted save file - bad binary header");
+    }
+    if (header[4] > VERSION) {
+      throw new IOException("Unsupported save version: " + header[4]);
+    }
+
+    SaveData data = new SaveData();
+    if (header[5] == TAG_WARRIOR) {
+      data.type = SaveData.TYPE_WARRIOR;
+    } else if (header[5] == TAG_MAGE) {
+      data.type = SaveData.TYPE_MAGE;
+    } else {
+      throw new IOException("Corrupted save file - bad character type: " + header[5]);
+    }
+    data.hasMana = (header[6] & FLAG_MANA) != 0;
+    data.name = readString(in);
+
+    data.health = readVarint(in);
+    data.maxHealth = readVarint(in);
+    data.stamina = readVarint(in);
+    data.maxStamina = readVarint(in);
+    data.damage = readVarint(in);
+    data.money = readVarint(in);
+    data.level = readVarint(in);
+
+    if (data.hasMana) {
+      data.mana = readVarint(in);
+      data.maxMana = readVarint(in);
+    }
+
+    if ((header[6] & FLAG_INVENTORY) != 0) {
+      data.dictionary = new Item[readCount(in)];
+      for (int i = 0; i < data.dictionary.length; i++) {
+        String itemName = readString(in);
+        int type = in.read();
+        if (type < 0 || type >= ITEM_TYPES.length) {
+          throw new IOException("Corrupted save file - bad item type: " + type);
+        }
+        data.dictionary[i] = Item.of(itemName, ITEM_TYPES[type], readVarint(in), readVarint(in));
+      }
+      data.inventory = readRefs(in);
+      data.equipped = readRefs(in);
+      data.checkInventory();
+    }
+    return data;
+  }
+
+  /**
+   * Writes a varint length followed by UTF-8 bytes
+   *
+   * @param out The destination stream
+   * @param value The string to write
+   * @throws IOException If writing fails
+   */
+  private static void writeString(OutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarint(out, bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * Reads a string written by {@link #writeString}
+   *
+   * @param in The source stream
+   * @return The decoded string
+   * @throws IOException If the length is invalid or the stream ends early
+   */
+  private static String readString(InputStream in) throws IOException {
+    int length = readVarint(in);
+    if (length <= 0 || length > MAX_NAME_BYTES) {
+      throw new IOException("Corrupted save file - bad name length: " + length);
+    }
+    byte[] bytes = in.readNBytes(length);
+    if (bytes.length != length) {
+      throw new EOFException("Truncated save file");
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Writes a count followed by dictionary indices
+   *
+   * @param out The destination stream
+   * @param refs The indices
+   * @throws IOException If writing fails
+   */
+  private static void writeRefs(OutputStream out, int[] refs) throws IOException {
+    writeVarint(out, refs.length);
+    for (int ref : refs) {
+      writeVarint(out, ref);
+    }
+  }
+
+  /**
+   * Reads a list written by {@link #writeRefs}
+   *
+   * @param in The source stream
+   * @return The indices
+   * @throws IOException If the stream ends early
+   */
+  private static int[] readRefs(InputStream in) throws IOException {
+    int[] refs = new int[readCount(in)];
+    for (int i = 0; i < refs.length; i++) {
+      refs[i] = readVarint(in);
+    }
+    return refs;
+  }
+
+  /**
+   * Reads an element count, rejecting values no real save can have
+   *
+   * @param in The source stream
+   * @return The count
+   * @throws IOException If the count is negative or too large
+   */
+  private static int readCount(InputStream in) throws IOException {
+    int count = readVarint(in);
+    if (count < 0 || count > MAX_ELEMENTS) {
+      throw new IOException("Corrupted save file - bad element count: " + count);
+    }
+    return count;
+  }
+
+  /**
+   * Checks whether the given bytes start with the binary save magic
+   *
+   * @param head The first bytes of a file
+   * @return true if the bytes identify a binary save
+   */
+  static boolean hasMagic(byte[] head) {
+    if (head == null || head.length < MAGIC.length) {
+      return false;
+    }
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (head[i] != MAGIC[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Writes an int as an unsigned LEB128 varint
+   *
+   * @param out The destination stream
+   * @param value The value to write
+   * @throws IOException If writing fails
+   */
+  static void writeVarint(OutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write(value);
+  }
+
+  /**
+   * Reads an unsigned LEB128 varint
+   *
+   * @param in The source stream
+   * @return The decoded value
+   * @throws IOException If the stream ends early or the varint is too long
+   */
+  static int readVarint(InputStream in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = in.read();
+      if (b < 0) {
+        throw new EOFException("Truncated save file");
+      }
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Corrupted save file - varint too long");
+  }
+}
@@ -4,11 +4,15 @@ import rpg.factory.Character;
 import rpg.factory.CharacterFactory;
 import rpg.factory.Mage;
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
 import rpg.logger.GameLogger;
 import rpg.rpgSecurity.InputValidator;
 import rpg.rpgSecurity.ExceptionHandler;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
 
-import java.util.Properties;
 import java.util.logging.Logger;
 
 /**
@@ -20,8 +24,17 @@ import java.util.logging.Logger;
  * continue later.
  * </p>
  * <p>
- * The implementation uses Properties to store character data in a simple
- * text-based format, with appropriate error handling and security measures.
+ * Saves are written with the codec selected by {@code game.save.format}
+ * (the Properties text format by default, or the compact binary format);
+ * loading detects the format from the file content, so existing saves keep
+ * loading after the setting changes. See {@link SaveFormat}.
+ * </p>
+ * <p>
+ * Save files are replaced atomically ({@link AtomicFiles}), so a crash
+ * during a save never leaves a truncated file; {@code game.save.atomic=false}
+ * restores in-place writes. With {@code game.save.journal=true} saves are
+ * appended to a {@link SaveJournal} and compacted into the save files in the
+ * background.
  * </p>
  */
 public class CharacterManagement {
@@ -29,22 +42,57 @@ public class CharacterManagement {
   // Use external configuration instead of hardcoded values
   private static final String SAVE_DIR = System.getProperty("game.save.dir", "saves");
   private static final String FILE_EXT = System.getProperty("game.save.ext", ".save");
+  private static final boolean ATOMIC_SAVES =
+      Boolean.parseBoolean(System.getProperty("game.save.atomic", "true"));
+  private static final boolean JOURNAL_SAVES = Boolean.getBoolean("game.save.journal");
+  private static final long JOURNAL_COMPACT_BYTES =
+      Long.getLong("game.save.journal.compactBytes", 1L << 20);
   private static final Logger logger = GameLogger.getLogger();
 
   /**
-   * Saves a character to a file
+   * Gets the save directory
+   *
+   * @return The configured save directory
+   */
+  public static String getSaveDir() {
+    return SAVE_DIR;
+  }
+
+  /**
+   * Gets the save file extension
+   *
+   * @return The configured save file extension
+   */
+  public static String getFileExtension() {
+    return FILE_EXT;
+  }
+
+  /**
+   * Saves a character to a file, reporting to the current session
    *
    * @param character The character to save
    * @param filename The name of the save file (without extension)
    * @return true if save was successful, false otherwise
    */
   public static boolean saveCharacter(Character character, String filename) {
+    return saveCharacter(character, filename, GameSession.current().getChannel());
+  }
+
+  /**
+   * Saves a character to a file
+   *
+   * @param character The character to save
+   * @param filename The name of the save file (without extension)
+   * @param channel The channel receiving the messages for the player
+   * @return true if save was successful, false otherwise
+   */
+  public static boolean saveCharacter(Character character, String filename, SessionChannel channel) {
     logger.info(
         "Attempting to save character: " + (character != null ? character.getName() : "null"));
 
     if (character == null || filename == null) {
       logger.warning("Save failed: null character or filename");
-      System.out.println("Error saving!");
+      channel.println("Error saving!");
       return false;
     }
 
@@ -52,7 +100,7 @@ public class CharacterManagement {
     String safeFilename = InputValidator.sanitizeFilename(filename);
     if (safeFilename.isEmpty()) {
       logger.warning("Save failed: invalid filename after sanitization");
-      System.out.println("Invalid filename!");
+      channel.println("Invalid filename!");
       return false;
     }
 
@@ -65,29 +113,13 @@ public class CharacterManagement {
         logger.info("Save directory created: " + created);
         if (!created) {
           logger.warning("Failed to create save directory");
-          System.out.println("Failed to create save directory!");
+          channel.println("Failed to create save directory!");
           return false;
         }
       }
 
-      Properties props = new Properties();
-
-      // Save basic info with null checks
-      props.setProperty("name", character.getName() != null ? character.getName() : "Unknown");
-      props.setProperty("type", character.getClass().getSimpleName());
-      props.setProperty("health", String.valueOf(Math.max(0, character.getHealth())));
-      props.setProperty("maxHealth", String.valueOf(Math.max(1, character.getMaxHealth())));
-      props.setProperty("stamina", String.valueOf(Math.max(0, character.getStamina())));
-      props.setProperty("maxStamina", String.valueOf(Math.max(1, character.getMaxStamina())));
-      props.setProperty("damage", String.valueOf(Math.max(0, character.getBaseDamage())));
-      props.setProperty("money", String.valueOf(Math.max(0, character.getMoney())));
-      props.setProperty("level", String.valueOf(Math.max(1, character.getLevel())));
-
-      // Save mage mana if needed
+      SaveData data = SaveData.fromCharacter(character);
       if (character instanceof Mage) {
-        Mage mage = (Mage) character;
-        props.setProperty("mana", String.valueOf(Math.max(0, mage.getMana())));
-        props.setProperty("maxMana", String.valueOf(Math.max(1, mage.getMaxMana())));
         logger.info("Saved mage-specific data for: " + character.getName());
       }
 
@@ -97,44 +129,116 @@ public class CharacterManagement {
         fullFilename += FILE_EXT;
       }
 
+      String key = fullFilename.substring(0, fullFilename.length() - FILE_EXT.length());
       File saveFile = new File(SAVE_DIR + "/" + fullFilename);
-      try (FileOutputStream out = new FileOutputStream(saveFile)) {
-        props.store(out, "Character Save");
+      long savedAt;
+      try {
+        savedAt = writeSave(key, saveFile, data);
         logger.info(
             "Character saved successfully: "
                 + character.getName()
                 + " to "
                 + saveFile.getAbsolutePath());
-        System.out.println("Character saved to " + saveFile.getAbsolutePath());
-        return true;
+        channel.println("Character saved to " + saveFile.getAbsolutePath());
       } catch (IOException e) {
         logger.severe("File write error: " + e.getMessage());
-        ExceptionHandler.handleSaveLoadError(e);
+        ExceptionHandler.handleSaveLoadError(e, channel);
         return false;
       } catch (Exception e) {
         logger.severe("Unexpected error during save: " + e.getMessage());
-        ExceptionHandler.handleException(e, "Save failed!");
+        ExceptionHandler.handleException(e, "Save failed!", channel);
         return false;
       }
+
+      SaveIndex index = getSaveIndex();
+      if (index != null) {
+        index.put(key, data, savedAt);
+      }
+      return true;
     } catch (Exception e) {
       logger.severe("Unexpected error preparing save: " + e.getMessage());
-      ExceptionHandler.handleException(e, "Save failed!");
+      ExceptionHandler.handleException(e, "Save failed!", channel);
       return false;
     }
   }
 
   /**
-   * Loads a character from a file
+   * Writes a save with the configured strategy
+   * <p>
+   * With the journal enabled the save is appended to it; otherwise the
+   * file is replaced atomically, or written in place when
+   * {@code game.save.atomic} is false.
+   * </p>
+   *
+   * @param key The save name without extension
+   * @param saveFile The snapshot file
+   * @param data The save data
+   * @return The modification time to record in the save index
+   * @throws IOException If the save cannot be written
+   */
+  private static long writeSave(String key, File saveFile, SaveData data) throws IOException {
+    SaveJournal journal = getSaveJournal();
+    if (journal != null) {
+      journal.append(key, data);
+      return System.currentTimeMillis();
+    }
+
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+    SaveFormat.configured().getCodec().write(data, buffer);
+
+    if (ATOMIC_SAVES) {
+      AtomicFiles.write(saveFile.toPath(), buffer.toByteArray());
+    } else {
+      try (FileOutputStream out = new FileOutputStream(saveFile)) {
+        buffer.writeTo(out);
+      }
+    }
+    return saveFile.lastModified();
+  }
+
+  /**
+   * Writes a save without console output and records it in the index
+   * <p>
+   * Used by background savers such as {@link AutosaveService}.
+   * </p>
+   *
+   * @param key The sanitized save name without extension
+   * @param data The save data
+   * @throws IOException If the save cannot be written
+   */
+  static void storeSave(String key, SaveData data) throws IOException {
+    Files.createDirectories(Paths.get(SAVE_DIR));
+    long savedAt = writeSave(key, new File(SAVE_DIR + "/" + key + FILE_EXT), data);
+
+    SaveIndex index = getSaveIndex();
+    if (index != null) {
+      index.put(key, data, savedAt);
+    }
+  }
+
+  /**
+   * Loads a character from a file, reporting to the current session
    *
    * @param filename The name of the save file (without extension)
    * @return The loaded character, or null if loading failed
    */
   public static Character loadCharacter(String filename) {
+    return loadCharacter(filename, GameSession.current().getChannel());
+  }
+
+  /**
+   * Loads a character from a file
+   *
+   * @param filename The name of the save file (without extension)
+   * @param channel The channel receiving the messages for the player
+   * @return The loaded character, or null if loading failed
+   */
+  public static Character loadCharacter(String filename, SessionChannel channel) {
     logger.info("Attempting to load character from: " + filename);
 
     if (filename == null || filename.trim().isEmpty()) {
       logger.warning("Load failed: invalid filename");
-      System.out.println("Invalid filename!");
+      channel.println("Invalid filename!");
       return null;
     }
 
@@ -142,118 +246,221 @@ public class CharacterManagement {
     String safeFilename = InputValidator.sanitizeFilename(filename.trim());
     if (safeFilename.isEmpty()) {
       logger.warning("Load failed: invalid filename");
-      System.out.println("Invalid filename!");
+      channel.println("Invalid filename!");
+      return null;
+    }
+
+    SaveData data = readSave(safeFilename, channel);
+    if (data == null) {
       return null;
     }
 
-    Properties props = new Properties();
+    try {
+      Character character = data.toCharacter(new CharacterFactory(channel));
+
+      if (character == null) {
+        logger.warning("Character factory returned null");
+        channel.println("Failed to create character!");
+        return null;
+      }
+
+      logger.info("Character loaded successfully: " + data.getName());
+      channel.println("Character loaded: " + data.getName());
+      return character;
+
+    } catch (Exception e) {
+      logger.severe("Error recreating character: " + e.getMessage());
+      channel.println("Load failed!");
+      return null;
+    }
+  }
+
+  /**
+   * Reads the latest save with the given name
+   * <p>
+   * A save still waiting in the journal takes precedence over its file.
+   * Error messages are printed here; the caller only checks for null.
+   * </p>
+   *
+   * @param safeFilename The sanitized save name without extension
+   * @param channel The channel receiving the error messages
+   * @return The save data, or null if it could not be read
+   */
+  private static SaveData readSave(String safeFilename, SessionChannel channel) {
+    SaveJournal journal = getSaveJournal();
+    SaveData journaled = journal != null ? journal.find(safeFilename) : null;
+    if (journaled != null) {
+      logger.info("Save loaded from journal: " + safeFilename);
+      return journaled;
+    }
+
     File saveFile = new File(SAVE_DIR + "/" + safeFilename + FILE_EXT);
 
     // Verify the file exists before attempting to load it
     if (!saveFile.exists()) {
       logger.warning("Save file not found: " + safeFilename);
-      System.out.println("Save file not found!");
+      channel.println("Save file not found!");
       return null;
     }
 
-    try (FileInputStream in = new FileInputStream(saveFile)) {
-      props.load(in);
+    byte[] content;
+    try {
+      content = Files.readAllBytes(saveFile.toPath());
       logger.info("File loaded successfully: " + safeFilename);
-    } catch (FileNotFoundException e) {
+    } catch (NoSuchFileException e) {
       logger.warning("Save file not found: " + safeFilename);
-      ExceptionHandler.handleSaveLoadError(e);
+      ExceptionHandler.handleSaveLoadError(e, channel);
       return null;
     } catch (IOException e) {
       logger.severe("File read error: " + e.getMessage());
-      ExceptionHandler.handleSaveLoadError(e);
+      ExceptionHandler.handleSaveLoadError(e, channel);
       return null;
     }
 
+    // The format is detected from the content, not from game.save.format
     try {
-      String name = props.getProperty("name");
-      String type = props.getProperty("type");
+      return SaveFormat.decode(content);
+    } catch (IOException e) {
+      logger.warning(e.getMessage());
+      channel.println("Bad save file!");
+      return null;
+    }
+  }
 
-      if (name == null || type == null) {
-        logger.warning("Corrupted save file - missing name or type");
-        System.out.println("Bad save file!");
-        return null;
-      }
+  /**
+   * Gets the index of the save directory, opening it on first use
+   * <p>
+   * The index is opened once and watches the directory for external
+   * changes. If it cannot be opened, callers fall back to scanning.
+   * </p>
+   *
+   * @return The save index, or null if it is unavailable
+   */
+  public static SaveIndex getSaveIndex() {
+    return SaveIndexHolder.INDEX;
+  }
 
-      // Create character
-      CharacterFactory factory = new CharacterFactory();
-      String charType = type.equals("Warrior") ? "warrior" : "mage";
+  /**
+   * Gets the save journal, opening it on first use
+   *
+   * @return The save journal, or null if journaling is disabled or unavailable
+   */
+  public static SaveJournal getSaveJournal() {
+    return JOURNAL_SAVES ? SaveJournalHolder.JOURNAL : null;
+  }
 
-      // First create the base character
-      Character character = factory.createCharacter(charType, name);
+  /**
+   * Lazy holder for the save journal
+   */
+  private static final class SaveJournalHolder {
+    static final SaveJournal JOURNAL = openJournal();
 
-      if (character == null) {
-        logger.warning("Character factory returned null");
-        System.out.println("Failed to create character!");
+    private static SaveJournal openJournal() {
+      try {
+        SaveJournal journal =
+            new SaveJournal(Paths.get(SAVE_DIR), FILE_EXT, JOURNAL_COMPACT_BYTES);
+        ShutdownHook.journal = journal;
+        ShutdownHook.install();
+        return journal;
+      } catch (IOException | RuntimeException e) {
+        logger.warning("Save journal unavailable, saving files directly: " + e.getMessage());
         return null;
       }
+    }
+  }
+
+  /**
+   * Closes an autosave service when the JVM shuts down, before the save journal
+   *
+   * @param service The autosave service
+   */
+  static void closeAtShutdown(AutosaveService service) {
+    ShutdownHook.autosave = service;
+    ShutdownHook.install();
+  }
 
-      // Load base values
+  /**
+   * Single shutdown hook of the save system
+   * <p>
+   * The JVM starts shutdown hooks together and in no set order, so the
+   * autosave service and the save journal share one hook: pending autosaves
+   * are flushed first, while the journal still accepts them, and the
+   * journal is closed second.
+   * </p>
+   */
+  private static final class ShutdownHook {
+    static volatile AutosaveService autosave;
+    static volatile SaveJournal journal;
+    private static boolean installed;
+
+    /**
+     * Registers the hook with the JVM once
+     */
+    static synchronized void install() {
+      if (installed) {
+        return;
+      }
       try {
-        // Read values from file
-        int health = Integer.parseInt(props.getProperty("health", "0"));
-        int maxHealth = Integer.parseInt(props.getProperty("maxHealth", "0"));
-        int stamina = Integer.parseInt(props.getProperty("stamina", "0"));
-        int maxStamina = Integer.parseInt(props.getProperty("maxStamina", "0"));
-        int damage = Integer.parseInt(props.getProperty("damage", "0"));
-        int money = Integer.parseInt(props.getProperty("money", "0"));
-        int level = Integer.parseInt(props.getProperty("level", "1"));
-
-        // Instead of using setters, recreate the character with loaded values
-        // This approach requires the factory to support creation with custom values
-        character =
-            factory.createCustomCharacter(
-                charType, name, health, maxHealth, stamina, maxStamina, damage, money, level);
-
-        // If the character is a mage, also load mana
-        if (character instanceof Mage
-            && props.containsKey("mana")
-            && props.containsKey("maxMana")) {
-          int mana = Integer.parseInt(props.getProperty("mana", "0"));
-          int maxMana = Integer.parseInt(props.getProperty("maxMana", "0"));
-
-          // Recreate the mage with mana values
-          character =
-              factory.createCustomMage(
-                  name,
-                  health,
-                  maxHealth,
-                  stamina,
-                  maxStamina,
-                  damage,
-                  money,
-                  level,
-                  mana,
-                  maxMana);
+        Runtime.getRuntime().addShutdownHook(new Thread(ShutdownHook::run, "rpg-save-shutdown"));
+        installed = true;
+      } catch (IllegalStateException e) {
+        // Already shutting down: the running hook reads the fields after the flush
+      }
+    }
+
+    private static void run() {
+      AutosaveService service = autosave;
+      if (service != null) {
+        service.close();
+      }
+      SaveJournal current = journal;
+      if (current != null) {
+        try {
+          current.close();
+        } catch (IOException e) {
+          logger.severe("Save journal compaction at shutdown failed: " + e.getMessage());
         }
-      } catch (NumberFormatException e) {
-        logger.warning("Error parsing numeric values: " + e.getMessage());
-        // Continue with default values
       }
+    }
+  }
 
-      logger.info("Character loaded successfully: " + name);
-      System.out.println("Character loaded: " + name);
-      return character;
+  /**
+   * Lazy holder for the save index
+   */
+  private static final class SaveIndexHolder {
+    static final SaveIndex INDEX = openIndex();
 
-    } catch (Exception e) {
-      logger.severe("Error recreating character: " + e.getMessage());
-      System.out.println("Load failed!");
-      return null;
+    private static SaveIndex openIndex() {
+      try {
+        SaveIndex index = new SaveIndex(Paths.get(SAVE_DIR), FILE_EXT);
+        index.startWatching();
+        return index;
+      } catch (IOException | RuntimeException e) {
+        logger.warning("Save index unavailable, listing will scan the directory: " + e.getMessage());
+        return null;
+      }
     }
   }
 
   /**
    * Lists all save files in the save directory
+   * <p>
+   * Served from the {@link SaveIndex} when it is available; otherwise the
+   * directory is scanned.
+   * </p>
    *
    * @return Array of save file names (without extensions)
    */
   public static String[] listSaveFiles() {
     logger.info("Listing save files");
 
+    SaveIndex index = getSaveIndex();
+    if (index != null) {
+      String[] names = index.listNames();
+      logger.info("Found " + names.length + " save files");
+      return names;
+    }
+
     try {
       File dir = new File(SAVE_DIR);
       if (!dir.exists()) {
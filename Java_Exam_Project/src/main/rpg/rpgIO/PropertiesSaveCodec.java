@@ -0,0 +1,181 @@
+package rpg.rpgIO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+import rpg.iterator.Item;
+
+/**
+ * PropertiesSaveCodec - The original text save format
+ * <p>
+ * Stores one {@code key=value} pair per statistic using
+ * {@link java.util.Properties}. The format is human-readable and is still
+ * the default, so existing save files keep working unchanged.
+ * </p>
+ * <p>
+ * The inventory is stored as an item dictionary ({@code item.N.name},
+ * {@code item.N.type}, {@code item.N.value}, {@code item.N.bonus}) and two
+ * comma-separated lists of dictionary indices, {@code inventory} and
+ * {@code equipped}. Saves without these keys load with an empty inventory.
+ * </p>
+ */
+public class PropertiesSaveCodec implements SaveCodec {
+
+  /**
+   * Writes a save as a Properties file
+   *
+   * @param data The save data to write
+   * @param out The destination stream
+   * @throws IOException If writing fails
+   */
+  @Override
+  public void write(SaveData data, OutputStream out) throws IOException {
+    Properties props = new Properties();
+
+    props.setProperty("name", data.name);
+    props.setProperty("type", data.type);
+    props.setProperty("health", String.valueOf(data.health));
+    props.setProperty("maxHealth", String.valueOf(data.maxHealth));
+    props.setProperty("stamina", String.valueOf(data.stamina));
+    props.setProperty("maxStamina", String.valueOf(data.maxStamina));
+    props.setProperty("damage", String.valueOf(data.damage));
+    props.setProperty("money", String.valueOf(data.money));
+    props.setProperty("level", String.valueOf(data.level));
+
+    if (data.hasMana) {
+      props.setProperty("mana", String.valueOf(data.mana));
+      props.setProperty("maxMana", String.valueOf(data.maxMana));
+    }
+
+    if (data.hasInventory()) {
+      props.setProperty("items", String.valueOf(data.dictionary.length));
+      for (int i = 0; i < data.dictionary.length; i++) {
+        Item item = data.dictionary[i];
+        String prefix = "item." + i + ".";
+        props.setProperty(prefix + "name", item.getName());
+        props.setProperty(prefix + "type", item.getType().name());
+        props.setProperty(prefix + "value", String.valueOf(item.getValue()));
+        props.setProperty(prefix + "bonus", String.valueOf(item.getStatBonus()));
+      }
+      props.setProperty("inventory", joinRefs(data.inventory));
+      props.setProperty("equipped", joinRefs(data.equipped));
+    }
+
+    props.store(out, "Character Save");
+  }
+
+  /**
+   * Reads a save from a Properties file
+   *
+   * @param in The source stream
+   * @return The decoded save data
+   * @throws IOException If reading fails, name or type are missing, or a value is not a number
+   */
+  @Override
+  public SaveData read(InputStream in) throws IOException {
+    Properties props = new Properties();
+    props.load(in);
+
+    SaveData data = new SaveData();
+    data.name = props.getProperty("name");
+    data.type = props.getProperty("type");
+    if (data.name == null || data.type == null) {
+      throw new IOException("Corrupted save file - missing name or type");
+    }
+
+    try {
+      data.health = Integer.parseInt(props.getProperty("health", "0"));
+      data.maxHealth = Integer.parseInt(props.getProperty("maxHealth", "0"));
+      data.stamina = Integer.parseInt(props.getProperty("stamina", "0"));
+      data.maxStamina = Integer.parseInt(props.getProperty("maxStamina", "0"));
+      data.damage = Integer.parseInt(props.getProperty("damage", "0"));
+      data.money = Integer.parseInt(props.getProperty("money", "0"));
+      data.level = Integer.parseInt(props.getProperty("level", "1"));
+
+      data.hasMana = props.containsKey("mana") && props.containsKey("maxMana");
+      if (data.hasMana) {
+        data.mana = Integer.parseInt(props.getProperty("mana"));
+        data.maxMana = Integer.parseInt(props.getProperty("maxMana"));
+      }
+
+      int itemCount = Integer.parseInt(props.getProperty("items", "0"));
+      if (itemCount > BinarySaveCodec.MAX_ELEMENTS) {
+        throw new IOException("Corrupted save file - bad item count: " + itemCount);
+      }
+      if (itemCount > 0) {
+        data.dictionary = new Item[itemCount];
+        for (int i = 0; i < itemCount; i++) {
+          data.dictionary[i] = readItem(props, "item." + i + ".");
+        }
+        data.inventory = splitRefs(props.getProperty("inventory", ""));
+        data.equipped = splitRefs(props.getProperty("equipped", ""));
+        data.checkInventory();
+      }
+    } catch (NumberFormatException e) {
+      throw new IOException("Corrupted save file - invalid number: " + e.getMessage(), e);
+    }
+    return data;
+  }
+
+  /**
+   * Reads one dictionary entry
+   *
+   * @param props The loaded properties
+   * @param prefix The key prefix of the entry (e.g. "item.0.")
+   * @return The item
+   * @throws IOException If the name or type is missing or the type is unknown
+   */
+  private static Item readItem(Properties props, String prefix) throws IOException {
+    String name = props.getProperty(prefix + "name");
+    String type = props.getProperty(prefix + "type");
+    if (name == null || type == null) {
+      throw new IOException("Corrupted save file - incomplete item " + prefix);
+    }
+    try {
+      return Item.of(
+          name,
+          Item.ItemType.valueOf(type),
+          Integer.parseInt(props.getProperty(prefix + "value", "0")),
+          Integer.parseInt(props.getProperty(prefix + "bonus", "0")));
+    } catch (IllegalArgumentException e) {
+      // NumberFormatException is an IllegalArgumentException too
+      throw new IOException("Corrupted save file - bad item " + prefix + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Joins dictionary indices into a comma-separated list
+   *
+   * @param refs The indices
+   * @return The list, e.g. "0,0,1"
+   */
+  private static String joinRefs(int[] refs) {
+    StringBuilder sb = new StringBuilder(refs.length * 3);
+    for (int i = 0; i < refs.length; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(refs[i]);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Splits a comma-separated list of dictionary indices
+   *
+   * @param list The list, possibly empty
+   * @return The indices
+   */
+  private static int[] splitRefs(String list) {
+    if (list.isBlank()) {
+      return new int[0];
+    }
+    String[] parts = list.split(",");
+    int[] refs = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      refs[i] = Integer.parseInt(parts[i].trim());
+    }
+    return refs;
+  }
+}
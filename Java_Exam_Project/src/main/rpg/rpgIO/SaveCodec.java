@@ -0,0 +1,33 @@
+package rpg.rpgIO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * SaveCodec - Encodes and decodes save files
+ * <p>
+ * Implementations translate between {@link SaveData} and one on-disk
+ * format. Codecs are stateless and can be shared between threads.
+ * </p>
+ */
+public interface SaveCodec {
+
+  /**
+   * Writes a save to a stream
+   *
+   * @param data The save data to write
+   * @param out The destination stream (not closed by the codec)
+   * @throws IOException If writing fails
+   */
+  void write(SaveData data, OutputStream out) throws IOException;
+
+  /**
+   * Reads a save from a stream
+   *
+   * @param in The source stream (not closed by the codec)
+   * @return The decoded save data
+   * @throws IOException If reading fails or the content is corrupted
+   */
+  SaveData read(InputStream in) throws IOException;
+}
@@ -0,0 +1,103 @@
+package rpg.rpgIO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+import rpg.logger.GameLogger;
+
+/**
+ * SaveConverter - Rewrites existing save files in another format
+ * <p>
+ * Every file with the save extension in the save directory is decoded
+ * (whatever its current format) and written back in the target format.
+ * Files already in the target format and unreadable files are skipped.
+ * </p>
+ * <p>
+ * Usage: {@code java rpg.rpgIO.SaveConverter binary|properties [saveDir]}
+ * </p>
+ */
+public class SaveConverter {
+
+  private static final Logger logger = GameLogger.getLogger();
+
+  /**
+   * Private constructor - utility class
+   */
+  private SaveConverter() {
+  }
+
+  /**
+   * Converts all save files in a directory
+   *
+   * @param saveDir The save directory
+   * @param extension The save file extension (e.g. ".save")
+   * @param target The format to convert to
+   * @return The number of files converted
+   * @throws IOException If the directory cannot be listed
+   */
+  public static int convertAll(Path saveDir, String extension, SaveFormat target)
+      throws IOException {
+    if (target == null) {
+      throw new IllegalArgumentException("Target format cannot be null");
+    }
+    if (!Files.isDirectory(saveDir)) {
+      return 0;
+    }
+
+    int converted = 0;
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(saveDir, "*" + extension)) {
+      for (Path file : files) {
+        if (convert(file, target)) {
+          converted++;
+        }
+      }
+    }
+    logger.info("Converted " + converted + " save files to " + target);
+    return converted;
+  }
+
+  /**
+   * Converts one save file
+   *
+   * @param file The save file
+   * @param target The format to convert to
+   * @return true if the file was rewritten
+   */
+  public static boolean convert(Path file, SaveFormat target) {
+    try {
+      byte[] content = Files.readAllBytes(file);
+      if (SaveFormat.detect(content) == target) {
+        return false;
+      }
+      SaveData data = SaveFormat.decode(content);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+      target.getCodec().write(data, out);
+      AtomicFiles.write(file, out.toByteArray());
+      return true;
+    } catch (IOException e) {
+      logger.warning("Skipping save file " + file.getFileName() + ": " + e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Command-line entry point
+   *
+   * @param args Target format and optional save directory
+   * @throws IOException If the save directory cannot be listed
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.out.println("Usage: SaveConverter binary|properties [saveDir]");
+      return;
+    }
+    SaveFormat target = SaveFormat.fromName(args[0]);
+    Path dir = Paths.get(args.length > 1 ? args[1] : CharacterManagement.getSaveDir());
+    int converted = convertAll(dir, CharacterManagement.getFileExtension(), target);
+    System.out.println("Converted " + converted + " save files to " + target);
+  }
+}
@@ -0,0 +1,240 @@
+package rpg.rpgIO;
+
+import rpg.factory.Character;
+import rpg.factory.CharacterFactory;
+import rpg.factory.Mage;
+import rpg.iterator.Inventory;
+import rpg.iterator.Item;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SaveData - Format-independent snapshot of a saved character
+ * <p>
+ * Every save codec reads and writes this class, so the rules for turning a
+ * live character into saved values (and back) live in one place whatever
+ * the file format is.
+ * </p>
+ * <p>
+ * The inventory is stored as an item dictionary plus index lists: every
+ * distinct item (by definition, as {@link Item#equals} defines it) is
+ * written once, and the inventory and equipped slots refer to it by
+ * position. A stack of fifty potions costs one dictionary entry and fifty
+ * small integers instead of fifty copies of the item.
+ * </p>
+ */
+public class SaveData {
+
+  public static final String TYPE_WARRIOR = "Warrior";
+  public static final String TYPE_MAGE = "Mage";
+
+  String name;
+  String type;
+  int health;
+  int maxHealth;
+  int stamina;
+  int maxStamina;
+  int damage;
+  int money;
+  int level;
+  boolean hasMana;
+  int mana;
+  int maxMana;
+
+  // Inventory: distinct items, then dictionary indices
+  Item[] dictionary = NO_ITEMS;
+  int[] inventory = NO_REFS;
+  int[] equipped = NO_REFS;
+
+  private static final Item[] NO_ITEMS = new Item[0];
+  private static final int[] NO_REFS = new int[0];
+
+  /**
+   * Package-private constructor used by the codecs
+   */
+  SaveData() {
+  }
+
+  /**
+   * Takes a snapshot of a character
+   * <p>
+   * Values are clamped to the ranges the loader accepts.
+   * </p>
+   *
+   * @param character The character to snapshot
+   * @return The save data for the character
+   */
+  public static SaveData fromCharacter(Character character) {
+    SaveData data = new SaveData();
+    data.name = character.getName() != null ? character.getName() : "Unknown";
+    data.type = character.getClass().getSimpleName();
+    data.health = Math.max(0, character.getHealth());
+    data.maxHealth = Math.max(1, character.getMaxHealth());
+    data.stamina = Math.max(0, character.getStamina());
+    data.maxStamina = Math.max(1, character.getMaxStamina());
+    data.damage = Math.max(0, character.getBaseDamage());
+    data.money = Math.max(0, character.getMoney());
+    data.level = Math.max(1, character.getLevel());
+
+    if (character instanceof Mage) {
+      Mage mage = (Mage) character;
+      data.hasMana = true;
+      data.mana = Math.max(0, mage.getMana());
+      data.maxMana = Math.max(1, mage.getMaxMana());
+    }
+
+    Inventory inv = character.getInventory();
+    if (inv != null && !inv.isEmpty()) {
+      data.captureInventory(inv);
+    }
+    return data;
+  }
+
+  /**
+   * Builds the item dictionary and index lists in one pass over the inventory
+   *
+   * @param inv The inventory to capture
+   */
+  private void captureInventory(Inventory inv) {
+    List<Item> items = inv.getAllItems();
+    Map<Item, Integer> index = new HashMap<>();
+    List<Item> distinct = new ArrayList<>();
+
+    inventory = new int[items.size()];
+    for (int i = 0; i < inventory.length; i++) {
+      inventory[i] = intern(items.get(i), index, distinct);
+    }
+
+    equipped = new int[inv.getEquippedItems().size()];
+    int slot = 0;
+    for (Item item : inv.getEquippedItems()) {
+      equipped[slot++] = intern(item, index, distinct);
+    }
+
+    dictionary = distinct.toArray(NO_ITEMS);
+  }
+
+  /**
+   * Gets the dictionary index of an item, adding it on first use
+   *
+   * @param item The item
+   * @param index Dictionary positions by item
+   * @param distinct The dictionary being built
+   * @return The dictionary index of the item
+   */
+  private static int intern(Item item, Map<Item, Integer> index, List<Item> distinct) {
+    Integer ref = index.get(item);
+    if (ref == null) {
+      ref = distinct.size();
+      index.put(item, ref);
+      distinct.add(item);
+    }
+    return ref;
+  }
+
+  /**
+   * Checks that every inventory reference points into the dictionary
+   * <p>
+   * Called by the codecs after reading, so a corrupted file is reported as
+   * a bad save instead of failing while the character is rebuilt.
+   * </p>
+   *
+   * @throws IOException If an index is outside the dictionary
+   */
+  void checkInventory() throws IOException {
+    for (int[] refs : new int[][] {inventory, equipped}) {
+      for (int ref : refs) {
+        if (ref < 0 || ref >= dictionary.length) {
+          throw new IOException("Corrupted save file - item index out of range: " + ref);
+        }
+      }
+    }
+  }
+
+  /**
+   * Rebuilds a character from the saved values
+   *
+   * @param factory The factory used to create the character
+   * @return The restored character, or null if the factory rejects the data
+   */
+  public Character toCharacter(CharacterFactory factory) {
+    String charType = TYPE_WARRIOR.equals(type) ? "warrior" : "mage";
+
+    Character character;
+    if (hasMana && !TYPE_WARRIOR.equals(type)) {
+      character = factory.createCustomMage(
+          name, health, maxHealth, stamina, maxStamina, damage, money, level, mana, maxMana);
+    } else {
+      character = factory.createCustomCharacter(
+          charType, name, health, maxHealth, stamina, maxStamina, damage, money, level);
+    }
+
+    if (character != null && character.getInventory() != null && hasInventory()) {
+      character.getInventory().restore(resolve(inventory), resolve(equipped));
+    }
+    return character;
+  }
+
+  /**
+   * Checks whether the save carries inventory data
+   *
+   * @return true if the dictionary is not empty
+   */
+  boolean hasInventory() {
+    return dictionary.length > 0;
+  }
+
+  /**
+   * Maps dictionary indices back to items
+   *
+   * @param refs The dictionary indices
+   * @return The referenced items, in order
+   */
+  private List<Item> resolve(int[] refs) {
+    List<Item> items = new ArrayList<>(refs.length);
+    for (int ref : refs) {
+      items.add(dictionary[ref]);
+    }
+    return items;
+  }
+
+  /**
+   * Gets the character name
+   *
+   * @return The saved name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the character class name ("Warrior" or "Mage")
+   *
+   * @return The saved type
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Gets the character level
+   *
+   * @return The saved level
+   */
+  public int getLevel() {
+    return level;
+  }
+
+  /**
+   * Gets the number of items in the saved inventory
+   *
+   * @return The saved item count
+   */
+  public int getItemCount() {
+    return inventory.length;
+  }
+}
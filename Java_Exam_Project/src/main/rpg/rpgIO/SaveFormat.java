@@ -0,0 +1,82 @@
+package rpg.rpgIO;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * SaveFormat - The save file formats understood by the game
+ * <p>
+ * New saves are written in the format named by the {@code game.save.format}
+ * system property ({@code properties} or {@code binary}, default
+ * {@code properties}). Loading never depends on that setting: the format is
+ * detected from the first bytes of the file, so both kinds of save can live
+ * side by side in the save directory.
+ * </p>
+ */
+public enum SaveFormat {
+  PROPERTIES(new PropertiesSaveCodec()),
+  BINARY(new BinarySaveCodec());
+
+  private final SaveCodec codec;
+
+  SaveFormat(SaveCodec codec) {
+    this.codec = codec;
+  }
+
+  /**
+   * Gets the codec for this format
+   *
+   * @return The codec
+   */
+  public SaveCodec getCodec() {
+    return codec;
+  }
+
+  /**
+   * Parses a format name
+   *
+   * @param name The format name (case-insensitive)
+   * @return The matching format
+   * @throws IllegalArgumentException If the name is not a known format
+   */
+  public static SaveFormat fromName(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("Save format cannot be null");
+    }
+    return valueOf(name.trim().toUpperCase());
+  }
+
+  /**
+   * Gets the format used for new saves
+   *
+   * @return The configured format, or PROPERTIES if the setting is invalid
+   */
+  public static SaveFormat configured() {
+    try {
+      return fromName(System.getProperty("game.save.format", "properties"));
+    } catch (IllegalArgumentException e) {
+      return PROPERTIES;
+    }
+  }
+
+  /**
+   * Detects the format of a save from its content
+   *
+   * @param content The file content
+   * @return BINARY if the content starts with the binary magic, PROPERTIES otherwise
+   */
+  public static SaveFormat detect(byte[] content) {
+    return BinarySaveCodec.hasMagic(content) ? BINARY : PROPERTIES;
+  }
+
+  /**
+   * Decodes a save in whichever format it was written
+   *
+   * @param content The file content
+   * @return The decoded save data
+   * @throws IOException If the content is corrupted
+   */
+  public static SaveData decode(byte[] content) throws IOException {
+    return detect(content).codec.read(new ByteArrayInputStream(content));
+  }
+}
@@ -0,0 +1,702 @@
+package rpg.rpgIO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import rpg.logger.GameLogger;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * SaveIndex - Persistent index of the save directory
+ * <p>
+ * Keeps one fixed-size record per save file (file name, character name,
+ * class, level, modification time) in an index file inside the save
+ * directory, so the load menu can list, page and filter saves without
+ * scanning and opening every file.
+ * </p>
+ * <p>
+ * Index file layout: a 16-byte header (magic "RPGI", version, record size)
+ * followed by {@value #RECORD_SIZE}-byte records. Each entry remembers the
+ * offset of its record, so an update rewrites one record in place and a
+ * deleted save frees its slot for the next new one.
+ * </p>
+ * <p>
+ * {@link CharacterManagement} updates the index on every save. Changes made
+ * by other processes (copied, edited or deleted files) are picked up by a
+ * daemon thread watching the directory with a {@link WatchService}; when
+ * it starts, the same thread checks the index against the directory once
+ * to catch changes made while the game was not running. Listing never
+ * waits for a scan: a full synchronous scan only happens when the index
+ * file is missing or invalid.
+ * </p>
+ */
+public final class SaveIndex implements Closeable {
+
+  public static final String INDEX_FILE = ".saveindex";
+
+  static final int RECORD_SIZE = 176;
+  private static final int HEADER_SIZE = 16;
+  private static final int VERSION = 1;
+  private static final byte[] MAGIC = {'R', 'P', 'G', 'I'};
+  private static final int KEY_BYTES = 64;
+  private static final int NAME_BYTES = 96;
+  private static final byte LIVE = 1;
+  private static final byte FREE = 0;
+  private static final int TAG_WARRIOR = 1;
+  private static final int TAG_MAGE = 2;
+
+  private static final Logger logger = GameLogger.getLogger();
+
+  /**
+   * Entry - One indexed save file
+   */
+  public static final class Entry {
+    private final String fileName;
+    private final String characterName;
+    private final String type;
+    private final int level;
+    private final long lastModified;
+    private final long offset;
+
+    Entry(String fileName, String characterName, String type, int level,
+        long lastModified, long offset) {
+      this.fileName = fileName;
+      this.characterName = characterName;
+      this.type = type;
+      this.level = level;
+      this.lastModified = lastModified;
+      this.offset = offset;
+    }
+
+    /**
+     * Gets the save name, as passed to {@link CharacterManagement#loadCharacter}
+     *
+     * @return The file name without extension
+     */
+    public String getFileName() {
+      return fileName;
+    }
+
+    /**
+     * Gets the name of the saved character
+     *
+     * @return The character name
+     */
+    public String getCharacterName() {
+      return characterName;
+    }
+
+    /**
+     * Gets the character class ("Warrior" or "Mage")
+     *
+     * @return The character type
+     */
+    public String getType() {
+      return type;
+    }
+
+    /**
+     * Gets the character level
+     *
+     * @return The level
+     */
+    public int getLevel() {
+      return level;
+    }
+
+    /**
+     * Gets the modification time of the save file
+     *
+     * @return Milliseconds since the epoch
+     */
+    public long getLastModified() {
+      return lastModified;
+    }
+
+    /**
+     * Gets the position of this entry's record in the index file
+     *
+     * @return The byte offset of the record
+     */
+    public long getOffset() {
+      return offset;
+    }
+
+    @Override
+    public String toString() {
+      return fileName + " - " + characterName + " (" + type + " lv. " + level + ")";
+    }
+  }
+
+  private final Path saveDir;
+  private final String extension;
+  private final FileChannel channel;
+
+  // All entries by file name, and per class by level then file name
+  private final NavigableMap<String, Entry> byName = new TreeMap<>();
+  private final Map<String, NavigableMap<Integer, NavigableMap<String, Entry>>> byTypeLevel =
+      new HashMap<>();
+  private final Deque<Long> freeSlots = new ArrayDeque<>();
+  private long endOffset = HEADER_SIZE;
+
+  private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+  private WatchService watchService;
+  private Thread watcher;
+
+  /**
+   * Opens (or creates) the index of a save directory
+   * <p>
+   * The directory is created if needed. If the index file is missing or
+   * unreadable it is rebuilt from the save files.
+   * </p>
+   *
+   * @param saveDir The save directory
+   * @param extension The save file extension (e.g. ".save")
+   * @throws IOException If the index file cannot be opened
+   */
+  public SaveIndex(Path saveDir, String extension) throws IOException {
+    if (saveDir == null || extension == null) {
+      throw new IllegalArgumentException("Save directory and extension cannot be null");
+    }
+    this.saveDir = saveDir;
+    this.extension = extension;
+
+    Files.createDirectories(saveDir);
+    this.channel = FileChannel.open(saveDir.resolve(INDEX_FILE),
+        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    if (!load()) {
+      rebuild();
+    }
+  }
+
+  /**
+   * Starts watching the save directory for external changes
+   * <p>
+   * The watcher runs on a daemon thread; calling this twice has no
+   * further effect.
+   * </p>
+   *
+   * @throws IOException If the watch service cannot be registered
+   */
+  public synchronized void startWatching() throws IOException {
+    if (watcher != null) {
+      return;
+    }
+    watchService = saveDir.getFileSystem().newWatchService();
+    saveDir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+
+    watcher = new Thread(this::watchLoop, "rpg-save-index-watcher");
+    watcher.setDaemon(true);
+    watcher.start();
+  }
+
+  /**
+   * Records a save that was just written
+   *
+   * @param fileName The save name without extension
+   * @param data The saved data
+   * @param lastModified The modification time of the written file
+   */
+  public synchronized void put(String fileName, SaveData data, long lastModified) {
+    try {
+      store(fileName, data.getName(), data.getType(), data.getLevel(), lastModified);
+    } catch (IOException e) {
+      logger.warning("Could not update save index for " + fileName + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Removes a save from the index
+   *
+   * @param fileName The save name without extension
+   */
+  public synchronized void remove(String fileName) {
+    Entry entry = byName.remove(fileName);
+    if (entry == null) {
+      return;
+    }
+    unlink(entry);
+    try {
+      record.clear();
+      record.put(FREE);
+      record.flip();
+      writeFully(record, entry.offset);
+      freeSlots.push(entry.offset);
+    } catch (IOException e) {
+      logger.warning("Could not update save index for " + fileName + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Gets the entry of one save
+   *
+   * @param fileName The save name without extension
+   * @return The entry, or null if the save is not indexed
+   */
+  public synchronized Entry get(String fileName) {
+    return byName.get(fileName);
+  }
+
+  /**
+   * Gets the number of indexed saves
+   *
+   * @return The number of entries
+   */
+  public synchronized int size() {
+    return byName.size();
+  }
+
+  /**
+   * Lists save names in alphabetical order
+   *
+   * @return All indexed save names
+   */
+  public synchronized String[] listNames() {
+    return byName.keySet().toArray(new String[0]);
+  }
+
+  /**
+   * Lists one page of saves in alphabetical order
+   *
+   * @param offset The number of entries to skip
+   * @param limit The maximum number of entries to return
+   * @return The entries of the page
+   */
+  public synchronized List<Entry> list(int offset, int limit) {
+    return page(byName.values(), offset, limit);
+  }
+
+  /**
+   * Lists one page of saves matching a class and level range
+   * <p>
+   * Results are ordered by class, then level, then save name. Only the
+   * matching part of the index is visited.
+   * </p>
+   *
+   * @param type The character class, or null for any class
+   * @param minLevel The lowest level to include
+   * @param maxLevel The highest level to include
+   * @param offset The number of matching entries to skip
+   * @param limit The maximum number of entries to return
+   * @return The entries of the page
+   * @throws IllegalArgumentException If minLevel is greater than maxLevel
+   */
+  public synchronized List<Entry> find(String type, int minLevel, int maxLevel,
+      int offset, int limit) {
+    if (minLevel > maxLevel) {
+      throw new IllegalArgumentException("minLevel cannot be greater than maxLevel");
+    }
+    List<Entry> result = new ArrayList<>(Math.min(Math.max(limit, 0), 64));
+    int skip = Math.max(offset, 0);
+
+    Iterable<String> types = type != null
+        ? Collections.singletonList(type)
+        : new TreeMap<>(byTypeLevel).keySet();
+    for (String t : types) {
+      NavigableMap<Integer, NavigableMap<String, Entry>> levels = byTypeLevel.get(t);
+      if (levels == null) {
+        continue;
+      }
+      for (NavigableMap<String, Entry> sameLevel :
+          levels.subMap(minLevel, true, maxLevel, true).values()) {
+        if (skip >= sameLevel.size()) {
+          skip -= sameLevel.size();
+          continue;
+        }
+        for (Entry entry : sameLevel.values()) {
+          if (skip > 0) {
+            skip--;
+          } else if (result.size() < limit) {
+            result.add(entry);
+          } else {
+            return result;
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Rebuilds the index by scanning every save file
+   *
+   * @throws IOException If the directory or the index file cannot be accessed
+   */
+  public synchronized void rebuild() throws IOException {
+    byName.clear();
+    byTypeLevel.clear();
+    freeSlots.clear();
+    channel.truncate(0);
+    writeHeader();
+    endOffset = HEADER_SIZE;
+
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(saveDir, "*" + extension)) {
+      for (Path file : files) {
+        indexFile(file);
+      }
+    }
+    logger.info("Save index rebuilt: " + byName.size() + " saves");
+  }
+
+  /**
+   * Stops the watcher and closes the index file
+   *
+   * @throws IOException If the index file cannot be closed
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (watchService != null) {
+      watchService.close();
+    }
+    channel.close();
+  }
+
+  /**
+   * Reads the index file into memory
+   *
+   * @return false if the file is empty or invalid and must be rebuilt
+   * @throws IOException If the file cannot be read
+   */
+  private boolean load() throws IOException {
+    long size = channel.size();
+    if (size < HEADER_SIZE || (size - HEADER_SIZE) % RECORD_SIZE != 0) {
+      return false;
+    }
+
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    channel.read(header, 0);
+    header.flip();
+    byte[] magic = new byte[MAGIC.length];
+    header.get(magic);
+    if (!Arrays.equals(magic, MAGIC)
+        || header.getInt() != VERSION
+        || header.getInt() != RECORD_SIZE) {
+      return false;
+    }
+
+    for (long offset = HEADER_SIZE; offset < size; offset += RECORD_SIZE) {
+      record.clear();
+      channel.read(record, offset);
+      record.flip();
+      if (record.get() != LIVE) {
+        freeSlots.push(offset);
+        continue;
+      }
+      String type = record.get() == TAG_WARRIOR ? SaveData.TYPE_WARRIOR : SaveData.TYPE_MAGE;
+      int keyLength = record.get() & 0xFF;
+      int nameLength = record.get() & 0xFF;
+      int level = record.getInt();
+      long lastModified = record.getLong();
+      String fileName = readField(keyLength, KEY_BYTES);
+      String characterName = readField(nameLength, NAME_BYTES);
+      if (fileName == null || characterName == null) {
+        return false;
+      }
+      link(new Entry(fileName, characterName, type, level, lastModified, offset));
+    }
+    endOffset = size;
+    logger.info("Save index loaded: " + byName.size() + " saves");
+    return true;
+  }
+
+  /**
+   * Reads a fixed-width string field from the current record
+   *
+   * @param length The number of used bytes
+   * @param width The field width
+   * @return The string, or null if the length is invalid
+   */
+  private String readField(int length, int width) {
+    int start = record.position();
+    if (length > width) {
+      return null;
+    }
+    String value = new String(record.array(), start, length, StandardCharsets.UTF_8);
+    record.position(start + width);
+    return value;
+  }
+
+  /**
+   * Writes the index file header
+   *
+   * @throws IOException If writing fails
+   */
+  private void writeHeader() throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.put(MAGIC).putInt(VERSION).putInt(RECORD_SIZE);
+    header.flip();
+    writeFully(header, 0);
+  }
+
+  /**
+   * Writes a whole buffer at a position of the index file
+   * <p>
+   * A positional write may write fewer bytes than asked, so this loops
+   * until the buffer is empty.
+   * </p>
+   *
+   * @param buffer The bytes to write, from its position to its limit
+   * @param position The file position of the first byte
+   * @throws IOException If writing fails
+   */
+  private void writeFully(ByteBuffer buffer, long position) throws IOException {
+    long at = position;
+    while (buffer.hasRemaining()) {
+      at += channel.write(buffer, at);
+    }
+  }
+
+  /**
+   * Indexes one save file, or removes it from the index if it is unreadable
+   *
+   * @param file The save file
+   */
+  private void indexFile(Path file) {
+    String fileName = keyOf(file);
+    try {
+      long lastModified = Files.getLastModifiedTime(file).toMillis();
+      Entry current = byName.get(fileName);
+      if (current != null && current.lastModified == lastModified) {
+        return;
+      }
+      SaveData data = SaveFormat.decode(Files.readAllBytes(file));
+      store(fileName, data.getName(), data.getType(), data.getLevel(), lastModified);
+    } catch (IOException e) {
+      logger.warning("Not indexing save file " + file.getFileName() + ": " + e.getMessage());
+      remove(fileName);
+    }
+  }
+
+  /**
+   * Adds or replaces an entry and writes its record
+   * <p>
+   * The record is written first: if writing fails, the in-memory maps and
+   * the slot bookkeeping are left as they were.
+   * </p>
+   *
+   * @throws IOException If the record cannot be written
+   */
+  private void store(String fileName, String characterName, String type, int level,
+      long lastModified) throws IOException {
+    byte[] key = fileName.getBytes(StandardCharsets.UTF_8);
+    if (key.length > KEY_BYTES) {
+      throw new IOException("Save name too long for the index: " + fileName);
+    }
+    byte[] name = truncate(characterName, NAME_BYTES);
+
+    Entry old = byName.get(fileName);
+    long offset;
+    if (old != null) {
+      offset = old.offset;
+    } else if (!freeSlots.isEmpty()) {
+      offset = freeSlots.peek();
+    } else {
+      offset = endOffset;
+    }
+
+    record.clear();
+    record.put(LIVE);
+    record.put((byte) (SaveData.TYPE_WARRIOR.equals(type) ? TAG_WARRIOR : TAG_MAGE));
+    record.put((byte) key.length);
+    record.put((byte) name.length);
+    record.putInt(level);
+    record.putLong(lastModified);
+    record.put(key);
+    record.position(record.position() + KEY_BYTES - key.length);
+    record.put(name);
+    record.position(RECORD_SIZE);
+    record.flip();
+    writeFully(record, offset);
+
+    if (old != null) {
+      unlink(old);
+    } else if (!freeSlots.isEmpty()) {
+      freeSlots.pop();
+    } else {
+      endOffset += RECORD_SIZE;
+    }
+    link(new Entry(fileName, characterName, type, level, lastModified, offset));
+  }
+
+  /**
+   * Adds an entry to the in-memory maps
+   *
+   * @param entry The entry to add
+   */
+  private void link(Entry entry) {
+    byName.put(entry.fileName, entry);
+    byTypeLevel.computeIfAbsent(entry.type, t -> new TreeMap<>())
+        .computeIfAbsent(entry.level, l -> new TreeMap<>())
+        .put(entry.fileName, entry);
+  }
+
+  /**
+   * Removes an entry from the per-class maps
+   *
+   * @param entry The entry to remove
+   */
+  private void unlink(Entry entry) {
+    NavigableMap<Integer, NavigableMap<String, Entry>> levels = byTypeLevel.get(entry.type);
+    if (levels == null) {
+      return;
+    }
+    NavigableMap<String, Entry> sameLevel = levels.get(entry.level);
+    if (sameLevel != null) {
+      sameLevel.remove(entry.fileName);
+      if (sameLevel.isEmpty()) {
+        levels.remove(entry.level);
+      }
+    }
+  }
+
+  /**
+   * Gets the index key of a save file
+   *
+   * @param file The save file
+   * @return The file name without extension
+   */
+  private String keyOf(Path file) {
+    String name = file.getFileName().toString();
+    return name.substring(0, name.length() - extension.length());
+  }
+
+  /**
+   * Encodes a string in UTF-8, cut at a character boundary to fit a field
+   *
+   * @param value The string
+   * @param width The field width in bytes
+   * @return The encoded bytes
+   */
+  private static byte[] truncate(String value, int width) {
+    String text = value;
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    while (bytes.length > width) {
+      text = text.substring(0, text.length() - 1);
+      bytes = text.getBytes(StandardCharsets.UTF_8);
+    }
+    return bytes;
+  }
+
+  /**
+   * Returns a page of a collection
+   *
+   * @param entries The entries in order
+   * @param offset The number of entries to skip
+   * @param limit The maximum number of entries to return
+   * @return The page
+   */
+  private static List<Entry> page(Iterable<Entry> entries, int offset, int limit) {
+    List<Entry> result = new ArrayList<>(Math.min(Math.max(limit, 0), 64));
+    int skip = Math.max(offset, 0);
+    for (Entry entry : entries) {
+      if (result.size() >= limit) {
+        break;
+      }
+      if (skip > 0) {
+        skip--;
+      } else {
+        result.add(entry);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Brings the index in line with the directory
+   * <p>
+   * Only files whose modification time changed are read again.
+   * </p>
+   *
+   * @throws IOException If the directory cannot be listed
+   */
+  private void reconcile() throws IOException {
+    Set<String> present = new HashSet<>();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(saveDir, "*" + extension)) {
+      for (Path file : files) {
+        present.add(keyOf(file));
+        synchronized (this) {
+          indexFile(file);
+        }
+      }
+    }
+    synchronized (this) {
+      for (String fileName : new ArrayList<>(byName.keySet())) {
+        if (!present.contains(fileName)) {
+          remove(fileName);
+        }
+      }
+    }
+  }
+
+  /**
+   * Watcher thread body: applies directory events to the index
+   */
+  private void watchLoop() {
+    try {
+      reconcile();
+      while (true) {
+        WatchKey key = watchService.take();
+        Set<Path> changed = new HashSet<>();
+        boolean overflow = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+          if (event.kind() == OVERFLOW) {
+            overflow = true;
+          } else if (event.context() instanceof Path file
+              && file.toString().endsWith(extension)) {
+            changed.add(saveDir.resolve(file));
+          }
+        }
+        key.reset();
+
+        synchronized (this) {
+          if (overflow) {
+            rebuild();
+            continue;
+          }
+          for (Path file : changed) {
+            if (Files.exists(file)) {
+              indexFile(file);
+            } else {
+              remove(keyOf(file));
+            }
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // Index closed
+    } catch (IOException e) {
+      logger.warning("Save index watcher stopped: " + e.getMessage());
+    }
+  }
+}
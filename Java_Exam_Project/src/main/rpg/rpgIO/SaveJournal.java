@@ -0,0 +1,367 @@
+package rpg.rpgIO;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import rpg.logger.GameLogger;
+
+/**
+ * SaveJournal - Append-only write-ahead journal for frequent saves
+ * <p>
+ * With the journal enabled, a save is one sequential append to
+ * {@value #JOURNAL_FILE} instead of a whole-file rewrite. Each record is
+ * {@code [payload length][CRC32C][payload]}, where the payload is the save
+ * name followed by the save in the binary format. The latest record for
+ * each save is also kept in memory, so loads see journaled saves at once.
+ * </p>
+ * <p>
+ * A background thread compacts the journal: the current journal is renamed
+ * to {@value #COMPACTING_FILE}, a fresh one is started, and the latest save
+ * of every character is written to its snapshot file with
+ * {@link AtomicFiles}. The old journal is deleted only after all snapshots
+ * are on disk. Compaction runs when the journal grows past a size limit,
+ * periodically, and when the journal is closed.
+ * </p>
+ * <p>
+ * On startup any journal left behind by a crash is replayed into the
+ * snapshots. A torn record at the end of the journal (bad length or CRC)
+ * marks the end of the valid data and is discarded.
+ * </p>
+ */
+public final class SaveJournal implements Closeable {
+
+  public static final String JOURNAL_FILE = ".journal";
+  public static final String COMPACTING_FILE = ".journal.compacting";
+
+  private static final int RECORD_HEADER = 8;
+  private static final int MAX_PAYLOAD = 1 << 20;
+  private static final long COMPACT_INTERVAL_SECONDS = 30;
+
+  private static final Logger logger = GameLogger.getLogger();
+
+  private final Path saveDir;
+  private final String extension;
+  private final long compactThreshold;
+  private final BinarySaveCodec journalCodec = new BinarySaveCodec();
+
+  // Saves appended since the last compaction started, and saves being compacted
+  private final Map<String, SaveData> pending = new ConcurrentHashMap<>();
+  private volatile Map<String, SaveData> compacting = Map.of();
+
+  private final ScheduledExecutorService compactor;
+  private final AtomicBoolean compactionQueued = new AtomicBoolean();
+  private final Object compactLock = new Object();
+  private FileChannel channel;
+  private long journalSize;
+  private boolean closed;
+
+  /**
+   * Opens the journal of a save directory, replaying leftovers from a crash
+   *
+   * @param saveDir The save directory
+   * @param extension The save file extension (e.g. ".save")
+   * @param compactThreshold Journal size in bytes that triggers a compaction
+   * @throws IOException If the journal cannot be replayed or opened
+   */
+  public SaveJournal(Path saveDir, String extension, long compactThreshold) throws IOException {
+    if (saveDir == null || extension == null) {
+      throw new IllegalArgumentException("Save directory and extension cannot be null");
+    }
+    if (compactThreshold <= 0) {
+      throw new IllegalArgumentException("Compaction threshold must be positive");
+    }
+    this.saveDir = saveDir;
+    this.extension = extension;
+    this.compactThreshold = compactThreshold;
+
+    Files.createDirectories(saveDir);
+    recover();
+    channel = openJournal();
+
+    compactor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "rpg-save-compactor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    compactor.scheduleWithFixedDelay(this::compactQuietly,
+        COMPACT_INTERVAL_SECONDS, COMPACT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Appends a save to the journal
+   * <p>
+   * The record is forced to disk before this method returns.
+   * </p>
+   *
+   * @param fileName The save name without extension
+   * @param data The save data
+   * @throws IOException If the append fails
+   */
+  public void append(String fileName, SaveData data) throws IOException {
+    byte[] payload = encode(fileName, data);
+    CRC32C crc = new CRC32C();
+    crc.update(payload);
+
+    ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER + payload.length);
+    record.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+
+    boolean compact;
+    synchronized (this) {
+      if (closed) {
+        throw new IOException("Save journal is closed");
+      }
+      while (record.hasRemaining()) {
+        channel.write(record);
+      }
+      channel.force(false);
+      journalSize += record.limit();
+      pending.put(fileName, data);
+      compact = journalSize >= compactThreshold;
+    }
+
+    if (compact && compactionQueued.compareAndSet(false, true)) {
+      try {
+        compactor.execute(this::compactQuietly);
+      } catch (RejectedExecutionException e) {
+        // Closing: the record is on disk and the final compaction writes it
+        compactionQueued.set(false);
+      }
+    }
+  }
+
+  /**
+   * Gets the latest journaled save that is not yet in its snapshot file
+   *
+   * @param fileName The save name without extension
+   * @return The save data, or null if the snapshot file is current
+   */
+  public SaveData find(String fileName) {
+    SaveData data = pending.get(fileName);
+    return data != null ? data : compacting.get(fileName);
+  }
+
+  /**
+   * Gets the current size of the journal file
+   *
+   * @return The journal size in bytes
+   */
+  public synchronized long getJournalSize() {
+    return journalSize;
+  }
+
+  /**
+   * Writes all journaled saves to their snapshot files and empties the journal
+   *
+   * @throws IOException If a snapshot cannot be written; the journal is then kept
+   */
+  public void compact() throws IOException {
+    synchronized (compactLock) {
+      compactionQueued.set(false);
+
+      // A previous compaction failed: finish it before rotating again
+      if (!compacting.isEmpty()) {
+        finishCompaction();
+      }
+
+      synchronized (this) {
+        if (pending.isEmpty() || channel == null) {
+          return;
+        }
+        // Rotate: new saves go to a fresh journal while this one is compacted
+        channel.close();
+        AtomicFiles.move(saveDir.resolve(JOURNAL_FILE), saveDir.resolve(COMPACTING_FILE));
+        channel = openJournal();
+        compacting = new LinkedHashMap<>(pending);
+        pending.keySet().removeAll(compacting.keySet());
+      }
+
+      finishCompaction();
+    }
+  }
+
+  /**
+   * Writes the snapshots of the rotated journal, then deletes it
+   *
+   * @throws IOException If a snapshot cannot be written
+   */
+  private void finishCompaction() throws IOException {
+    writeSnapshots(compacting);
+    Files.deleteIfExists(saveDir.resolve(COMPACTING_FILE));
+    compacting = Map.of();
+  }
+
+  /**
+   * Compacts the journal and stops the background thread
+   * <p>
+   * Appends fail from the start of the call, before the final compaction.
+   * </p>
+   *
+   * @throws IOException If the final compaction fails
+   */
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      closed = true;
+    }
+    compactor.shutdown();
+    try {
+      compactor.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    compact();
+    synchronized (this) {
+      if (channel != null) {
+        channel.close();
+        channel = null;
+      }
+    }
+  }
+
+  /**
+   * Compacts from the background thread, logging failures
+   */
+  private void compactQuietly() {
+    try {
+      compact();
+    } catch (IOException e) {
+      logger.warning("Save journal compaction failed: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Replays journals left by a previous run into the snapshot files
+   *
+   * @throws IOException If a snapshot cannot be written
+   */
+  private void recover() throws IOException {
+    Map<String, SaveData> latest = new LinkedHashMap<>();
+    Path compactingFile = saveDir.resolve(COMPACTING_FILE);
+    Path journalFile = saveDir.resolve(JOURNAL_FILE);
+
+    // Older journal first, so later records win
+    replay(compactingFile, latest);
+    replay(journalFile, latest);
+    if (latest.isEmpty()) {
+      Files.deleteIfExists(compactingFile);
+      Files.deleteIfExists(journalFile);
+      return;
+    }
+
+    writeSnapshots(latest);
+    Files.deleteIfExists(compactingFile);
+    Files.deleteIfExists(journalFile);
+    logger.info("Recovered " + latest.size() + " saves from the save journal");
+  }
+
+  /**
+   * Reads every valid record of a journal file
+   *
+   * @param file The journal file
+   * @param latest Map receiving the latest save per name
+   * @throws IOException If the file cannot be read
+   */
+  private void replay(Path file, Map<String, SaveData> latest) throws IOException {
+    if (!Files.exists(file)) {
+      return;
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+    CRC32C crc = new CRC32C();
+
+    while (buffer.remaining() >= RECORD_HEADER) {
+      int length = buffer.getInt();
+      int checksum = buffer.getInt();
+      if (length <= 0 || length > MAX_PAYLOAD || length > buffer.remaining()) {
+        logger.warning("Torn record at the end of " + file.getFileName() + ", discarded");
+        return;
+      }
+      byte[] payload = new byte[length];
+      buffer.get(payload);
+      crc.reset();
+      crc.update(payload);
+      if ((int) crc.getValue() != checksum) {
+        logger.warning("Bad checksum in " + file.getFileName() + ", discarding the rest");
+        return;
+      }
+      decode(payload, latest);
+    }
+  }
+
+  /**
+   * Writes saves to their snapshot files atomically
+   *
+   * @param saves The saves by name
+   * @throws IOException If a snapshot cannot be written
+   */
+  private void writeSnapshots(Map<String, SaveData> saves) throws IOException {
+    SaveCodec codec = SaveFormat.configured().getCodec();
+    ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+    for (Map.Entry<String, SaveData> save : saves.entrySet()) {
+      out.reset();
+      codec.write(save.getValue(), out);
+      AtomicFiles.write(saveDir.resolve(save.getKey() + extension), out.toByteArray());
+    }
+  }
+
+  /**
+   * Opens the journal file for appending
+   *
+   * @return The journal channel
+   * @throws IOException If the file cannot be opened
+   */
+  private FileChannel openJournal() throws IOException {
+    FileChannel journal = FileChannel.open(saveDir.resolve(JOURNAL_FILE),
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    journalSize = journal.size();
+    return journal;
+  }
+
+  /**
+   * Encodes a journal payload: varint-prefixed name, then the binary save
+   *
+   * @param fileName The save name
+   * @param data The save data
+   * @return The payload bytes
+   * @throws IOException If encoding fails
+   */
+  private byte[] encode(String fileName, SaveData data) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+    byte[] name = fileName.getBytes(StandardCharsets.UTF_8);
+    BinarySaveCodec.writeVarint(out, name.length);
+    out.write(name);
+    journalCodec.write(data, out);
+    return out.toByteArray();
+  }
+
+  /**
+   * Decodes a journal payload into the map of latest saves
+   *
+   * @param payload The payload bytes
+   * @param latest Map receiving the save
+   * @throws IOException If the payload is corrupted
+   */
+  private void decode(byte[] payload, Map<String, SaveData> latest) throws IOException {
+    ByteArrayInputStream in = new ByteArrayInputStream(payload);
+    int length = BinarySaveCodec.readVarint(in);
+    String fileName = new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    latest.remove(fileName);
+    latest.put(fileName, journalCodec.read(in));
+  }
+}
@@ -1,6 +1,8 @@
 package rpg.rpgSecurity;
 
 import rpg.logger.GameLogger;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.io.FileNotFoundException;
@@ -22,6 +24,10 @@ import java.io.IOException;
  * a consistent approach to error handling and ensures that sensitive
  * implementation details are not exposed in user-facing error messages.
  * </p>
+ * <p>
+ * User messages go to the channel given by the caller, or to the channel
+ * of the current session.
+ * </p>
  */
 public class ExceptionHandler {
 
@@ -38,11 +44,22 @@ public class ExceptionHandler {
      * @param userMessage The user-friendly message to display
      */
     public static void handleException(Exception e, String userMessage) {
+        handleException(e, userMessage, GameSession.current().getChannel());
+    }
+
+    /**
+     * Handles a generic exception, showing the message on a channel
+     * 
+     * @param e The exception to handle
+     * @param userMessage The user-friendly message to display
+     * @param channel The channel of the player
+     */
+    public static void handleException(Exception e, String userMessage, SessionChannel channel) {
         // Log the complete error (for developers)
         logger.log(Level.SEVERE, "Error: " + e.getMessage(), e);
 
         // Show only a safe message to the user
-        System.out.println(userMessage);
+        channel.println(userMessage);
     }
 
     /**
@@ -56,15 +73,25 @@ public class ExceptionHandler {
      * @param e The exception that occurred during save/load
      */
     public static void handleSaveLoadError(Exception e) {
+        handleSaveLoadError(e, GameSession.current().getChannel());
+    }
+
+    /**
+     * Handles errors during save/load operations, showing the message on a channel
+     * 
+     * @param e The exception that occurred during save/load
+     * @param channel The channel of the player
+     */
+    public static void handleSaveLoadError(Exception e, SessionChannel channel) {
         logger.log(Level.SEVERE, "Save/load error: " + e.getMessage(), e);
         
         // Provide more specific messages based on exception type
         if (e instanceof FileNotFoundException) {
-            System.out.println("File not found. Check the filename.");
+            channel.println("File not found. Check the filename.");
         } else if (e instanceof IOException) {
-            System.out.println("File access problem. Check permissions.");
+            channel.println("File access problem. Check permissions.");
         } else {
-            System.out.println("Error during save/load. Please try again.");
+            channel.println("Error during save/load. Please try again.");
         }
     }
 
@@ -79,7 +106,7 @@ public class ExceptionHandler {
      */
     public static void handleCharacterError(Exception e) {
         logger.log(Level.WARNING, "Character error: " + e.getMessage(), e);
-        System.out.println("Error in character creation. Check the entered data.");
+        GameSession.current().getChannel().println("Error in character creation. Check the entered data.");
     }
 
     /**
@@ -93,7 +120,7 @@ public class ExceptionHandler {
      */
     public static void handleInventoryError(Exception e) {
         logger.log(Level.WARNING, "Inventory error: " + e.getMessage(), e);
-        System.out.println("Inventory operation failed.");
+        GameSession.current().getChannel().println("Inventory operation failed.");
     }
 
     /**
@@ -1,6 +1,9 @@
 package rpg.rpgSecurity;
 
 import rpg.logger.GameLogger;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -21,13 +24,24 @@ import java.util.logging.Logger;
  * </p>
  * <p>
  * All validation methods log their activity and provide user-friendly
- * error messages when validation fails.
+ * error messages when validation fails. Messages go to the channel given
+ * by the caller, or to the channel of the current session.
  * </p>
  */
 public class InputValidator {
 
   private static final Logger logger = GameLogger.getLogger();
 
+  /**
+   * Validates a character name, reporting errors to the current session
+   *
+   * @param input The character name to validate
+   * @return The validated name, or null if validation fails
+   */
+  public static String validateCharacterName(String input) {
+    return validateCharacterName(input, GameSession.current().getChannel());
+  }
+
   /**
    * Validates a character name
    * <p>
@@ -40,14 +54,15 @@ public class InputValidator {
    * </p>
    * 
    * @param input The character name to validate
+   * @param channel The channel receiving the error messages
    * @return The validated name, or null if validation fails
    */
-  public static String validateCharacterName(String input) {
-    logger.info("Validating character name: " + input);
+  public static String validateCharacterName(String input, SessionChannel channel) {
+    GameLogger.log(Level.FINE, "Validating character name: {0}", input);
 
     if (input == null || input.trim().isEmpty()) {
       logger.warning("Character name validation failed: empty name");
-      System.out.println("Name cannot be empty!");
+      channel.println("Name cannot be empty!");
       return null;
     }
 
@@ -56,25 +71,36 @@ public class InputValidator {
 
       if (name.length() < 2) {
         logger.warning("Character name validation failed: too short");
-        System.out.println("Name too short!");
+        channel.println("Name too short!");
         return null;
       }
 
       if (name.length() > 20) {
         logger.warning("Character name validation failed: too long");
-        System.out.println("Name too long!");
+        channel.println("Name too long!");
         return null;
       }
 
-      logger.info("Character name validated successfully: " + name);
+      GameLogger.log(Level.FINE, "Character name validated successfully: {0}", name);
       return name;
     } catch (Exception e) {
       logger.severe("Error validating character name: " + e.getMessage());
-      System.out.println("Name validation error!");
+      channel.println("Name validation error!");
       return null;
     }
   }
 
+  /**
+   * Validates a menu choice, reporting errors to the current session
+   *
+   * @param input The user's input string
+   * @param max The maximum valid menu option number
+   * @return The validated menu choice as an Integer, or null if validation fails
+   */
+  public static Integer validateMenuChoice(String input, int max) {
+    return validateMenuChoice(input, max, GameSession.current().getChannel());
+  }
+
   /**
    * Validates a menu choice
    * <p>
@@ -84,14 +110,15 @@ public class InputValidator {
    * 
    * @param input The user's input string
    * @param max The maximum valid menu option number
+   * @param channel The channel receiving the error messages
    * @return The validated menu choice as an Integer, or null if validation fails
    */
-  public static Integer validateMenuChoice(String input, int max) {
-    logger.info("Validating menu choice: " + input + " (max: " + max + ")");
+  public static Integer validateMenuChoice(String input, int max, SessionChannel channel) {
+    GameLogger.log(Level.FINE, "Validating menu choice: {0} (max: {1})", input, max);
 
     if (input == null || input.trim().isEmpty()) {
       logger.warning("Menu choice validation failed: empty input");
-      System.out.println("Please enter a number!");
+      channel.println("Please enter a number!");
       return null;
     }
 
@@ -99,20 +126,20 @@ public class InputValidator {
       int choice = Integer.parseInt(input.trim());
 
       if (choice < 0 || choice > max) {
-        logger.warning("Menu choice validation failed: out of range (" + choice + ")");
-        System.out.println("Choose between 0 and " + max + "!");
+        GameLogger.log(Level.WARNING, "Menu choice validation failed: out of range ({0})", choice);
+        channel.println("Choose between 0 and " + max + "!");
         return null;
       }
 
-      logger.info("Menu choice validated: " + choice);
+      GameLogger.log(Level.FINE, "Menu choice validated: {0}", choice);
       return choice;
     } catch (NumberFormatException e) {
       logger.warning("Menu choice validation failed: not a number");
-      System.out.println("That's not a number!");
+      channel.println("That's not a number!");
       return null;
     } catch (Exception e) {
       logger.severe("Error validating menu choice: " + e.getMessage());
-      System.out.println("Input validation error!");
+      channel.println("Input validation error!");
       return null;
     }
   }
@@ -148,6 +175,16 @@ public class InputValidator {
     }
   }
 
+  /**
+   * Validates a filename, reporting errors to the current session
+   *
+   * @param input The filename to validate
+   * @return The validated filename with extension, or null if validation fails
+   */
+  public static String validateFilename(String input) {
+    return validateFilename(input, GameSession.current().getChannel());
+  }
+
   /**
    * Validates a filename
    * <p>
@@ -161,14 +198,15 @@ public class InputValidator {
    * </p>
    * 
    * @param input The filename to validate
+   * @param channel The channel receiving the error messages
    * @return The validated filename with extension, or null if validation fails
    */
-  public static String validateFilename(String input) {
+  public static String validateFilename(String input, SessionChannel channel) {
     logger.info("Validating filename: " + input);
 
     if (input == null || input.trim().isEmpty()) {
       logger.warning("Filename validation failed: empty filename");
-      System.out.println("Filename cannot be empty!");
+      channel.println("Filename cannot be empty!");
       return null;
     }
 
@@ -177,7 +215,7 @@ public class InputValidator {
 
       if (name.length() > 30) {
         logger.warning("Filename validation failed: too long");
-        System.out.println("Filename too long!");
+        channel.println("Filename too long!");
         return null;
       }
 
@@ -185,7 +223,7 @@ public class InputValidator {
       name = sanitizeFilename(name);
       if (name.isEmpty()) {
         logger.warning("Filename validation failed: invalid characters");
-        System.out.println("Invalid filename!");
+        channel.println("Invalid filename!");
         return null;
       }
 
@@ -194,7 +232,7 @@ public class InputValidator {
       return result;
     } catch (Exception e) {
       logger.severe("Error validating filename: " + e.getMessage());
-      System.out.println("Filename validation error!");
+      channel.println("Filename validation error!");
       return null;
     }
   }
@@ -0,0 +1,222 @@
+package rpg.server;
+
+import rpg.GameManager;
+import rpg.logger.GameLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * GameServer - Hosts many players on one JVM over a line protocol
+ * <p>
+ * Each TCP connection is a player: it gets its own {@link GameSession} and
+ * runs the regular game loop ({@link GameManager#startGame()}) on its own
+ * virtual thread. Blocking reads park the virtual thread instead of holding
+ * a platform thread, so thousands of idle players cost little more than
+ * their game state.
+ * </p>
+ * <p>
+ * The protocol is the console game itself: the client sends one line per
+ * answer and receives the menus as text (UTF-8). Any line-based client such
+ * as {@code nc} or {@code telnet} can play.
+ * </p>
+ * <p>
+ * Configuration (system properties):
+ * <ul>
+ *   <li>{@code game.server.port}: default port (4000)</li>
+ *   <li>{@code game.server.idleTimeout}: milliseconds a player may stay
+ *       silent before the session is closed (600000, 0 disables it)</li>
+ * </ul>
+ * </p>
+ */
+public class GameServer implements Closeable {
+
+    private static final Logger logger = GameLogger.getLogger();
+
+    public static final int DEFAULT_PORT = Integer.getInteger("game.server.port", 4000);
+    private static final int IDLE_TIMEOUT = Integer.getInteger("game.server.idleTimeout", 600_000);
+
+    private final int port;
+    private final ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicLong totalSessions = new AtomicLong();
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * Creates a server on the default port
+     */
+    public GameServer() {
+        this(DEFAULT_PORT);
+    }
+
+    /**
+     * Creates a server on the given port
+     *
+     * @param port The TCP port, or 0 for any free port
+     * @throws IllegalArgumentException If the port is out of range
+     */
+    public GameServer(int port) {
+        if (port < 0 || port > 65_535) {
+            throw new IllegalArgumentException("Invalid port: " + port);
+        }
+        this.port = port;
+    }
+
+    /**
+     * Binds the server socket without accepting players yet
+     *
+     * @throws IOException If the port cannot be bound
+     * @throws IllegalStateException If the server is already bound
+     */
+    public synchronized void bind() throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("Server already bound");
+        }
+        ServerSocket socket = new ServerSocket();
+        socket.setReuseAddress(true);
+        socket.bind(new InetSocketAddress(port));
+        serverSocket = socket;
+        logger.info("Game server listening on port " + socket.getLocalPort());
+    }
+
+    /**
+     * Accepts players until the server is closed
+     * <p>
+     * Binds the server first if needed. This method blocks the calling thread.
+     * </p>
+     *
+     * @throws IOException If the port cannot be bound
+     */
+    public void serve() throws IOException {
+        if (serverSocket == null) {
+            bind();
+        }
+        ServerSocket socket = serverSocket;
+        while (!socket.isClosed()) {
+            try {
+                Socket connection = socket.accept();
+                try {
+                    sessions.execute(() -> handle(connection));
+                } catch (RejectedExecutionException e) {
+                    // Closed while this player was connecting: turn them away
+                    try {
+                        connection.close();
+                    } catch (IOException closeError) {
+                        logger.fine("Could not close rejected connection: " + closeError.getMessage());
+                    }
+                    return;
+                }
+            } catch (SocketException e) {
+                if (!socket.isClosed()) {
+                    logger.warning("Error accepting connection: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Binds the server and accepts players on a background thread
+     *
+     * @throws IOException If the port cannot be bound
+     */
+    public void start() throws IOException {
+        bind();
+        Thread.ofPlatform().name("game-server-accept").daemon(true).start(() -> {
+            try {
+                serve();
+            } catch (IOException e) {
+                logger.severe("Game server stopped: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Runs the game for one connection
+     *
+     * @param connection The player's socket
+     */
+    private void handle(Socket connection) {
+        String id = "session-" + totalSessions.incrementAndGet();
+        activeSessions.incrementAndGet();
+        logger.info("Player connected: " + id + " from " + connection.getRemoteSocketAddress());
+        try (connection) {
+            connection.setTcpNoDelay(true);
+            connection.setSoTimeout(IDLE_TIMEOUT);
+            GameSession session = new GameSession(id, connection.getInputStream(), connection.getOutputStream());
+            session.run(() -> new GameManager().startGame());
+        } catch (SessionClosedException e) {
+            // The player hung up: a normal end of the session
+            logger.info("Session " + id + " closed by the player: " + e.getMessage());
+        } catch (IOException e) {
+            logger.warning("Session " + id + " failed: " + e.getMessage());
+        } finally {
+            activeSessions.decrementAndGet();
+            logger.info("Player disconnected: " + id);
+        }
+    }
+
+    /**
+     * Gets the port the server listens on
+     *
+     * @return The bound port, or the configured port if not bound yet
+     */
+    public int getPort() {
+        ServerSocket socket = serverSocket;
+        return socket != null ? socket.getLocalPort() : port;
+    }
+
+    /**
+     * Gets the number of players currently connected
+     *
+     * @return The number of open sessions
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Gets the number of players that connected since the server started
+     *
+     * @return The number of sessions ever opened
+     */
+    public long getTotalSessions() {
+        return totalSessions.get();
+    }
+
+    /**
+     * Stops accepting players and waits briefly for open sessions to end
+     * <p>
+     * Open sessions are interrupted after the grace period.
+     * </p>
+     *
+     * @throws IOException If the server socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        ServerSocket socket = serverSocket;
+        if (socket != null) {
+            socket.close();
+        }
+        sessions.shutdown();
+        try {
+            if (!sessions.awaitTermination(5, TimeUnit.SECONDS)) {
+                sessions.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            sessions.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Game server stopped after " + totalSessions.get() + " sessions");
+    }
+}
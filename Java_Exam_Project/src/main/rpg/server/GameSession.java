@@ -0,0 +1,238 @@
+package rpg.server;
+
+import rpg.factory.Character;
+import rpg.observer.GameEventBus;
+
+import java.io.BufferedOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GameSession - Input, output and state of one player
+ * <p>
+ * Every player of the game server gets its own session, bound to the
+ * thread that runs the player's game loop. Menus talk to the player through
+ * the session's {@link SessionChannel}; game objects that were not given
+ * a channel or a sink print on the channel of the current session.
+ * {@code System.out} is never replaced.
+ * </p>
+ * <p>
+ * Outside of a server thread, {@link #current()} returns the console
+ * session, which reads from {@code System.in} and prints on
+ * {@code System.out}, so the single-player game behaves as before.
+ * </p>
+ */
+public class GameSession {
+
+    private static final GameSession CONSOLE = new GameSession();
+    private static final ThreadLocal<GameSession> CURRENT = new ThreadLocal<>();
+
+    private final String id;
+    private final boolean console;
+    private final SessionChannel channel;
+    private final GameEventBus events = new GameEventBus();
+    private final AtomicLong randoms = new AtomicLong();
+    private volatile Character character;
+    private volatile boolean exited;
+
+    /**
+     * Creates the console session
+     */
+    private GameSession() {
+        this.id = "console";
+        this.console = true;
+        this.channel = SessionChannel.console();
+    }
+
+    /**
+     * Creates a session over a pair of streams
+     * <p>
+     * Output is buffered and flushed whenever the session waits for input,
+     * so a whole menu reaches the player in one write.
+     * </p>
+     *
+     * @param id The session identifier, used in logs
+     * @param input The player's input
+     * @param output The player's output
+     * @throws IllegalArgumentException If a stream is null
+     */
+    public GameSession(String id, InputStream input, OutputStream output) {
+        this(id, channelOf(input, output));
+    }
+
+    /**
+     * Creates a session over a channel
+     *
+     * @param id The session identifier, used in logs
+     * @param channel The player's channel
+     * @throws IllegalArgumentException If the channel is null
+     */
+    public GameSession(String id, SessionChannel channel) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Session channel cannot be null");
+        }
+        this.id = id;
+        this.console = false;
+        this.channel = channel;
+    }
+
+    private static SessionChannel channelOf(InputStream input, OutputStream output) {
+        if (input == null || output == null) {
+            throw new IllegalArgumentException("Session streams cannot be null");
+        }
+        return SessionChannel.of(input, new BufferedOutputStream(output));
+    }
+
+    /**
+     * Gets the session of the calling thread
+     *
+     * @return The bound session, or the console session
+     */
+    public static GameSession current() {
+        GameSession session = CURRENT.get();
+        return session != null ? session : CONSOLE;
+    }
+
+    /**
+     * Runs a game loop with this session bound to the calling thread
+     * <p>
+     * Pending output is flushed when the loop ends, even if it fails.
+     * </p>
+     *
+     * @param game The game loop to run
+     */
+    public void run(Runnable game) {
+        GameSession previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            game.run();
+        } finally {
+            flush();
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Gets the channel the player reads and writes through
+     * <p>
+     * A session has a single channel, shared by all menus, so no input
+     * is lost in the buffer of another reader.
+     * </p>
+     *
+     * @return The session channel
+     */
+    public SessionChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Sends buffered output to the player
+     */
+    public void flush() {
+        channel.flush();
+    }
+
+    /**
+     * Ends the game for this session
+     * <p>
+     * The console session terminates the JVM as the single-player game
+     * always did. Other sessions only record the request: their game loop
+     * returns and the server closes the connection, leaving the other
+     * players untouched.
+     * </p>
+     *
+     * @param status The exit status (used by the console session only)
+     */
+    public void exit(int status) {
+        exited = true;
+        if (console) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Checks whether the game was ended with {@link #exit(int)}
+     *
+     * @return true if the session has exited
+     */
+    public boolean hasExited() {
+        return exited;
+    }
+
+    /**
+     * Checks whether this is the console session
+     *
+     * @return true for the console session
+     */
+    public boolean isConsole() {
+        return console;
+    }
+
+    /**
+     * Gets the event bus of this session
+     * <p>
+     * The bus is synchronous: listeners run on the session thread, so
+     * whatever they print reaches this player.
+     * </p>
+     *
+     * @return The session's event bus
+     */
+    public GameEventBus getEvents() {
+        return events;
+    }
+
+    /**
+     * Gets the character the player is using
+     * <p>
+     * The menus are shared by every session: their actions find the
+     * character they work on here.
+     * </p>
+     *
+     * @return The character, or null outside of the character menus
+     */
+    public Character getCharacter() {
+        return character;
+    }
+
+    /**
+     * Sets the character the player is using
+     *
+     * @param character The character, or null to clear it
+     */
+    public void setCharacter(Character character) {
+        this.character = character;
+    }
+
+    /**
+     * Numbers the random generators created for this session
+     * <p>
+     * With {@code game.random.seed} set, the generators of a session are
+     * derived from their index here, so the sequence of a session does not
+     * depend on the other sessions of the server.
+     * </p>
+     *
+     * @return The index of the next generator, from 0
+     */
+    public long nextRandomIndex() {
+        return randoms.getAndIncrement();
+    }
+
+    /**
+     * Gets the session identifier
+     *
+     * @return The identifier
+     */
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "GameSession[" + id + "]";
+    }
+}
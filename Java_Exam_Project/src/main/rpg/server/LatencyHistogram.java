@@ -0,0 +1,135 @@
+package rpg.server;
+
+/**
+ * LatencyHistogram - Fixed-size histogram of durations in nanoseconds
+ * <p>
+ * Values are counted in log-linear buckets: every power of two is split
+ * into 32 buckets, so a reported value is within about 3% of the real one
+ * whatever its magnitude, and recording is an array increment. Each
+ * recording thread fills its own histogram; histograms are merged at the
+ * end, as simulation reports are.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    // 2^SUB_BITS buckets per power of two
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_COUNT;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records one duration
+     *
+     * @param nanos The duration in nanoseconds (negative values count as 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[indexOf(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the counts of another histogram to this one
+     *
+     * @param other The histogram to merge
+     * @return This histogram, for use with stream reductions
+     */
+    public LatencyHistogram merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        total += other.total;
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * Gets the number of recorded durations
+     *
+     * @return The count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean duration
+     *
+     * @return The mean in nanoseconds
+     */
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) total / count;
+    }
+
+    /**
+     * Gets the longest duration
+     *
+     * @return The exact maximum in nanoseconds
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets a percentile of the recorded durations
+     * <p>
+     * The result is the upper bound of the bucket holding the percentile,
+     * capped by the exact maximum.
+     * </p>
+     *
+     * @param percentile The percentile to compute (0-100)
+     * @return The duration in nanoseconds
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long threshold = Math.max(1, (long) Math.ceil(count * Math.max(0.0, Math.min(100.0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= threshold) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Finds the bucket of a value
+     *
+     * @param value A non-negative value
+     * @return The bucket index
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_COUNT + (int) (value >>> shift) - SUB_COUNT;
+    }
+
+    /**
+     * Gets the largest value counted in a bucket
+     *
+     * @param index The bucket index
+     * @return The upper bound of the bucket
+     */
+    private static long highestValueOf(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_COUNT - 1;
+        long mantissa = index % SUB_COUNT + SUB_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
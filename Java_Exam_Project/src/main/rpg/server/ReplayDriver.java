@@ -0,0 +1,241 @@
+package rpg.server;
+
+import rpg.GameManager;
+import rpg.logger.GameLogger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * ReplayDriver - Plays recorded input scripts in many concurrent sessions
+ * <p>
+ * Every session runs the real game loop ({@link GameManager#startGame()})
+ * on its own virtual thread, fed by a script instead of a player, with its
+ * output discarded. This measures the game end to end, from the main menu
+ * down to {@code DungeonExplorer}, without a terminal or a network.
+ * </p>
+ * <p>
+ * Script format: one answer per line. A line {@code @name} starts a timed
+ * action; its latency runs from the read of its first answer until the game
+ * asks for the first answer of the next action (or the script ends). Lines
+ * starting with {@code #} are comments, {@code @@} escapes a literal
+ * {@code @}, and {@code ${session}} is replaced by the session number so
+ * sessions can use distinct names. Blank lines are harmless at menu prompts
+ * ("Invalid choice"), so fights, whose length varies, are padded with them.
+ * </p>
+ * <p>
+ * Usage: {@code ReplayDriver [script] [sessions]}. Without a script the
+ * {@link #DEFAULT_SCRIPT} is played. Save and load actions write to
+ * {@code game.save.dir}, so point it to a scratch directory.
+ * </p>
+ */
+public class ReplayDriver {
+
+    private static final Logger logger = GameLogger.getLogger();
+
+    /**
+     * Creates a warrior, trains, rests, clears the Goblin Cave, saves,
+     * loads the first save and exits
+     */
+    public static final String DEFAULT_SCRIPT = String.join("\n",
+            "@create", "1", "warrior", "Player${session}",
+            "@train", "1", "",
+            "@rest", "2", "",
+            "@explore", "4", "1", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "",
+            "", "", "", "", "", "", "", "", "", "", "3", "", "",
+            "@save", "5", "replay_${session}",
+            "@load", "2", "1", "6",
+            "@exit", "0");
+
+    private final String[] lines;
+    private final String[] actions;
+
+    /**
+     * Creates a driver for a script
+     *
+     * @param script The script source
+     * @throws IOException If the script cannot be read
+     * @throws IllegalArgumentException If the script has no answer
+     */
+    public ReplayDriver(Reader script) throws IOException {
+        List<String> parsedLines = new ArrayList<>();
+        List<String> parsedActions = new ArrayList<>();
+        String pendingAction = null;
+
+        BufferedReader reader = script instanceof BufferedReader buffered ? buffered : new BufferedReader(script);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("@") && !line.startsWith("@@")) {
+                pendingAction = line.substring(1).trim();
+                continue;
+            }
+            parsedLines.add(line.startsWith("@@") ? line.substring(1) : line);
+            parsedActions.add(pendingAction);
+            pendingAction = null;
+        }
+
+        if (parsedLines.isEmpty()) {
+            throw new IllegalArgumentException("Replay script has no input lines");
+        }
+        this.lines = parsedLines.toArray(new String[0]);
+        this.actions = parsedActions.toArray(new String[0]);
+    }
+
+    /**
+     * Creates a driver for a script held in a string
+     *
+     * @param script The script
+     * @return The driver
+     */
+    public static ReplayDriver of(String script) {
+        try {
+            return new ReplayDriver(new StringReader(script));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read an in-memory script", e);
+        }
+    }
+
+    /**
+     * Plays the script in concurrent sessions
+     * <p>
+     * All sessions are released together once their threads are started.
+     * </p>
+     *
+     * @param sessions The number of sessions
+     * @return The latencies of every action, over all sessions
+     * @throws IllegalArgumentException If sessions is not positive
+     */
+    public ReplayReport run(int sessions) {
+        if (sessions <= 0) {
+            throw new IllegalArgumentException("Sessions must be positive");
+        }
+
+        ReplayReport report = new ReplayReport(sessions);
+        CountDownLatch start = new CountDownLatch(1);
+        long begin;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 1; i <= sessions; i++) {
+                String tag = Integer.toString(i);
+                executor.execute(() -> {
+                    ScriptedChannel channel = new ScriptedChannel(tag);
+                    try {
+                        start.await();
+                        new GameSession("replay-" + tag, channel).run(() -> new GameManager().startGame());
+                        channel.finish();
+                    } catch (SessionClosedException e) {
+                        // The game asked for more lines than the script has
+                        channel.finish();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (RuntimeException e) {
+                        logger.warning("Replay session " + tag + " failed: " + e.getMessage());
+                    }
+                    report.add(channel.latencies, channel.isComplete());
+                });
+            }
+            begin = System.nanoTime();
+            start.countDown();
+        }
+        report.setElapsedNanos(System.nanoTime() - begin);
+        return report;
+    }
+
+    /**
+     * ScriptedChannel - Answers prompts from the script and times its actions
+     */
+    private final class ScriptedChannel extends SessionChannel {
+
+        private final String tag;
+        private final Map<String, LatencyHistogram> latencies = new TreeMap<>();
+        private int next;
+        private String openAction;
+        private long openedAt;
+        private boolean overrun;
+
+        ScriptedChannel(String tag) {
+            super(Reader.nullReader(), new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8));
+            this.tag = tag;
+        }
+
+        /**
+         * Returns the next script line, closing and opening timed actions
+         *
+         * @return The next answer
+         * @throws SessionClosedException When the script is over
+         */
+        @Override
+        public String readLine() {
+            flush();
+            long now = System.nanoTime();
+            boolean actionBoundary = next == lines.length || actions[next] != null;
+            if (actionBoundary && openAction != null) {
+                latencies.computeIfAbsent(openAction, action -> new LatencyHistogram()).record(now - openedAt);
+                openAction = null;
+            }
+            if (next == lines.length) {
+                overrun = true;
+                throw new SessionClosedException("End of replay script");
+            }
+            if (actions[next] != null) {
+                openAction = actions[next];
+                openedAt = now;
+            }
+            return lines[next++].replace("${session}", tag);
+        }
+
+        /**
+         * Closes the last action when the game ends without reading again
+         */
+        void finish() {
+            if (openAction != null) {
+                latencies.computeIfAbsent(openAction, action -> new LatencyHistogram())
+                        .record(System.nanoTime() - openedAt);
+                openAction = null;
+            }
+        }
+
+        /**
+         * Checks whether the game and the script ended together
+         *
+         * @return true if every line was read and no more were asked for
+         */
+        boolean isComplete() {
+            return next == lines.length && !overrun;
+        }
+    }
+
+    /**
+     * Command-line entry point
+     *
+     * @param args Optional script file and number of sessions
+     * @throws IOException If the script cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        ReplayDriver driver = args.length > 0
+                ? new ReplayDriver(Files.newBufferedReader(Path.of(args[0]), StandardCharsets.UTF_8))
+                : of(DEFAULT_SCRIPT);
+        int sessions = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+
+        // First run warms up the JIT, the second one is reported
+        driver.run(Math.min(sessions, 100));
+        System.out.println(driver.run(sessions));
+    }
+}
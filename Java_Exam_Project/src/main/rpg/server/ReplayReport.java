@@ -0,0 +1,131 @@
+package rpg.server;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * ReplayReport - Results of a scripted load run
+ * <p>
+ * Holds one {@link LatencyHistogram} per action of the script (create,
+ * train, rest, explore, save, load...), merged over all sessions, plus the
+ * overall throughput of the run.
+ * </p>
+ */
+public class ReplayReport {
+
+    private final Map<String, LatencyHistogram> actions = new TreeMap<>();
+    private final int sessions;
+    private int incompleteSessions;
+    private long elapsedNanos;
+
+    /**
+     * Creates an empty report
+     *
+     * @param sessions The number of sessions of the run
+     */
+    ReplayReport(int sessions) {
+        this.sessions = sessions;
+    }
+
+    /**
+     * Adds the latencies measured by one session
+     *
+     * @param latencies The histograms of the session, by action
+     * @param complete false if the session and its script did not end together
+     */
+    synchronized void add(Map<String, LatencyHistogram> latencies, boolean complete) {
+        for (Map.Entry<String, LatencyHistogram> entry : latencies.entrySet()) {
+            actions.computeIfAbsent(entry.getKey(), action -> new LatencyHistogram()).merge(entry.getValue());
+        }
+        if (!complete) {
+            incompleteSessions++;
+        }
+    }
+
+    /**
+     * Sets the wall-clock duration of the run
+     *
+     * @param elapsedNanos The duration in nanoseconds
+     */
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the latencies of every action
+     *
+     * @return An unmodifiable map of histograms, sorted by action name
+     */
+    public synchronized Map<String, LatencyHistogram> getActions() {
+        return Collections.unmodifiableMap(new TreeMap<>(actions));
+    }
+
+    /**
+     * Gets the latencies of one action
+     *
+     * @param action The action name, as written after '@' in the script
+     * @return The histogram, or null if the action never ran
+     */
+    public synchronized LatencyHistogram getHistogram(String action) {
+        return actions.get(action);
+    }
+
+    /**
+     * Gets the number of sessions of the run
+     *
+     * @return The number of sessions
+     */
+    public int getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Gets the number of sessions that did not end with their script
+     * <p>
+     * The game either ended before the script or asked for more answers
+     * than it had. Usually a sign that the script went out of step with the
+     * menus, e.g. a fight lasted longer than its padding.
+     * </p>
+     *
+     * @return The number of incomplete sessions
+     */
+    public synchronized int getIncompleteSessions() {
+        return incompleteSessions;
+    }
+
+    /**
+     * Gets the number of timed actions per second over the whole run
+     *
+     * @return The throughput
+     */
+    public synchronized double getActionsPerSecond() {
+        long total = 0;
+        for (LatencyHistogram histogram : actions.values()) {
+            total += histogram.getCount();
+        }
+        return elapsedNanos == 0 ? 0.0 : total * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns a table of latencies per action, in microseconds
+     *
+     * @return The formatted report
+     */
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%d sessions (%d incomplete) in %.1f ms, %.0f actions/s%n",
+                sessions, incompleteSessions, elapsedNanos / 1_000_000.0, getActionsPerSecond()));
+        sb.append(String.format("%-10s %8s %10s %10s %10s %10s %10s%n",
+                "action", "count", "mean us", "p50 us", "p90 us", "p99 us", "max us"));
+        for (Map.Entry<String, LatencyHistogram> entry : actions.entrySet()) {
+            LatencyHistogram h = entry.getValue();
+            sb.append(String.format("%-10s %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                    entry.getKey(), h.getCount(), h.getMean() / 1_000.0,
+                    h.getPercentile(50) / 1_000.0, h.getPercentile(90) / 1_000.0,
+                    h.getPercentile(99) / 1_000.0, h.getMax() / 1_000.0));
+        }
+        return sb.toString();
+    }
+}
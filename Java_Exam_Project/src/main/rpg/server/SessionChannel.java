@@ -0,0 +1,187 @@
+package rpg.server;
+
+import rpg.output.ConsoleEventSink;
+import rpg.output.GameEventSink;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * SessionChannel - Line-based input and output of one game session
+ * <p>
+ * Menus receive the channel through {@code MenuComponent.execute} and use
+ * it for every prompt and answer. Input is read a line at a time from a
+ * {@link BufferedReader}: no tokenizer, no regular expressions, and a
+ * single buffer per session, so no line is ever swallowed by another
+ * reader. Output is buffered by the caller's stream and only sent on
+ * {@link #flush()}, which {@link #readLine()} calls before blocking, so a
+ * whole menu reaches the player in one write.
+ * </p>
+ * <p>
+ * A channel can be built over the console, a socket, a file or an
+ * in-memory script (see {@link #of(String, OutputStream)}).
+ * </p>
+ */
+public class SessionChannel {
+
+    private final BufferedReader reader;
+    private final PrintStream out;
+    private final GameEventSink sink;
+    private boolean closed;
+
+    /**
+     * Creates a channel over a reader and a print stream
+     *
+     * @param reader The source of the player's lines
+     * @param out The stream receiving the output, or null for the current System.out
+     * @throws IllegalArgumentException If the reader is null
+     */
+    public SessionChannel(Reader reader, PrintStream out) {
+        if (reader == null) {
+            throw new IllegalArgumentException("Channel reader cannot be null");
+        }
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.out = out;
+        this.sink = out != null ? new ConsoleEventSink(out) : ConsoleEventSink.getDefault();
+    }
+
+    /**
+     * Creates a UTF-8 channel over a pair of byte streams
+     * <p>
+     * The output stream should be buffered: the channel only flushes it
+     * explicitly.
+     * </p>
+     *
+     * @param input The player's input
+     * @param output The player's output
+     * @return The channel
+     */
+    public static SessionChannel of(InputStream input, OutputStream output) {
+        return new SessionChannel(new InputStreamReader(input, StandardCharsets.UTF_8),
+                new PrintStream(output, false, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a channel playing a script held in memory
+     * <p>
+     * Each line of the script answers one prompt.
+     * </p>
+     *
+     * @param script The player's answers, one per line
+     * @param output The stream receiving the output
+     * @return The channel
+     */
+    public static SessionChannel of(String script, OutputStream output) {
+        return new SessionChannel(new StringReader(script),
+                new PrintStream(output, false, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a channel over the console
+     *
+     * @return A channel reading System.in and printing to System.out
+     */
+    static SessionChannel console() {
+        return new SessionChannel(new InputStreamReader(System.in, Charset.defaultCharset()), null);
+    }
+
+    /**
+     * Reads the player's next line
+     * <p>
+     * Pending output is flushed first so the player sees the prompt.
+     * Like {@code Scanner.nextLine}, the end of the input is reported with an
+     * exception; once the input has ended, every further read fails at once.
+     * A read failure (a dropped connection, an idle timeout) ends the input
+     * too.
+     * </p>
+     *
+     * @return The line, without its terminator
+     * @throws SessionClosedException If the input has ended or cannot be read
+     */
+    public String readLine() {
+        flush();
+        if (closed) {
+            throw new SessionClosedException("Session input closed");
+        }
+        try {
+            String line = reader.readLine();
+            if (line == null) {
+                closed = true;
+                throw new SessionClosedException("Session input closed");
+            }
+            return line;
+        } catch (IOException e) {
+            closed = true;
+            throw new SessionClosedException("Session input failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Prints text without a line terminator
+     *
+     * @param text The text to print
+     */
+    public void print(String text) {
+        out().print(text);
+    }
+
+    /**
+     * Prints a line
+     *
+     * @param text The line to print
+     */
+    public void println(String text) {
+        out().println(text);
+    }
+
+    /**
+     * Prints formatted text
+     *
+     * @param format The format string
+     * @param args The format arguments
+     */
+    public void printf(String format, Object... args) {
+        out().printf(format, args);
+    }
+
+    /**
+     * Sends the buffered output to the player
+     */
+    public void flush() {
+        out().flush();
+    }
+
+    /**
+     * Gets the stream the channel prints to
+     *
+     * @return The output stream
+     */
+    public PrintStream getOut() {
+        return out();
+    }
+
+    /**
+     * Gets a sink printing game messages on this channel
+     * <p>
+     * Characters, monsters and the combat system of the session emit to
+     * it, so their messages reach this player.
+     * </p>
+     *
+     * @return The channel's event sink
+     */
+    public GameEventSink getSink() {
+        return sink;
+    }
+
+    private PrintStream out() {
+        return out != null ? out : System.out;
+    }
+}
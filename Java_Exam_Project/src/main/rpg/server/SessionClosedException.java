@@ -0,0 +1,40 @@
+package rpg.server;
+
+import java.util.NoSuchElementException;
+
+/**
+ * SessionClosedException - The player's input has ended
+ * <p>
+ * Thrown by {@link SessionChannel#readLine()} when the player hangs up,
+ * the console reaches end of file or a replay script runs out. It is the
+ * normal end of a session, not an error: menus let it through instead of
+ * reporting it, and the server closes the connection quietly.
+ * </p>
+ * <p>
+ * It extends {@link NoSuchElementException}, the exception
+ * {@code Scanner.nextLine} used for the same situation.
+ * </p>
+ */
+public class SessionClosedException extends NoSuchElementException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception for an input that has ended
+     *
+     * @param message The reason
+     */
+    public SessionClosedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates the exception for an input that could not be read
+     *
+     * @param message The reason
+     * @param cause The read failure
+     */
+    public SessionClosedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
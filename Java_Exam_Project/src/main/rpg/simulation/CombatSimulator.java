@@ -0,0 +1,315 @@
+package rpg.simulation;
+
+import rpg.combat.GameRandom;
+import rpg.factory.Character;
+import rpg.factory.CharacterFactory;
+import rpg.factory.Mage;
+import rpg.factory.Warrior;
+import rpg.factoryMonster.AbstractMonster;
+import rpg.factoryMonster.MonsterFactory;
+import rpg.logger.GameLogger;
+
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * CombatSimulator - Headless batch simulation of dungeon fights
+ * <p>
+ * This class replays the turn order used by {@code DungeonExplorer} together
+ * with the attack rules of {@code CombatSystem}, {@link Warrior}, {@link Mage}
+ * and {@link AbstractMonster}, but without any console input, console output
+ * or logging. Fights run on immutable {@link HeroProfile}/{@link MonsterProfile}
+ * snapshots, so no game object is created or modified per fight.
+ * </p>
+ * <p>
+ * The costs, bonuses and damage spreads come from the constants of those
+ * classes, and the hero and the monster draw from one generator in the
+ * order of a real fight: a fight on game objects sharing
+ * {@link #fightRandom(long, long)} ends exactly like its simulation.
+ * </p>
+ * <p>
+ * Trials are split into fixed-size chunks that run on the common fork-join
+ * pool through a parallel stream; every chunk owns its random generator and
+ * its partial {@link SimulationReport}, and the reports are merged at the end.
+ * </p>
+ * <p>
+ * Every fight draws from its own generator, seeded with
+ * {@code GameRandom.derive(seed, fightIndex)}. The results of a run therefore
+ * depend only on its seed, not on how chunks were spread over threads, and
+ * any single fight can be replayed with {@link #replay}.
+ * </p>
+ */
+public class CombatSimulator {
+
+    private static final Logger logger = GameLogger.getLogger();
+
+    // Fights per parallel task: large enough to amortize scheduling
+    private static final int CHUNK_SIZE = 16_384;
+    private static final int DEFAULT_MAX_TURNS = 1_000;
+
+    private final int maxTurns;
+
+    /**
+     * Creates a simulator with the default turn limit
+     */
+    public CombatSimulator() {
+        this(DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Creates a simulator with a custom turn limit
+     * <p>
+     * Fights that reach the limit are counted as defeats.
+     * </p>
+     *
+     * @param maxTurns The maximum number of turns per fight
+     * @throws IllegalArgumentException If maxTurns is not positive
+     */
+    public CombatSimulator(int maxTurns) {
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("Max turns must be positive");
+        }
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Simulates fights between a character and a monster
+     *
+     * @param character The character to simulate (it is not modified)
+     * @param monster The monster to simulate (it is not modified)
+     * @param trials The number of fights to run
+     * @return The aggregated results
+     */
+    public SimulationReport simulate(Character character, AbstractMonster monster, int trials) {
+        return simulate(HeroProfile.of(character), MonsterProfile.of(monster), trials);
+    }
+
+    /**
+     * Simulates fights between two combat profiles across all cores
+     * <p>
+     * A fresh seed is picked; it is available from the report to rerun
+     * the simulation or replay one of its fights.
+     * </p>
+     *
+     * @param hero The hero profile
+     * @param monster The monster profile
+     * @param trials The number of fights to run
+     * @return The aggregated results
+     * @throws IllegalArgumentException If a profile is null or trials is negative
+     */
+    public SimulationReport simulate(HeroProfile hero, MonsterProfile monster, int trials) {
+        return simulate(hero, monster, trials, GameRandom.newSeed());
+    }
+
+    /**
+     * Simulates fights between two combat profiles from a seed
+     * <p>
+     * The same seed always gives the same report, whatever the number of
+     * cores.
+     * </p>
+     *
+     * @param hero The hero profile
+     * @param monster The monster profile
+     * @param trials The number of fights to run
+     * @param seed The master seed of the simulation
+     * @return The aggregated results
+     * @throws IllegalArgumentException If a profile is null or trials is negative
+     */
+    public SimulationReport simulate(HeroProfile hero, MonsterProfile monster, int trials, long seed) {
+        if (hero == null || monster == null) {
+            throw new IllegalArgumentException("Hero and monster profiles cannot be null");
+        }
+        if (trials < 0) {
+            throw new IllegalArgumentException("Trials cannot be negative");
+        }
+
+        logger.info("Simulating " + trials + " fights: " + hero.getName() + " vs " + monster.getType()
+                + " (seed " + seed + ")");
+        long start = System.nanoTime();
+
+        int chunks = (int) ((trials + (long) CHUNK_SIZE - 1) / CHUNK_SIZE);
+        SimulationReport report = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> runChunk(hero, monster, seed, (long) chunk * CHUNK_SIZE,
+                        Math.min(CHUNK_SIZE, trials - chunk * CHUNK_SIZE)))
+                .reduce(SimulationReport::merge)
+                .orElseGet(() -> newReport(hero, monster));
+
+        report.setSeed(seed);
+        report.setElapsedNanos(System.nanoTime() - start);
+        logger.info("Simulation completed: " + report.getFights() + " fights");
+        return report;
+    }
+
+    /**
+     * Replays a single fight of a seeded simulation
+     * <p>
+     * The fight draws exactly the same numbers as fight number
+     * {@code fightIndex} of {@code simulate(hero, monster, trials, seed)}.
+     * </p>
+     *
+     * @param hero The hero profile
+     * @param monster The monster profile
+     * @param seed The master seed of the simulation
+     * @param fightIndex The index of the fight, starting at 0
+     * @return A report holding that single fight
+     * @throws IllegalArgumentException If a profile is null or the index is negative
+     */
+    public SimulationReport replay(HeroProfile hero, MonsterProfile monster, long seed, long fightIndex) {
+        if (hero == null || monster == null) {
+            throw new IllegalArgumentException("Hero and monster profiles cannot be null");
+        }
+        if (fightIndex < 0) {
+            throw new IllegalArgumentException("Fight index cannot be negative");
+        }
+
+        SimulationReport report = newReport(hero, monster);
+        fight(hero, monster, fightRandom(seed, fightIndex), report);
+        report.setSeed(seed);
+        return report;
+    }
+
+    /**
+     * Creates the generator of a single fight of a seeded simulation
+     * <p>
+     * Given to a character and a monster, it makes a fight on game objects
+     * draw the same numbers as fight number {@code fightIndex} of
+     * {@code simulate(hero, monster, trials, seed)}.
+     * </p>
+     *
+     * @param seed The master seed of the simulation
+     * @param fightIndex The index of the fight, starting at 0
+     * @return A new generator, positioned at the start of the fight
+     */
+    public static RandomGenerator fightRandom(long seed, long fightIndex) {
+        FightRandom random = new FightRandom();
+        random.reseed(GameRandom.derive(seed, fightIndex));
+        return random;
+    }
+
+    /**
+     * Runs a chunk of fights on the current worker thread
+     * <p>
+     * One generator is reused for the whole chunk and reseeded before
+     * each fight.
+     * </p>
+     *
+     * @param hero The hero profile
+     * @param monster The monster profile
+     * @param seed The master seed of the simulation
+     * @param firstFight The index of the first fight in this chunk
+     * @param fights The number of fights in this chunk
+     * @return The partial report for this chunk
+     */
+    private SimulationReport runChunk(HeroProfile hero, MonsterProfile monster, long seed,
+                                      long firstFight, int fights) {
+        SimulationReport report = newReport(hero, monster);
+        FightRandom random = new FightRandom();
+        for (int i = 0; i < fights; i++) {
+            random.reseed(GameRandom.derive(seed, firstFight + i));
+            fight(hero, monster, random, report);
+        }
+        return report;
+    }
+
+    /**
+     * Creates an empty report sized for the given profiles
+     *
+     * @param hero The hero profile
+     * @param monster The monster profile
+     * @return An empty report
+     */
+    private SimulationReport newReport(HeroProfile hero, MonsterProfile monster) {
+        return new SimulationReport(hero.getName(), monster.getType(), maxTurns, hero.getMaxHealth());
+    }
+
+    /**
+     * Runs a single fight and records its outcome
+     * <p>
+     * The hero attacks first; a zero-damage attack (not enough stamina) is a
+     * miss. The monster answers while it is alive, as in DungeonExplorer.
+     * </p>
+     *
+     * @param hero The hero profile
+     * @param monster The monster profile
+     * @param random The random generator for damage rolls
+     * @param report The report receiving the outcome
+     */
+    void fight(HeroProfile hero, MonsterProfile monster, RandomGenerator random, SimulationReport report) {
+        boolean mage = hero.getHeroClass() == HeroProfile.HeroClass.MAGE;
+        int power = hero.getAttackPower();
+        int heroHealth = hero.getHealth();
+        int stamina = hero.getStamina();
+        int mana = hero.getMana();
+        int monsterHealth = monster.getHealth();
+        int monsterDamage = monster.getBaseDamage();
+        int variance = (int) (monsterDamage * AbstractMonster.DAMAGE_VARIANCE);
+
+        int turns = 0;
+        while (turns < maxTurns) {
+            turns++;
+
+            // Hero's turn
+            int damage = 0;
+            if (mage) {
+                if (stamina >= Mage.ATTACK_STAMINA_COST) {
+                    stamina -= Mage.ATTACK_STAMINA_COST;
+                    if (mana >= Mage.SPELL_MANA_COST) {
+                        mana -= Mage.SPELL_MANA_COST;
+                        damage = power + Mage.SPELL_DAMAGE_BONUS + random.nextInt(Mage.SPELL_DAMAGE_SPREAD);
+                    } else {
+                        damage = power + random.nextInt(Mage.STAFF_DAMAGE_SPREAD);
+                    }
+                }
+            } else if (stamina >= Warrior.ATTACK_STAMINA_COST) {
+                stamina -= Warrior.ATTACK_STAMINA_COST;
+                damage = Math.max(1, power + random.nextInt(Warrior.ATTACK_DAMAGE_SPREAD));
+            }
+
+            if (damage > 0) {
+                monsterHealth = Math.max(0, monsterHealth - damage);
+                if (monsterHealth == 0) {
+                    report.record(true, turns, heroHealth);
+                    return;
+                }
+            }
+
+            // Monster's turn
+            int variation = random.nextInt(variance * 2 + 1) - variance;
+            heroHealth = Math.max(0, heroHealth - Math.max(1, monsterDamage + variation));
+            if (heroHealth == 0) {
+                report.record(false, turns, 0);
+                return;
+            }
+        }
+
+        report.record(false, turns, heroHealth);
+    }
+
+    /**
+     * Command-line entry point
+     * <p>
+     * Usage: {@code CombatSimulator [warrior|mage] [goblin|troll] [trials]}
+     * </p>
+     *
+     * @param args Optional hero type, monster type and number of trials
+     */
+    public static void main(String[] args) {
+        String heroType = args.length > 0 ? args[0] : "warrior";
+        String monsterType = args.length > 1 ? args[1] : "goblin";
+        int trials = args.length > 2 ? Integer.parseInt(args[2]) : 10_000_000;
+
+        Character hero = new CharacterFactory().createCharacter(heroType, "Simulated");
+        AbstractMonster monster = new MonsterFactory().createMonster(monsterType);
+        if (hero == null || monster == null) {
+            System.out.println("Invalid hero or monster type!");
+            return;
+        }
+
+        CombatSimulator simulator = new CombatSimulator();
+        // First run warms up the JIT, the second one is reported
+        simulator.simulate(hero, monster, Math.min(trials, 1_000_000));
+        System.out.println(simulator.simulate(hero, monster, trials));
+    }
+}
@@ -0,0 +1,149 @@
+package rpg.simulation;
+
+import rpg.factory.Character;
+import rpg.factory.Mage;
+import rpg.iterator.Inventory;
+
+/**
+ * HeroProfile - Immutable combat snapshot of a character
+ * <p>
+ * The simulator never touches the live character: it copies the values that
+ * matter in a fight (health, stamina, mana and attack power including the
+ * equipment bonus) once, and every simulated fight starts from this snapshot.
+ * </p>
+ */
+public final class HeroProfile {
+
+    /**
+     * HeroClass - attack rules applied by the simulator
+     */
+    public enum HeroClass {
+        WARRIOR,
+        MAGE
+    }
+
+    private final String name;
+    private final HeroClass heroClass;
+    private final int health;
+    private final int maxHealth;
+    private final int stamina;
+    private final int mana;
+    private final int attackPower;
+
+    /**
+     * Creates a hero profile
+     *
+     * @param name The hero name, used in reports
+     * @param heroClass The class whose attack rules apply
+     * @param health Health at the start of every fight
+     * @param maxHealth Maximum health, used to size the HP distribution
+     * @param stamina Stamina at the start of every fight
+     * @param mana Mana at the start of every fight (ignored for warriors)
+     * @param attackPower Base damage plus equipment bonus
+     * @throws IllegalArgumentException If the hero cannot fight
+     */
+    public HeroProfile(String name, HeroClass heroClass, int health, int maxHealth,
+                       int stamina, int mana, int attackPower) {
+        if (heroClass == null) {
+            throw new IllegalArgumentException("Hero class cannot be null");
+        }
+        if (health <= 0 || maxHealth < health) {
+            throw new IllegalArgumentException("Hero health must be positive and not exceed max health");
+        }
+        this.name = name != null ? name : "Unknown";
+        this.heroClass = heroClass;
+        this.health = health;
+        this.maxHealth = maxHealth;
+        this.stamina = Math.max(0, stamina);
+        this.mana = Math.max(0, mana);
+        this.attackPower = Math.max(0, attackPower);
+    }
+
+    /**
+     * Takes a snapshot of a live character
+     *
+     * @param character The character to copy
+     * @return The profile of the character
+     * @throws IllegalArgumentException If the character is null or dead
+     */
+    public static HeroProfile of(Character character) {
+        if (character == null) {
+            throw new IllegalArgumentException("Character cannot be null");
+        }
+
+        Inventory inventory = character.getInventory();
+        int equipmentBonus = inventory != null ? inventory.getTotalStatBonus() : 0;
+
+        if (character instanceof Mage mage) {
+            return new HeroProfile(character.getName(), HeroClass.MAGE, character.getHealth(),
+                    character.getMaxHealth(), character.getStamina(), mage.getMana(),
+                    character.getBaseDamage() + equipmentBonus);
+        }
+        return new HeroProfile(character.getName(), HeroClass.WARRIOR, character.getHealth(),
+                character.getMaxHealth(), character.getStamina(), 0,
+                character.getBaseDamage() + equipmentBonus);
+    }
+
+    /**
+     * Gets the hero name
+     * 
+     * @return The hero name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the class whose attack rules apply
+     * 
+     * @return The hero class
+     */
+    public HeroClass getHeroClass() {
+        return heroClass;
+    }
+
+    /**
+     * Gets the health at the start of every fight
+     * 
+     * @return The starting health
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Gets the hero's maximum health
+     * 
+     * @return The maximum health
+     */
+    public int getMaxHealth() {
+        return maxHealth;
+    }
+
+    /**
+     * Gets the stamina at the start of every fight
+     * 
+     * @return The starting stamina
+     */
+    public int getStamina() {
+        return stamina;
+    }
+
+    /**
+     * Gets the mana at the start of every fight
+     * 
+     * @return The starting mana
+     */
+    public int getMana() {
+        return mana;
+    }
+
+    /**
+     * Gets the base damage plus equipment bonus
+     * 
+     * @return The attack power
+     */
+    public int getAttackPower() {
+        return attackPower;
+    }
+}
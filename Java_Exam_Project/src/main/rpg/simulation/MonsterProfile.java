@@ -0,0 +1,75 @@
+package rpg.simulation;
+
+import rpg.factoryMonster.AbstractMonster;
+
+/**
+ * MonsterProfile - Immutable combat snapshot of a monster
+ * <p>
+ * Holds the values the simulator needs to replay a monster's attacks
+ * without creating a new monster for every fight.
+ * </p>
+ */
+public final class MonsterProfile {
+
+    private final String type;
+    private final int health;
+    private final int baseDamage;
+
+    /**
+     * Creates a monster profile
+     *
+     * @param type The monster type, used in reports
+     * @param health Health at the start of every fight
+     * @param baseDamage Base damage before the ±20% variation
+     * @throws IllegalArgumentException If the statistics are invalid
+     */
+    public MonsterProfile(String type, int health, int baseDamage) {
+        if (health <= 0 || baseDamage < 0) {
+            throw new IllegalArgumentException("Monster statistics must be positive");
+        }
+        this.type = type != null ? type : "Monster";
+        this.health = health;
+        this.baseDamage = baseDamage;
+    }
+
+    /**
+     * Takes a snapshot of a monster
+     *
+     * @param monster The monster to copy
+     * @return The profile of the monster
+     * @throws IllegalArgumentException If the monster is null
+     */
+    public static MonsterProfile of(AbstractMonster monster) {
+        if (monster == null) {
+            throw new IllegalArgumentException("Monster cannot be null");
+        }
+        return new MonsterProfile(monster.getType(), monster.getMaxHealth(), monster.getBaseDamage());
+    }
+
+    /**
+     * Gets the monster type
+     * 
+     * @return The monster type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Gets the health at the start of every fight
+     * 
+     * @return The starting health
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Gets the monster's base damage
+     * 
+     * @return The base damage
+     */
+    public int getBaseDamage() {
+        return baseDamage;
+    }
+}
@@ -0,0 +1,254 @@
+package rpg.simulation;
+
+/**
+ * SimulationReport - Aggregated results of a batch of simulated fights
+ * <p>
+ * Each worker fills its own report without any synchronization and the
+ * partial reports are merged at the end, so recording a fight is just a few
+ * array increments. Distributions are kept as plain histograms:
+ * <ul>
+ *   <li>turns: number of hero attacks until the fight ended</li>
+ *   <li>HP remaining: hero health left when the fight ended (0 on defeat)</li>
+ * </ul>
+ * </p>
+ */
+public class SimulationReport {
+
+    private final String heroName;
+    private final String monsterType;
+    private final long[] turnsHistogram;
+    private final long[] hpHistogram;
+
+    private long fights;
+    private long wins;
+    private long totalTurns;
+    private long totalHpRemaining;
+    private long elapsedNanos;
+    private long seed;
+
+    /**
+     * Creates an empty report
+     *
+     * @param heroName The name of the simulated hero
+     * @param monsterType The type of the simulated monster
+     * @param maxTurns The longest fight that can be recorded
+     * @param maxHealth The hero's maximum health
+     */
+    public SimulationReport(String heroName, String monsterType, int maxTurns, int maxHealth) {
+        this.heroName = heroName;
+        this.monsterType = monsterType;
+        this.turnsHistogram = new long[Math.max(1, maxTurns) + 1];
+        this.hpHistogram = new long[Math.max(1, maxHealth) + 1];
+    }
+
+    /**
+     * Records the outcome of a single fight
+     *
+     * @param victory true if the hero won
+     * @param turns The number of turns the fight lasted
+     * @param hpRemaining The hero's health at the end of the fight
+     */
+    void record(boolean victory, int turns, int hpRemaining) {
+        fights++;
+        if (victory) {
+            wins++;
+        }
+        totalTurns += turns;
+        totalHpRemaining += hpRemaining;
+        turnsHistogram[Math.min(turns, turnsHistogram.length - 1)]++;
+        hpHistogram[Math.max(0, Math.min(hpRemaining, hpHistogram.length - 1))]++;
+    }
+
+    /**
+     * Merges another partial report into this one
+     *
+     * @param other The report to merge
+     * @return This report, for use with stream reductions
+     */
+    SimulationReport merge(SimulationReport other) {
+        fights += other.fights;
+        wins += other.wins;
+        totalTurns += other.totalTurns;
+        totalHpRemaining += other.totalHpRemaining;
+        for (int i = 0; i < turnsHistogram.length; i++) {
+            turnsHistogram[i] += other.turnsHistogram[i];
+        }
+        for (int i = 0; i < hpHistogram.length; i++) {
+            hpHistogram[i] += other.hpHistogram[i];
+        }
+        return this;
+    }
+
+    /**
+     * Sets the wall-clock time spent running the simulation
+     *
+     * @param elapsedNanos The elapsed time in nanoseconds
+     */
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Sets the master seed the fights were drawn from
+     *
+     * @param seed The seed
+     */
+    void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the master seed the fights were drawn from
+     * <p>
+     * Passing it back to {@code CombatSimulator.simulate} reproduces this
+     * report; {@code CombatSimulator.replay} reruns a single fight.
+     * </p>
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of simulated fights
+     *
+     * @return The number of fights
+     */
+    public long getFights() {
+        return fights;
+    }
+
+    /**
+     * Gets the number of fights won by the hero
+     *
+     * @return The number of victories
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Gets the fraction of fights won by the hero
+     *
+     * @return The win rate between 0 and 1
+     */
+    public double getWinRate() {
+        return fights == 0 ? 0.0 : (double) wins / fights;
+    }
+
+    /**
+     * Gets the average fight length
+     *
+     * @return The average number of turns per fight
+     */
+    public double getAverageTurns() {
+        return fights == 0 ? 0.0 : (double) totalTurns / fights;
+    }
+
+    /**
+     * Gets the average hero health left at the end of a fight
+     *
+     * @return The average remaining health
+     */
+    public double getAverageHpRemaining() {
+        return fights == 0 ? 0.0 : (double) totalHpRemaining / fights;
+    }
+
+    /**
+     * Gets a percentile of the fight length distribution
+     *
+     * @param percentile The percentile to compute (0-100)
+     * @return The number of turns at the requested percentile
+     */
+    public int getTurnsPercentile(double percentile) {
+        return percentile(turnsHistogram, percentile);
+    }
+
+    /**
+     * Gets a percentile of the remaining health distribution
+     *
+     * @param percentile The percentile to compute (0-100)
+     * @return The remaining health at the requested percentile
+     */
+    public int getHpRemainingPercentile(double percentile) {
+        return percentile(hpHistogram, percentile);
+    }
+
+    /**
+     * Gets a copy of the turns histogram
+     * <p>
+     * Index i holds the number of fights that lasted i turns; the last
+     * bucket also counts every longer fight.
+     * </p>
+     *
+     * @return The turns histogram
+     */
+    public long[] getTurnsHistogram() {
+        return turnsHistogram.clone();
+    }
+
+    /**
+     * Gets a copy of the remaining health histogram
+     * <p>
+     * Index i holds the number of fights the hero ended with i health.
+     * </p>
+     *
+     * @return The remaining health histogram
+     */
+    public long[] getHpHistogram() {
+        return hpHistogram.clone();
+    }
+
+    /**
+     * Gets the simulation throughput
+     *
+     * @return The number of fights simulated per second
+     */
+    public double getFightsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : fights * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Finds the value at the given percentile of a histogram
+     *
+     * @param histogram The histogram to scan
+     * @param percentile The percentile to compute (0-100)
+     * @return The bucket index at the requested percentile
+     */
+    private int percentile(long[] histogram, double percentile) {
+        if (fights == 0) {
+            return 0;
+        }
+
+        long threshold = (long) Math.ceil(fights * Math.max(0.0, Math.min(100.0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= Math.max(1, threshold)) {
+                return i;
+            }
+        }
+        return histogram.length - 1;
+    }
+
+    /**
+     * Returns a human-readable summary of the simulation
+     *
+     * @return The formatted report
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "%s vs %s: %d fights, win rate %.2f%%%n"
+                        + "  turns:        avg %.2f, p50 %d, p90 %d, p99 %d%n"
+                        + "  HP remaining: avg %.2f, p10 %d, p50 %d, p90 %d%n"
+                        + "  throughput:   %.0f fights/s%n"
+                        + "  seed:         %d",
+                heroName, monsterType, fights, getWinRate() * 100,
+                getAverageTurns(), getTurnsPercentile(50), getTurnsPercentile(90), getTurnsPercentile(99),
+                getAverageHpRemaining(), getHpRemainingPercentile(10), getHpRemainingPercentile(50),
+                getHpRemainingPercentile(90),
+                getFightsPerSecond(), seed);
+    }
+}
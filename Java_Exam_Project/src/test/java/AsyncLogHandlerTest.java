@@ -0,0 +1,166 @@
+import rpg.logger.AsyncLogHandler;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.Assert.*;
+
+/**
+ * AsyncLogHandlerTest - Tests for the lock-free async log handler
+ * <p>
+ * The delegate collects the records it receives, and can be held inside
+ * its first publish to keep the writer thread busy while the buffer fills.
+ * </p>
+ */
+public class AsyncLogHandlerTest {
+
+    /**
+     * Delegate handler recording what the writer thread forwards
+     */
+    private static class CollectingHandler extends Handler {
+
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private volatile boolean closed;
+
+        CollectingHandler(boolean hold) {
+            this.release = new CountDownLatch(hold ? 1 : 0);
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (messages) {
+                messages.add(record.getMessage());
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        List<String> messages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+    }
+
+    /**
+     * Tests that concurrent producers lose nothing while the buffer has room
+     */
+    @Test
+    public void testConcurrentProducersLoseNothingBelowCapacity() throws InterruptedException {
+        CollectingHandler delegate = new CollectingHandler(false);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 4096);
+        int threads = 4;
+        int perThread = 500;
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            producers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    handler.publish(new LogRecord(Level.INFO, id + "-" + i));
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        handler.flush();
+
+        List<String> messages = delegate.messages();
+        assertEquals(threads * perThread, messages.size());
+        assertEquals(threads * perThread, new HashSet<>(messages).size());
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(0, handler.getQueueDepth());
+        handler.close();
+    }
+
+    /**
+     * Tests that records published into a full buffer are dropped and counted
+     */
+    @Test
+    public void testDropsAreCountedWhenFull() throws InterruptedException {
+        CollectingHandler delegate = new CollectingHandler(true);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 4);
+
+        // The writer takes the first record and is held inside the delegate
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "queued-" + i));
+        }
+        assertEquals(4, handler.getQueueDepth());
+        assertEquals(6, handler.getDroppedCount());
+
+        delegate.release.countDown();
+        handler.flush();
+        assertEquals(List.of("first", "queued-0", "queued-1", "queued-2", "queued-3"), delegate.messages());
+        handler.close();
+    }
+
+    /**
+     * Tests that close forwards every queued record before closing the delegate
+     */
+    @Test
+    public void testCloseDrainsTheQueue() throws InterruptedException {
+        CollectingHandler delegate = new CollectingHandler(true);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 256);
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "queued-" + i));
+        }
+        assertEquals(100, handler.getQueueDepth());
+
+        // Let the writer go only once close() is waiting for it
+        Thread.ofPlatform().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                return;
+            }
+            delegate.release.countDown();
+        });
+        handler.close();
+
+        Set<String> messages = new HashSet<>(delegate.messages());
+        assertEquals(101, messages.size());
+        assertTrue(messages.contains("queued-99"));
+        assertTrue(delegate.closed);
+
+        // Nothing is queued once closed
+        handler.publish(new LogRecord(Level.INFO, "late"));
+        assertEquals(101, delegate.messages().size());
+    }
+}
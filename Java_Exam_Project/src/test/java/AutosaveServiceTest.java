@@ -0,0 +1,80 @@
+import rpg.factory.Character;
+import rpg.factory.CharacterFactory;
+import rpg.rpgIO.AutosaveService;
+import rpg.rpgIO.SaveData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * AutosaveServiceTest - Tests for the batched autosave service
+ * <p>
+ * The service writes into an in-memory list so the tests can check
+ * coalescing and metrics without touching the disk.
+ * </p>
+ */
+public class AutosaveServiceTest {
+
+    private final List<SaveData> written = new ArrayList<>();
+    private AutosaveService service;
+    private Character hero;
+
+    /**
+     * Creates a service with an interval long enough that only explicit flushes run
+     */
+    @Before
+    public void setUp() {
+        service = new AutosaveService(60_000, (name, data) -> written.add(data));
+        hero = new CharacterFactory().createCharacter("warrior", "Conan");
+    }
+
+    /**
+     * Stops the service after each test
+     */
+    @After
+    public void tearDown() {
+        service.close();
+    }
+
+    /**
+     * Tests that repeated requests for one character produce a single write
+     */
+    @Test
+    public void testRequestsAreCoalesced() {
+        for (int i = 0; i < 5; i++) {
+            hero.train();
+            service.submit(hero);
+        }
+        assertEquals(1, service.getQueueDepth());
+        assertEquals(4, service.getCoalescedCount());
+
+        service.flush();
+
+        assertEquals(0, service.getQueueDepth());
+        assertEquals(1, written.size());
+        assertEquals(1, service.getSavedCount());
+        assertEquals(1, service.getFlushCount());
+        assertTrue(service.getMaxFlushMillis() >= service.getAverageFlushMillis());
+    }
+
+    /**
+     * Tests that the snapshot is taken when the save is requested
+     */
+    @Test
+    public void testSnapshotTakenAtSubmit() {
+        service.submit(hero);
+        assertTrue(written.isEmpty());
+        hero.takeDamage(hero.getHealth());
+
+        service.close();
+
+        assertEquals(1, written.size());
+        Character restored = written.get(0).toCharacter(new CharacterFactory());
+        assertTrue(restored.isAlive());
+    }
+}
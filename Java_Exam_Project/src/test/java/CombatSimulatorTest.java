@@ -0,0 +1,201 @@
+import rpg.combat.CombatSystem;
+import rpg.factory.Character;
+import rpg.factory.Mage;
+import rpg.factory.Warrior;
+import rpg.factoryMonster.AbstractMonster;
+import rpg.factoryMonster.MonsterFactory;
+import rpg.output.NoOpEventSink;
+import rpg.simulation.CombatSimulator;
+import rpg.simulation.HeroProfile;
+import rpg.simulation.MonsterProfile;
+import rpg.simulation.SimulationReport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import static org.junit.Assert.*;
+
+/**
+ * CombatSimulatorTest - Tests for the headless combat simulator
+ * <p>
+ * These tests run the simulator on hand-built profiles whose outcome is
+ * known in advance, and check that the aggregated report is consistent:
+ * <ul>
+ *   <li>Every trial is recorded exactly once</li>
+ *   <li>Histograms add up to the number of fights</li>
+ *   <li>Win rates match the obvious outcome of lopsided fights</li>
+ * </ul>
+ * </p>
+ */
+public class CombatSimulatorTest {
+
+    private CombatSimulator simulator;
+
+    /**
+     * Creates a fresh simulator before each test
+     */
+    @Before
+    public void setUp() {
+        simulator = new CombatSimulator();
+    }
+
+    /**
+     * Tests that every trial ends up in the report and its histograms
+     */
+    @Test
+    public void testReportCountsEveryFight() {
+        HeroProfile hero = new HeroProfile("Tester", HeroProfile.HeroClass.WARRIOR, 120, 120, 100, 0, 15);
+        MonsterProfile goblin = new MonsterProfile("Goblin", 20, 5);
+
+        SimulationReport report = simulator.simulate(hero, goblin, 100_003);
+
+        assertEquals(100_003, report.getFights());
+        assertEquals(100_003, Arrays.stream(report.getTurnsHistogram()).sum());
+        assertEquals(100_003, Arrays.stream(report.getHpHistogram()).sum());
+    }
+
+    /**
+     * Tests a fight the hero can never lose
+     */
+    @Test
+    public void testOverpoweredHeroAlwaysWinsInOneTurn() {
+        HeroProfile hero = new HeroProfile("Tester", HeroProfile.HeroClass.MAGE, 80, 80, 120, 50, 100);
+        MonsterProfile goblin = new MonsterProfile("Goblin", 20, 5);
+
+        SimulationReport report = simulator.simulate(hero, goblin, 10_000);
+
+        assertEquals(1.0, report.getWinRate(), 0.0);
+        assertEquals(1, report.getTurnsPercentile(99));
+        assertEquals(80, report.getHpRemainingPercentile(50));
+    }
+
+    /**
+     * Tests a fight the hero can never win (no stamina to attack)
+     */
+    @Test
+    public void testExhaustedHeroAlwaysLoses() {
+        HeroProfile hero = new HeroProfile("Tester", HeroProfile.HeroClass.WARRIOR, 10, 10, 0, 0, 15);
+        MonsterProfile troll = new MonsterProfile("Troll", 40, 8);
+
+        SimulationReport report = simulator.simulate(hero, troll, 10_000);
+
+        assertEquals(0.0, report.getWinRate(), 0.0);
+        assertEquals(0, report.getHpRemainingPercentile(100));
+    }
+
+    /**
+     * Tests that a seed fully determines the report, across chunks
+     */
+    @Test
+    public void testSameSeedGivesSameReport() {
+        HeroProfile hero = new HeroProfile("Tester", HeroProfile.HeroClass.WARRIOR, 120, 120, 100, 0, 15);
+        MonsterProfile troll = new MonsterProfile("Troll", 40, 8);
+
+        SimulationReport first = simulator.simulate(hero, troll, 50_000, 42L);
+        SimulationReport second = simulator.simulate(hero, troll, 50_000, 42L);
+
+        assertEquals(42L, first.getSeed());
+        assertEquals(first.getWins(), second.getWins());
+        assertArrayEquals(first.getTurnsHistogram(), second.getTurnsHistogram());
+        assertArrayEquals(first.getHpHistogram(), second.getHpHistogram());
+    }
+
+    /**
+     * Tests that replaying every fight of a seeded run gives back its results
+     */
+    @Test
+    public void testReplayMatchesSimulatedFights() {
+        HeroProfile hero = new HeroProfile("Tester", HeroProfile.HeroClass.MAGE, 80, 80, 120, 50, 10);
+        MonsterProfile troll = new MonsterProfile("Troll", 40, 8);
+
+        SimulationReport report = simulator.simulate(hero, troll, 200, 7L);
+
+        long wins = 0;
+        double hpRemaining = 0;
+        for (int i = 0; i < 200; i++) {
+            SimulationReport fight = simulator.replay(hero, troll, 7L, i);
+            assertEquals(1, fight.getFights());
+            wins += fight.getWins();
+            hpRemaining += fight.getAverageHpRemaining();
+        }
+
+        assertEquals(report.getWins(), wins);
+        assertEquals(report.getAverageHpRemaining() * 200, hpRemaining, 1e-6);
+    }
+
+    /**
+     * Tests that simulated fights end like fights on game objects
+     * <p>
+     * The game objects share the generator of the simulated fight and
+     * fight through {@link CombatSystem} in the turn order of the dungeon,
+     * so any drift between the simulator and Warrior.attack, Mage.attack
+     * or AbstractMonster.attack shows up as a different outcome.
+     * </p>
+     */
+    @Test
+    public void testSimulationMatchesGameObjects() {
+        MonsterFactory monsters = new MonsterFactory();
+        assertFightsMatch(() -> new Warrior("Conan"), () -> monsters.createMonster("goblin"));
+        assertFightsMatch(() -> new Mage("Merlin"), () -> monsters.createMonster("troll"));
+        // Out of mana: staff attacks
+        assertFightsMatch(() -> tired(new Mage("Merlin"), 30), () -> monsters.createMonster("troll"));
+        // Out of stamina after a few attacks
+        assertFightsMatch(() -> tired(new Mage("Merlin"), 38), () -> monsters.createMonster("troll"));
+        assertFightsMatch(() -> tired(new Warrior("Conan"), 18), () -> monsters.createMonster("troll"));
+    }
+
+    /**
+     * Spends a hero's stamina and mana with attacks into the void
+     *
+     * @param hero The hero
+     * @param attacks The number of attacks
+     * @return The hero
+     */
+    private static Character tired(Character hero, int attacks) {
+        hero.setEventSink(NoOpEventSink.INSTANCE);
+        for (int i = 0; i < attacks; i++) {
+            hero.attack();
+        }
+        return hero;
+    }
+
+    /**
+     * Compares simulated fights with the same fights on game objects
+     *
+     * @param heroes Creates a fresh hero for each fight
+     * @param monsters Creates a fresh monster for each fight
+     */
+    private void assertFightsMatch(Supplier<Character> heroes, Supplier<AbstractMonster> monsters) {
+        HeroProfile hero = HeroProfile.of(heroes.get());
+        MonsterProfile monster = MonsterProfile.of(monsters.get());
+        CombatSystem combatSystem = new CombatSystem(NoOpEventSink.INSTANCE);
+
+        for (int i = 0; i < 50; i++) {
+            Character character = heroes.get();
+            AbstractMonster enemy = monsters.get();
+            character.setEventSink(NoOpEventSink.INSTANCE);
+            enemy.setEventSink(NoOpEventSink.INSTANCE);
+            RandomGenerator random = CombatSimulator.fightRandom(11L, i);
+            character.setRandom(random);
+            enemy.setRandom(random);
+
+            int turns = 0;
+            while (enemy.isAlive() && character.isAlive()) {
+                turns++;
+                combatSystem.executeAttack(character, enemy);
+                if (enemy.isAlive()) {
+                    combatSystem.executeMonsterAttack(enemy, character);
+                }
+            }
+
+            SimulationReport fight = simulator.replay(hero, monster, 11L, i);
+            String label = hero.getName() + " vs " + monster.getType() + ", fight " + i;
+            assertEquals(label, character.isAlive() ? 1 : 0, fight.getWins());
+            assertEquals(label, turns, fight.getAverageTurns(), 0.0);
+            assertEquals(label, character.getHealth(), fight.getAverageHpRemaining(), 0.0);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+import rpg.builder.Dungeon;
+import rpg.content.ContentCatalog;
+import rpg.content.ContentPackLoader;
+import rpg.factoryMonster.AbstractMonster;
+import rpg.factoryMonster.Goblin;
+import rpg.factoryMonster.MonsterFactory;
+import rpg.factoryMonster.MonsterTemplate;
+import rpg.iterator.Item;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * ContentPackLoaderTest - Tests for the content pack loader and catalog
+ */
+public class ContentPackLoaderTest {
+
+    private static final String PACK = """
+            # Test pack
+            [item fang]
+            name = Wolf Fang
+            type = misc
+            value = 4
+
+            [monster wolf]
+            name = Grey Wolf
+            type = Wolf
+            health = 12
+            damage = 3
+            gold = 2
+            dropChance = 25
+            drops = fang
+
+            [dungeon den]
+            name = Wolf Den
+            description = A den that smells of wet fur.
+            gold = 40
+            monster = WOLF
+            """;
+
+    /**
+     * Tests that a pack compiles into templates and dungeons
+     */
+    @Test
+    public void testPackCompilesToTemplates() throws IOException {
+        ContentCatalog catalog = new ContentPackLoader().load("test.pack", new StringReader(PACK)).build();
+
+        MonsterTemplate wolf = catalog.getMonster("Wolf");
+        assertSame(wolf, catalog.getMonster("wolf"));
+        assertEquals("Grey Wolf", wolf.getName());
+        assertEquals("Wolf", wolf.getType());
+        assertEquals(12, wolf.getHealth());
+        assertEquals(25, wolf.getDropChance());
+        assertEquals(List.of(Item.of("Wolf Fang", Item.ItemType.MISC, 4, 0)), wolf.getDrops());
+
+        Dungeon den = catalog.getDungeons().get(0);
+        assertEquals("Wolf Den", den.getName());
+        assertEquals(40, den.getGoldReward());
+        assertEquals("WOLF", den.getMonsterType());
+        assertSame(wolf, catalog.getMonster(den.getMonsterType()));
+    }
+
+    /**
+     * Tests that mistakes are reported with the file and line
+     */
+    @Test
+    public void testErrorsNameFileAndLine() throws IOException {
+        assertLoadFails("[monster bat]\nname = Bat\nhealth = 5\ndamage = 1\ndrops = wing\n", "bad.pack:5:");
+        assertLoadFails("[monster bat]\nname = Bat\nhealth = five\n", "bad.pack:3:");
+        assertLoadFails("[item wing]\nname = Wing\ntype = MISC\ncolour = black\n", "bad.pack:4:");
+        assertLoadFails("[dungeon cave]\nname = Cave\nmonster = nobody\n", "bad.pack:3:");
+        assertLoadFails("name = Orphan\n", "bad.pack:1:");
+        assertLoadFails("[monster bat]\nname = Bat\nhealth = 0\ndamage = 1\n", "bad.pack:1:");
+    }
+
+    /**
+     * Tests that the core pack describes the base game monsters and dungeons
+     */
+    @Test
+    public void testCorePackMatchesBaseGame() throws IOException {
+        ContentCatalog core = new ContentPackLoader().loadResource(ContentPackLoader.CORE_PACK).build();
+        MonsterTemplate goblin = core.getMonster("goblin");
+        Goblin builtIn = new Goblin();
+        assertEquals(builtIn.getMaxHealth(), goblin.getHealth());
+        assertEquals(builtIn.getBaseDamage(), goblin.getBaseDamage());
+        assertEquals(builtIn.getGoldDrop(), goblin.getGoldDrop());
+        assertEquals(builtIn.getPossibleDrops(), goblin.getDrops());
+        assertEquals(2, core.getDungeons().size());
+
+        AbstractMonster spawned = new MonsterFactory().createMonster("goblin");
+        assertEquals("Goblin", spawned.getType());
+        assertEquals("Goblin [Health: 20/20, Damage: 5]", spawned.toString());
+    }
+
+    private static void assertLoadFails(String pack, String location) throws IOException {
+        try {
+            new ContentPackLoader().load("bad.pack", new StringReader(pack));
+            fail("Expected an invalid pack: " + pack);
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith(location));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+import rpg.content.ContentCatalog;
+import rpg.content.ContentReloader;
+import rpg.factoryMonster.AbstractMonster;
+import rpg.factoryMonster.MonsterFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ * ContentReloaderTest - Tests for the hot reload of content packs
+ */
+public class ContentReloaderTest {
+
+    private static final String WOLF_PACK = """
+            [monster wolf]
+            name = Wolf
+            health = 12
+            damage = 3
+            """;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Tests that a changed pack is picked up and published by the watcher
+     */
+    @Test
+    public void testWatcherPublishesChangedPacks() throws IOException, InterruptedException {
+        Path directory = folder.getRoot().toPath();
+        try (ContentReloader reloader = new ContentReloader(directory)) {
+            Files.writeString(directory.resolve("wolf.pack"), WOLF_PACK);
+
+            for (int attempt = 0; attempt < 100 && reloader.getReloadCount() == 0; attempt++) {
+                Thread.sleep(50);
+            }
+
+            assertTrue(reloader.getReloadCount() > 0);
+            assertEquals(12, ContentCatalog.current().getMonster("wolf").getHealth());
+            assertNotNull(ContentCatalog.current().getMonster("goblin"));
+        } finally {
+            Files.deleteIfExists(directory.resolve("wolf.pack"));
+            restoreCore(directory);
+        }
+    }
+
+    /**
+     * Tests that an invalid pack keeps the current catalog and that a monster
+     * already spawned is not affected by a reload
+     */
+    @Test
+    public void testReloadKeepsSnapshots() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (ContentReloader reloader = new ContentReloader(directory)) {
+            Files.writeString(directory.resolve("wolf.pack"), WOLF_PACK);
+            assertTrue(reloader.reload());
+            ContentCatalog withWolf = ContentCatalog.current();
+            AbstractMonster wolf = new MonsterFactory().createMonster("wolf");
+
+            Files.writeString(directory.resolve("wolf.pack"), WOLF_PACK.replace("12", "twelve"));
+            assertFalse(reloader.reload());
+            assertSame(withWolf, ContentCatalog.current());
+            assertEquals(1, reloader.getFailureCount());
+
+            Files.delete(directory.resolve("wolf.pack"));
+            assertTrue(reloader.reload());
+            assertNull(ContentCatalog.current().getMonster("wolf"));
+            assertSame(withWolf.getMonster("wolf"), wolf.getTemplate());
+            assertEquals(12, wolf.getHealth());
+        } finally {
+            restoreCore(directory);
+        }
+    }
+
+    /**
+     * Publishes the core content again for the other tests
+     */
+    private static void restoreCore(Path emptyDirectory) throws IOException {
+        try (ContentReloader reloader = new ContentReloader(emptyDirectory)) {
+            assertTrue(reloader.reload());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+import rpg.content.ContentCatalog;
+import rpg.content.ContentPackLoader;
+import rpg.factoryMonster.DropTable;
+import rpg.factoryMonster.MonsterTemplate;
+import rpg.iterator.Item;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.*;
+
+/**
+ * DropTableTest - Tests for the weighted loot tables
+ */
+public class DropTableTest {
+
+    private static final Item FANG = Item.of("Fang", Item.ItemType.MISC, 4, 0);
+    private static final Item PELT = Item.of("Pelt", Item.ItemType.MISC, 9, 0);
+    private static final Item CLAW = Item.of("Claw", Item.ItemType.WEAPON, 20, 2);
+
+    /**
+     * Tests that rolls follow the weights
+     */
+    @Test
+    public void testRollsFollowWeights() {
+        DropTable table = DropTable.builder().add(FANG, 5).add(PELT, 3).add(CLAW, 0).nothing(2).build();
+        assertEquals(0.5, table.getChance(0), 1e-9);
+        assertEquals(0.2, table.getNothingChance(), 1e-9);
+        assertEquals(80, table.getDropChance());
+
+        long[] counts = new long[table.size()];
+        long kills = 1_000_000;
+        long dropped = table.rollN(new SplittableRandom(42), kills, counts);
+
+        assertEquals(counts[0] + counts[1] + counts[2], dropped);
+        assertEquals(0.5, (double) counts[0] / kills, 0.005);
+        assertEquals(0.3, (double) counts[1] / kills, 0.005);
+        assertEquals(0, counts[2]);
+    }
+
+    /**
+     * Tests the buffer API and that a monster-wide drop chance rolls every
+     * item on its own, at most once per kill
+     */
+    @Test
+    public void testRollIntoBuffer() {
+        DropTable table = DropTable.fromDropChance(List.of(FANG, PELT), 50);
+        assertTrue(table.isIndependent());
+        assertEquals(2, table.getRolls());
+        assertEquals(50, table.getDropChance());
+        assertEquals(0.25, table.getNothingChance(), 1e-9);
+
+        Item[] buffer = new Item[2];
+        SplittableRandom random = new SplittableRandom(7);
+        long fangs = 0;
+        long both = 0;
+        for (int kill = 0; kill < 100_000; kill++) {
+            int dropped = table.roll(random, buffer, 0);
+            for (int i = 0; i < dropped; i++) {
+                if (buffer[i] == FANG) {
+                    fangs++;
+                }
+            }
+            if (dropped == 2) {
+                assertNotSame(buffer[0], buffer[1]);
+                both++;
+            }
+        }
+        assertEquals(0.5, fangs / 100_000.0, 0.01);
+        assertEquals(0.25, both / 100_000.0, 0.01);
+
+        long[] counts = new long[2];
+        table.rollN(random, 100_000, counts);
+        assertEquals(0.5, counts[1] / 100_000.0, 0.01);
+
+        try {
+            table.roll(random, new Item[1], 0);
+            fail("Expected a buffer too small for two rolls");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        assertTrue(DropTable.fromDropChance(List.of(FANG), 0).isEmpty());
+        assertEquals(0, DropTable.EMPTY.roll(random, new Item[1], 0));
+    }
+
+    /**
+     * Tests that a pack with drop weights compiles to a weighted table
+     */
+    @Test
+    public void testPackWithWeightedDrops() throws IOException {
+        String pack = """
+                [item fang]
+                name = Fang
+                type = MISC
+                value = 4
+
+                [monster wolf]
+                name = Wolf
+                health = 12
+                damage = 3
+                drops = fang:1
+                noDrop = 3
+                rolls = 2
+                """;
+        ContentCatalog catalog = new ContentPackLoader().load("wolf.pack", new StringReader(pack)).build();
+        MonsterTemplate wolf = catalog.getMonster("wolf");
+        assertEquals(2, wolf.getDropTable().getRolls());
+        assertFalse(wolf.getDropTable().isIndependent());
+        assertEquals(0.25, wolf.getDropTable().getChance(0), 1e-9);
+        assertEquals(25, wolf.getDropChance());
+
+        try {
+            new ContentPackLoader().load("mixed.pack", new StringReader(pack.replace("rolls = 2", "dropChance = 50")));
+            fail("Expected dropChance and weights to be rejected together");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("mixed.pack:12:"));
+        }
+    }
+}
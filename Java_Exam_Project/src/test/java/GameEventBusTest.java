@@ -0,0 +1,98 @@
+import rpg.factory.Character;
+import rpg.factory.CharacterFactory;
+import rpg.observer.GameEvent;
+import rpg.observer.GameEventBus;
+import rpg.observer.GameEventListener;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * GameEventBusTest - Tests for the typed game event bus
+ */
+public class GameEventBusTest {
+
+    private final Character hero = new CharacterFactory().createCharacter("warrior", "Hero");
+
+    /**
+     * Tests that listeners only receive the events they subscribed to
+     */
+    @Test
+    public void testSynchronousDeliveryByType() {
+        GameEventBus bus = new GameEventBus();
+        List<GameEvent> levels = new ArrayList<>();
+        List<GameEvent> all = new ArrayList<>();
+        GameEventListener<GameEvent.LevelUp> levelListener = levels::add;
+
+        assertTrue(bus.subscribe(GameEvent.LevelUp.class, levelListener));
+        assertFalse(bus.subscribe(GameEvent.LevelUp.class, levelListener));
+        bus.subscribe(GameEvent.class, all::add);
+
+        bus.publish(new GameEvent.LevelUp(hero, 2));
+        bus.publish(new GameEvent.CharacterDied(hero, "Troll"));
+
+        assertEquals(1, levels.size());
+        assertEquals(2, all.size());
+        assertFalse(bus.isAsync());
+
+        assertTrue(bus.unsubscribe(GameEvent.LevelUp.class, levelListener));
+        bus.publish(new GameEvent.LevelUp(hero, 3));
+        assertEquals(1, levels.size());
+    }
+
+    /**
+     * Tests that a failing listener does not keep the others from the event
+     */
+    @Test
+    public void testFailingListenerIsIsolated() {
+        GameEventBus bus = new GameEventBus();
+        List<GameEvent> received = new ArrayList<>();
+        bus.subscribe(GameEvent.DamageTaken.class, event -> {
+            throw new IllegalStateException("broken listener");
+        });
+        bus.subscribe(GameEvent.DamageTaken.class, received::add);
+
+        bus.publish(new GameEvent.DamageTaken(hero, "Goblin", 5, 95));
+
+        assertEquals(1, received.size());
+    }
+
+    /**
+     * Tests that a slow listener makes a full queue drop events instead of blocking
+     */
+    @Test
+    public void testAsyncBusDropsWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<GameEvent> received = new ArrayList<>();
+        try (GameEventBus bus = new GameEventBus(4)) {
+            bus.subscribe(GameEvent.StaminaRecovered.class, event -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                synchronized (received) {
+                    received.add(event);
+                }
+            });
+
+            long start = System.nanoTime();
+            for (int i = 0; i < 20; i++) {
+                bus.publish(new GameEvent.StaminaRecovered(hero, i));
+            }
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+            assertTrue(bus.getDroppedCount() >= 20 - 4 - 1);
+
+            release.countDown();
+            assertTrue(bus.flush(5_000));
+            synchronized (received) {
+                assertEquals(20 - bus.getDroppedCount(), received.size());
+            }
+        }
+    }
+}
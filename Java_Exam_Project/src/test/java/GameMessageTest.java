@@ -0,0 +1,163 @@
+import rpg.factory.Warrior;
+import rpg.output.BufferedEventSink;
+import rpg.output.GameEventSink;
+import rpg.output.GameMessage;
+import rpg.output.NoOpEventSink;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * GameMessageTest - Tests for the message catalog and the event sinks
+ * <p>
+ * Every message must render exactly as the printf call it replaced, so the
+ * console output of the game does not change.
+ * </p>
+ */
+public class GameMessageTest {
+
+    private static final String ACTOR = "Conan";
+    private static final String DETAIL = "Iron Sword";
+    private static final int VALUE = 12;
+    private static final int CURRENT = 38;
+    private static final int MAX = 100;
+
+    // Monsters printed their type and name as two arguments; they now emit one display name
+    private static final String MONSTER_TYPE = "Goblin";
+    private static final String MONSTER_NAME = "Grak";
+
+    /**
+     * Format string and arguments of the output a message replaced
+     */
+    private record Legacy(String format, Object... args) {
+        String render() {
+            return String.format(format, args);
+        }
+    }
+
+    /**
+     * Builds the legacy output of every message, with the sample arguments
+     *
+     * @return The legacy format of each message
+     */
+    private static Map<GameMessage, Legacy> legacyFormats() {
+        Map<GameMessage, Legacy> legacy = new EnumMap<>(GameMessage.class);
+        legacy.put(GameMessage.CHARACTER_DAMAGED, new Legacy("%s takes %d damage! Health: %d/%d", ACTOR, VALUE, CURRENT, MAX));
+        legacy.put(GameMessage.CHARACTER_DEFEATED, new Legacy("%s has been defeated!", ACTOR));
+        legacy.put(GameMessage.STAMINA_RESTORED, new Legacy("%s restored %d stamina. Stamina: %d/%d", ACTOR, VALUE, CURRENT, MAX));
+        legacy.put(GameMessage.STAMINA_USED, new Legacy("%s used %d stamina. Stamina: %d/%d", ACTOR, VALUE, CURRENT, MAX));
+        legacy.put(GameMessage.CHARACTER_RESTED, new Legacy("%s rests and recovers stamina.", ACTOR));
+        legacy.put(GameMessage.TRAINING_NO_MONEY, new Legacy("Not enough money to train!"));
+        legacy.put(GameMessage.LEVEL_UP, new Legacy("%s is now level %d!", ACTOR, VALUE));
+        legacy.put(GameMessage.WARRIOR_TOO_TIRED, new Legacy("%s is too tired to attack!", ACTOR));
+        legacy.put(GameMessage.WARRIOR_ATTACK, new Legacy("%s attacks for %d damage!", ACTOR, VALUE));
+        legacy.put(GameMessage.WARRIOR_TRAINED, new Legacy("%s trains with weapons!", ACTOR));
+        legacy.put(GameMessage.MAGE_TOO_TIRED, new Legacy("%s is too tired!", ACTOR));
+        legacy.put(GameMessage.MAGE_SPELL, new Legacy("%s casts a spell for %d damage! Mana: %d/%d", ACTOR, VALUE, CURRENT, MAX));
+        legacy.put(GameMessage.MAGE_STAFF, new Legacy("%s attacks with staff for %d damage!", ACTOR, VALUE));
+        legacy.put(GameMessage.MAGE_TRAINED, new Legacy("%s studies magic!", ACTOR));
+        legacy.put(GameMessage.MAGE_MEDITATED, new Legacy("%s meditates and restores mana!", ACTOR));
+        legacy.put(GameMessage.ITEM_NOT_IN_INVENTORY, new Legacy("Item not in inventory!"));
+        legacy.put(GameMessage.ITEM_EQUIPPED_BY, new Legacy("%s equipped %s!", ACTOR, DETAIL));
+        legacy.put(GameMessage.ITEM_ADDED_BY, new Legacy("%s added %s!", ACTOR, DETAIL));
+        legacy.put(GameMessage.INVENTORY_ADDED, new Legacy("Added " + DETAIL + " to inventory"));
+        legacy.put(GameMessage.INVENTORY_UNEQUIPPED, new Legacy("Unequipping " + DETAIL));
+        legacy.put(GameMessage.INVENTORY_EQUIPPED, new Legacy("Equipped " + DETAIL));
+        legacy.put(GameMessage.MONSTER_ATTACK, new Legacy("%s %s attacks for %d damage!", MONSTER_TYPE, MONSTER_NAME, VALUE));
+        legacy.put(GameMessage.MONSTER_INVALID_DAMAGE, new Legacy("Invalid damage ignored"));
+        legacy.put(GameMessage.MONSTER_DAMAGED, new Legacy("%s %s takes %d damage! Health: %d/%d",
+                MONSTER_TYPE, MONSTER_NAME, VALUE, CURRENT, MAX));
+        legacy.put(GameMessage.MONSTER_DEFEATED, new Legacy("%s %s has been defeated!", MONSTER_TYPE, MONSTER_NAME));
+        legacy.put(GameMessage.PLAYER_HIT, new Legacy("You dealt " + VALUE + " damage!"));
+        legacy.put(GameMessage.PLAYER_MISSED, new Legacy("You missed the target!"));
+        legacy.put(GameMessage.MONSTER_HIT, new Legacy(MONSTER_TYPE + " dealt " + VALUE + " damage to you!"));
+        legacy.put(GameMessage.MONSTER_MISSED, new Legacy(MONSTER_TYPE + " missed the attack!"));
+        return legacy;
+    }
+
+    /**
+     * Gets the actor a message is emitted with
+     *
+     * @param message The message
+     * @return The actor argument of the message
+     */
+    private static String actorOf(GameMessage message) {
+        return switch (message) {
+            case MONSTER_ATTACK, MONSTER_DAMAGED, MONSTER_DEFEATED -> MONSTER_TYPE + " " + MONSTER_NAME;
+            case MONSTER_HIT, MONSTER_MISSED -> MONSTER_TYPE;
+            default -> ACTOR;
+        };
+    }
+
+    /**
+     * Tests that every message renders like the printf call it replaced
+     */
+    @Test
+    public void testRenderMatchesLegacyFormat() {
+        Map<GameMessage, Legacy> legacy = legacyFormats();
+        assertEquals("Every message needs a legacy format", GameMessage.values().length, legacy.size());
+
+        for (GameMessage message : GameMessage.values()) {
+            String rendered = message.render(actorOf(message), DETAIL, VALUE, CURRENT, MAX);
+            assertEquals(message.name(), legacy.get(message).render(), rendered);
+        }
+    }
+
+    /**
+     * Tests that renderTo appends to the existing content of a buffer
+     */
+    @Test
+    public void testRenderToAppends() {
+        StringBuilder out = new StringBuilder("> ");
+        GameMessage.LEVEL_UP.renderTo(out, ACTOR, null, 3, 0, 0);
+        assertEquals("> Conan is now level 3!", out.toString());
+    }
+
+    /**
+     * Tests that the buffered sink collects messages until it is flushed
+     */
+    @Test
+    public void testBufferedSinkCollects() {
+        BufferedEventSink sink = new BufferedEventSink();
+        sink.emit(GameMessage.WARRIOR_ATTACK, ACTOR, VALUE);
+        sink.emit(GameMessage.INVENTORY_EQUIPPED, null, DETAIL);
+
+        String newline = System.lineSeparator();
+        assertEquals(2, sink.getMessageCount());
+        assertEquals("Conan attacks for 12 damage!" + newline + "Equipped Iron Sword" + newline, sink.getText());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        sink.flushTo(new PrintStream(bytes, true));
+        assertEquals("Conan attacks for 12 damage!" + newline + "Equipped Iron Sword" + newline, bytes.toString());
+        assertEquals(0, sink.getMessageCount());
+        assertEquals("", sink.getText());
+    }
+
+    /**
+     * Tests that the no-op sink drops messages without rendering or printing them
+     */
+    @Test
+    public void testNoOpSinkDrops() {
+        GameEventSink sink = NoOpEventSink.INSTANCE;
+        // A null message would fail as soon as anything tried to render it
+        sink.emit(null, ACTOR, DETAIL, VALUE, CURRENT, MAX);
+
+        PrintStream console = System.out;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(bytes, true));
+        try {
+            Warrior warrior = new Warrior(ACTOR);
+            warrior.setEventSink(sink);
+            warrior.attack();
+            warrior.takeDamage(VALUE);
+        } finally {
+            System.setOut(console);
+        }
+        assertEquals("", bytes.toString());
+    }
+}
@@ -0,0 +1,140 @@
+import rpg.server.GameServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
+
+/**
+ * GameServerTest - Tests for the multi-session game server
+ * <p>
+ * Every test plays scripted games over real connections on a free port:
+ * a player creates a character, returns to the main menu and exits.
+ * </p>
+ */
+public class GameServerTest {
+
+    private GameServer server;
+    private PrintStream console;
+
+    /**
+     * Starts a server on a free port
+     *
+     * @throws IOException If the server cannot be bound
+     */
+    @Before
+    public void setUp() throws IOException {
+        console = System.out;
+        server = new GameServer(0);
+        server.start();
+    }
+
+    /**
+     * Stops the server after each test
+     *
+     * @throws IOException If the server cannot be closed
+     */
+    @After
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    /**
+     * Plays a full game and returns everything the server sent
+     *
+     * @param name The name of the character to create
+     * @return The transcript of the session
+     * @throws IOException If the connection fails
+     */
+    private String play(String name) throws IOException {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(10_000);
+            OutputStream out = socket.getOutputStream();
+            out.write(("1\nwarrior\n" + name + "\n6\n0\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+
+            ByteArrayOutputStream transcript = new ByteArrayOutputStream();
+            InputStream in = socket.getInputStream();
+            in.transferTo(transcript);
+            return transcript.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Tests that a player can play and exit without stopping the server
+     *
+     * @throws Exception If the session fails
+     */
+    @Test
+    public void testExitClosesOnlyTheSession() throws Exception {
+        String transcript = play("Alice");
+
+        assertTrue(transcript.contains("Personaggio creato: Alice"));
+        assertEquals(1, transcript.split("Grazie per aver giocato!", -1).length - 1);
+
+        // The server still accepts players after the first one exited
+        assertTrue(play("Bob").contains("Personaggio creato: Bob"));
+        assertEquals(2, server.getTotalSessions());
+    }
+
+    /**
+     * Tests that concurrent players only see their own game
+     *
+     * @throws Exception If a session fails
+     */
+    @Test
+    public void testConcurrentSessionsAreIsolated() throws Exception {
+        CompletableFuture<String> alice = CompletableFuture.supplyAsync(() -> playUnchecked("Alice"));
+        CompletableFuture<String> bob = CompletableFuture.supplyAsync(() -> playUnchecked("Bob"));
+
+        String aliceTranscript = alice.get();
+        String bobTranscript = bob.get();
+
+        assertTrue(aliceTranscript.contains("Personaggio creato: Alice"));
+        assertFalse(aliceTranscript.contains("Bob"));
+        assertTrue(bobTranscript.contains("Personaggio creato: Bob"));
+        assertFalse(bobTranscript.contains("Alice"));
+    }
+
+    private String playUnchecked(String name) {
+        try {
+            return play(name);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Tests that a player hanging up mid-game only ends that session
+     * <p>
+     * The server never replaces System.out: the sessions print on their
+     * own channels.
+     * </p>
+     *
+     * @throws Exception If the session fails
+     */
+    @Test
+    public void testHangUpClosesTheSessionQuietly() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(10_000);
+            socket.getOutputStream().write("1\nwarrior\nCarol\n".getBytes(StandardCharsets.UTF_8));
+            socket.shutdownOutput();
+
+            String transcript = new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(transcript.contains("Personaggio creato: Carol"));
+            assertFalse(transcript.contains("Errore"));
+        }
+
+        assertTrue(play("Dave").contains("Personaggio creato: Dave"));
+        assertSame(console, System.out);
+    }
+}
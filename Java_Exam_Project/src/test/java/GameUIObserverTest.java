@@ -0,0 +1,63 @@
+import rpg.factory.Character;
+import rpg.factory.CharacterFactory;
+import rpg.observer.GameUIObserver;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * GameUIObserverTest - Tests for the character tracking of the UI observer
+ */
+public class GameUIObserverTest {
+
+    private final CharacterFactory factory = new CharacterFactory();
+
+    /**
+     * Tests that each character is tracked once
+     */
+    @Test
+    public void testCharactersTrackedOnce() {
+        GameUIObserver observer = new GameUIObserver();
+        Character first = factory.createCharacter("warrior", "Twin");
+        Character second = factory.createCharacter("warrior", "Twin");
+
+        observer.onStaminaChanged(first, 50, 40);
+        observer.onStaminaRecovered(first, 10);
+        observer.onStaminaRecovered(second, 10);
+
+        assertEquals(2, observer.getTrackedCount());
+        assertTrue(observer.isTracking(first));
+        assertTrue(observer.isTracking(second));
+        assertFalse(observer.isTracking(factory.createCharacter("mage", "Other")));
+    }
+
+    /**
+     * Tests that characters nobody uses any more are forgotten
+     */
+    @Test
+    public void testUnusedCharactersAreEvicted() throws InterruptedException {
+        GameUIObserver observer = new GameUIObserver();
+        Character kept = factory.createCharacter("mage", "Kept");
+        observer.onStaminaRecovered(kept, 10);
+        // Held until counted, so no collection during the loop can clear them early
+        List<Character> gone = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Character character = factory.createCharacter("warrior", "Gone" + i);
+            gone.add(character);
+            observer.onStaminaRecovered(character, 10);
+        }
+        assertEquals(101, observer.getTrackedCount());
+        gone.clear();
+
+        for (int attempt = 0; attempt < 50 && observer.getTrackedCount() > 1; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertEquals(1, observer.getTrackedCount());
+        assertTrue(observer.isTracking(kept));
+    }
+}
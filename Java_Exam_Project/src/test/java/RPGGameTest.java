@@ -4,12 +4,22 @@ import rpg.builder.DungeonBuilder;
 import rpg.factory.Character;
 import rpg.factory.CharacterFactory;
 import rpg.factory.Warrior;
+import rpg.factoryMonster.AbstractMonster;
+import rpg.factoryMonster.MonsterFactory;
 
 import rpg.iterator.Inventory;
 import rpg.iterator.Item;
+import rpg.iterator.ItemCatalog;
 import rpg.logger.GameLogger;
+import rpg.output.NoOpEventSink;
+import rpg.rpgIO.SaveData;
+import rpg.rpgIO.SaveFormat;
 import org.junit.Test;
 import org.junit.Before;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
 import static org.junit.Assert.*;
 
 import java.util.logging.Logger;
@@ -132,8 +142,8 @@ public class RPGGameTest {
             assertTrue(inventory.isEmpty());
             assertEquals(0, inventory.getSize());
 
-            Item weapon = new Item("Axe", Item.ItemType.WEAPON, 30, 2);
-            Item armor = new Item("Shield", Item.ItemType.ARMOR, 40, 1);
+            Item weapon = Item.of("Axe", Item.ItemType.WEAPON, 30, 2);
+            Item armor = Item.of("Shield", Item.ItemType.ARMOR, 40, 1);
 
             inventory.addItem(weapon);
             inventory.addItem(armor);
@@ -153,6 +163,39 @@ public class RPGGameTest {
         }
     }
 
+    /**
+     * Tests that inventory totals follow every change
+     * <p>
+     * The total value and the equipped stat bonus are maintained
+     * incrementally, so they must stay correct when an equipped item is
+     * replaced and when items are removed through the iterator.
+     * </p>
+     */
+    @Test
+    public void testInventoryTotalsTrackChanges() {
+        Item axe = Item.of("Axe", Item.ItemType.WEAPON, 30, 2);
+        Item sword = Item.of("Sword", Item.ItemType.WEAPON, 50, 5);
+        Item potion = Item.of("Potion", Item.ItemType.POTION, 10, 0);
+
+        inventory.addItem(axe);
+        inventory.addItem(sword);
+        inventory.addItem(potion);
+        assertEquals(90, inventory.getTotalValue());
+
+        inventory.equipItem(axe);
+        inventory.equipItem(sword);
+        assertEquals(5, inventory.getTotalStatBonus());
+
+        Iterator<Item> it = inventory.iterator();
+        while (it.hasNext()) {
+            if (it.next().getType() == Item.ItemType.POTION) {
+                it.remove();
+            }
+        }
+        assertEquals(80, inventory.getTotalValue());
+        assertEquals(5, inventory.getTotalStatBonus());
+    }
+
     /**
      * Tests dungeon builder pattern
      * <p>
@@ -195,4 +238,117 @@ public class RPGGameTest {
             fail("Dungeon builder failed");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests time-based stamina regeneration
+     * <p>
+     * Verifies that the first catch-up only starts the count, that the class
+     * rate is applied per elapsed tick with fractions carried over, and that
+     * stamina never goes above the maximum.
+     * </p>
+     */
+    @Test
+    public void testStaminaRegeneration() {
+        logger.info("Testing stamina regeneration");
+        Character warrior = factory.createCharacter("warrior", "Tired");
+        int max = warrior.getMaxStamina();
+        warrior.restoreStamina(-max);
+        assertEquals(0, warrior.getStamina());
+
+        assertEquals(0, warrior.regenerateStamina(100));
+        assertEquals(0, warrior.regenerateStamina(100));
+
+        double perTick = warrior.getStaminaRecoveryRate() * max;
+        int afterTwo = warrior.regenerateStamina(102);
+        assertEquals((int) (2 * perTick), afterTwo);
+        int afterFive = afterTwo + warrior.regenerateStamina(105);
+        assertEquals((int) (5 * perTick), afterFive);
+        assertEquals(afterFive, warrior.getStamina());
+
+        warrior.regenerateStamina(1_000_000);
+        assertEquals(max, warrior.getStamina());
+        assertEquals(0, warrior.regenerateStamina(1_000_001));
+        logger.info("Stamina regeneration test passed");
+    }
+
+    /**
+     * Tests the item flyweight catalog
+     * <p>
+     * Verifies that a definition is interned once with a stable id and
+     * that items differing in any stat are distinct.
+     * </p>
+     */
+    @Test
+    public void testItemCatalogSharesDefinitions() {
+        Item potion = Item.of("Catalog Potion", Item.ItemType.POTION, 15, 0);
+        assertSame(potion, Item.of("Catalog Potion", Item.ItemType.POTION, 15, 0));
+        assertSame(potion, ItemCatalog.get(potion.getId()));
+
+
+        Item stronger = Item.of("Catalog Potion", Item.ItemType.POTION, 30, 0);
+        assertNotEquals(potion, stronger);
+        assertNotEquals(potion.getId(), stronger.getId());
+    }
+
+    /**
+     * Tests the retention policy of the item catalog
+     * <p>
+     * Definitions are kept for the life of the process, so the catalog
+     * grows only with definitions it has never seen: interning known ones
+     * again, or reading back a save that holds them, adds nothing.
+     * </p>
+     */
+    @Test
+    public void testItemCatalogGrowsOnlyWithNewDefinitions() throws IOException {
+        Warrior warrior = new Warrior("Keeper");
+        warrior.setEventSink(NoOpEventSink.INSTANCE);
+        for (int i = 0; i < 20; i++) {
+            warrior.addItem(Item.of("Retained Gem " + i, Item.ItemType.MISC, i, 0));
+        }
+        int size = ItemCatalog.size();
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 20; i++) {
+                Item gem = Item.of("Retained Gem " + i, Item.ItemType.MISC, i, 0);
+                assertSame(gem, ItemCatalog.get(gem.getId()));
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            SaveFormat.BINARY.getCodec().write(SaveData.fromCharacter(warrior), out);
+            SaveFormat.decode(out.toByteArray()).toCharacter(new CharacterFactory());
+        }
+        assertEquals(size, ItemCatalog.size());
+
+        Item fresh = Item.of("Retained Gem 0", Item.ItemType.MISC, 0, 1);
+        assertEquals(size + 1, ItemCatalog.size());
+        assertEquals(size, fresh.getId());
+    }
+
+    /**
+     * Tests the monster templates and the per-thread monster pool
+     * <p>
+     * Verifies that a released monster is handed out again at full health
+     * with its template drops, and that a drop added to one monster does not
+     * leak into the template.
+     * </p>
+     */
+    @Test
+    public void testMonsterPoolResetsReleasedMonsters() {
+        MonsterFactory monsterFactory = new MonsterFactory();
+        AbstractMonster troll = monsterFactory.createMonster("TROLL");
+        assertSame(monsterFactory.getTemplate("troll"), troll.getTemplate());
+        assertEquals(40, troll.getHealth());
+        assertEquals(2, troll.getPossibleDrops().size());
+
+        troll.takeDamage(25);
+        troll.addPossibleDrop(Item.of("Troll Tooth", Item.ItemType.MISC, 5, 0));
+        assertEquals(2, troll.getTemplate().getDrops().size());
+
+        monsterFactory.release(troll);
+        monsterFactory.release(troll);
+        AbstractMonster reused = monsterFactory.createMonster("troll");
+        assertSame(troll, reused);
+        assertEquals(reused.getMaxHealth(), reused.getHealth());
+        assertEquals(2, reused.getPossibleDrops().size());
+        assertNotSame(reused, monsterFactory.createMonster("troll"));
+    }
+}
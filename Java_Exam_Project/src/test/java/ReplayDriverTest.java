@@ -0,0 +1,67 @@
+import rpg.server.LatencyHistogram;
+import rpg.server.ReplayDriver;
+import rpg.server.ReplayReport;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReplayDriverTest - Tests for the scripted load driver
+ * <p>
+ * The scripts stay away from saving and loading so the tests never write
+ * to the save directory.
+ * </p>
+ */
+public class ReplayDriverTest {
+
+    /**
+     * Tests that every action of every session is timed once
+     */
+    @Test
+    public void testEveryActionIsTimed() {
+        ReplayDriver driver = ReplayDriver.of(String.join("\n",
+                "# create, train and rest, then leave",
+                "@create", "1", "mage", "Mage${session}",
+                "@train", "1", "",
+                "@rest", "2", "",
+                "@back", "6",
+                "@exit", "0"));
+
+        ReplayReport report = driver.run(50);
+
+        assertEquals(0, report.getIncompleteSessions());
+        assertEquals(5, report.getActions().size());
+        for (LatencyHistogram histogram : report.getActions().values()) {
+            assertEquals(50, histogram.getCount());
+            assertTrue(histogram.getPercentile(50) <= histogram.getMax());
+        }
+    }
+
+    /**
+     * Tests that a session running out of script is reported as incomplete
+     */
+    @Test
+    public void testShortScriptIsIncomplete() {
+        ReplayReport report = ReplayDriver.of("@create\n1\nwarrior\n").run(3);
+
+        assertEquals(3, report.getIncompleteSessions());
+        assertEquals(3, report.getHistogram("create").getCount());
+    }
+
+    /**
+     * Tests histogram percentiles against known values
+     */
+    @Test
+    public void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        assertEquals(1_000, histogram.getCount());
+        assertEquals(1_000_000L, histogram.getMax());
+        assertEquals(500_000.0, histogram.getPercentile(50), 500_000 * 0.04);
+        assertEquals(990_000.0, histogram.getPercentile(99), 990_000 * 0.04);
+        assertEquals(500_500.0, histogram.getMean(), 0.0);
+    }
+}
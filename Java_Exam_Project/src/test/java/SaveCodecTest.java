@@ -0,0 +1,132 @@
+import rpg.factory.Character;
+import rpg.factory.CharacterFactory;
+import rpg.factory.Mage;
+import rpg.iterator.Inventory;
+import rpg.iterator.Item;
+import rpg.rpgIO.SaveData;
+import rpg.rpgIO.SaveFormat;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+/**
+ * SaveCodecTest - Tests for the save file codecs
+ * <p>
+ * Each character is written with one codec and read back through format
+ * detection, the same way {@code CharacterManagement} loads saves.
+ * </p>
+ */
+public class SaveCodecTest {
+
+    private final CharacterFactory factory = new CharacterFactory();
+
+    /**
+     * Encodes a character in the given format
+     */
+    private byte[] encode(Character character, SaveFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        format.getCodec().write(SaveData.fromCharacter(character), out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Tests that a mage survives a binary round trip with its mana
+     */
+    @Test
+    public void testBinaryRoundTripMage() throws IOException {
+        Character mage = factory.createCustomMage("Merlin", 40, 90, 30, 60, 12, 1500, 7, 25, 120);
+
+        byte[] content = encode(mage, SaveFormat.BINARY);
+        assertEquals(SaveFormat.BINARY, SaveFormat.detect(content));
+
+        Character loaded = SaveFormat.decode(content).toCharacter(factory);
+        assertTrue(loaded instanceof Mage);
+        assertEquals("Merlin", loaded.getName());
+        assertEquals(40, loaded.getHealth());
+        assertEquals(90, loaded.getMaxHealth());
+        assertEquals(1500, loaded.getMoney());
+        assertEquals(7, loaded.getLevel());
+        assertEquals(25, ((Mage) loaded).getMana());
+        assertEquals(120, ((Mage) loaded).getMaxMana());
+    }
+
+    /**
+     * Tests that the binary format is smaller than the Properties format
+     */
+    @Test
+    public void testBinaryIsSmallerAndDetected() throws IOException {
+        Character warrior = factory.createCharacter("warrior", "Conan");
+
+        byte[] text = encode(warrior, SaveFormat.PROPERTIES);
+        byte[] binary = encode(warrior, SaveFormat.BINARY);
+
+        assertEquals(SaveFormat.PROPERTIES, SaveFormat.detect(text));
+        assertTrue(binary.length < text.length);
+        assertEquals("Warrior", SaveFormat.decode(text).getType());
+        assertEquals("Warrior", SaveFormat.decode(binary).getType());
+    }
+
+    /**
+     * Tests that inventory contents and equipped slots survive both formats
+     */
+    @Test
+    public void testInventoryRoundTrip() throws IOException {
+        Character warrior = factory.createCharacter("warrior", "Conan");
+        Item sword = Item.of("Sword", Item.ItemType.WEAPON, 50, 5);
+        Item potion = Item.of("Potion", Item.ItemType.POTION, 10, 0);
+        Inventory inventory = warrior.getInventory();
+        inventory.addItem(sword);
+        inventory.addItem(potion);
+        inventory.addItem(potion);
+        inventory.equipItem(sword);
+
+        for (SaveFormat format : SaveFormat.values()) {
+            SaveData data = SaveFormat.decode(encode(warrior, format));
+            assertEquals(inventory.getSize(), data.getItemCount());
+
+            Inventory restored = data.toCharacter(factory).getInventory();
+            assertEquals(format.name(), inventory.getAllItems(), restored.getAllItems());
+            assertTrue(format.name(), restored.isEquipped(sword));
+            assertEquals(format.name(), inventory.getTotalStatBonus(), restored.getTotalStatBonus());
+        }
+    }
+
+    /**
+     * Tests that a truncated binary save is rejected
+     */
+    @Test(expected = IOException.class)
+    public void testTruncatedBinaryRejected() throws IOException {
+        byte[] binary = encode(factory.createCharacter("mage", "Gandalf"), SaveFormat.BINARY);
+        byte[] truncated = new byte[binary.length - 3];
+        System.arraycopy(binary, 0, truncated, 0, truncated.length);
+        SaveFormat.decode(truncated);
+    }
+
+    /**
+     * Tests that a binary save with an unknown character type is rejected
+     */
+    @Test(expected = IOException.class)
+    public void testUnknownBinaryTypeRejected() throws IOException {
+        byte[] binary = encode(factory.createCharacter("warrior", "Conan"), SaveFormat.BINARY);
+        binary[5] = 7;
+        SaveFormat.decode(binary);
+    }
+
+    /**
+     * Tests that a text save announcing too many items is rejected before allocating them
+     */
+    @Test
+    public void testHugeItemCountRejected() {
+        byte[] text = "type=Warrior\nname=Conan\nitems=2000000000\n".getBytes(StandardCharsets.ISO_8859_1);
+        try {
+            SaveFormat.decode(text);
+            fail("An item count above the limit should be rejected");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().startsWith("Corrupted save file"));
+        }
+    }
+}
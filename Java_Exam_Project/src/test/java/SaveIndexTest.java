@@ -0,0 +1,109 @@
+import rpg.factory.Character;
+import rpg.factory.CharacterFactory;
+import rpg.rpgIO.SaveData;
+import rpg.rpgIO.SaveFormat;
+import rpg.rpgIO.SaveIndex;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * SaveIndexTest - Tests for the persistent save index
+ * <p>
+ * Each test works in its own temporary save directory and checks that
+ * entries are filtered, paged, persisted and rebuilt correctly.
+ * </p>
+ */
+public class SaveIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final CharacterFactory factory = new CharacterFactory();
+
+    /**
+     * Builds save data for a character of the given class and level
+     */
+    private SaveData save(String type, String name, int level) {
+        Character character = type.equals("mage")
+                ? factory.createCustomMage(name, 50, 50, 50, 50, 10, 0, level, 50, 50)
+                : factory.createCustomCharacter(type, name, 50, 50, 50, 50, 10, 0, level);
+        return SaveData.fromCharacter(character);
+    }
+
+    /**
+     * Tests filtering by class and level range with paging
+     */
+    @Test
+    public void testFindByTypeAndLevel() throws IOException {
+        try (SaveIndex index = new SaveIndex(folder.getRoot().toPath(), ".save")) {
+            for (int i = 1; i <= 10; i++) {
+                index.put("w" + i, save("warrior", "War" + i, i), i);
+                index.put("m" + i, save("mage", "Mag" + i, i), i);
+            }
+
+            assertEquals(20, index.size());
+            List<SaveIndex.Entry> mages = index.find("Mage", 3, 6, 0, 100);
+            assertEquals(4, mages.size());
+            assertEquals("m3", mages.get(0).getFileName());
+            assertEquals(6, mages.get(3).getLevel());
+
+            List<SaveIndex.Entry> secondPage = index.find("Warrior", 1, 10, 4, 3);
+            assertEquals(3, secondPage.size());
+            assertEquals(5, secondPage.get(0).getLevel());
+
+            assertEquals(8, index.find(null, 7, 10, 0, 100).size());
+            assertEquals(5, index.list(15, 10).size());
+        }
+    }
+
+    /**
+     * Tests that entries survive reopening and freed slots are reused
+     */
+    @Test
+    public void testPersistAndReuseSlots() throws IOException {
+        Path dir = folder.getRoot().toPath();
+        long freedOffset;
+        try (SaveIndex index = new SaveIndex(dir, ".save")) {
+            index.put("alpha", save("warrior", "Alpha", 2), 1);
+            index.put("beta", save("mage", "Beta", 5), 2);
+            freedOffset = index.get("alpha").getOffset();
+            index.remove("alpha");
+        }
+
+        try (SaveIndex index = new SaveIndex(dir, ".save")) {
+            assertArrayEquals(new String[] {"beta"}, index.listNames());
+            assertEquals("Mage", index.get("beta").getType());
+            assertEquals(5, index.get("beta").getLevel());
+
+            index.put("gamma", save("warrior", "Gamma", 1), 3);
+            assertEquals(freedOffset, index.get("gamma").getOffset());
+        }
+    }
+
+    /**
+     * Tests that a missing index file is rebuilt from the save files
+     */
+    @Test
+    public void testRebuildFromSaveFiles() throws IOException {
+        Path dir = folder.getRoot().toPath();
+        try (OutputStream out = Files.newOutputStream(dir.resolve("hero.save"))) {
+            SaveFormat.BINARY.getCodec().write(save("mage", "Hero", 9), out);
+        }
+        Files.write(dir.resolve("broken.save"), new byte[] {1, 2, 3});
+
+        try (SaveIndex index = new SaveIndex(dir, ".save")) {
+            assertArrayEquals(new String[] {"hero"}, index.listNames());
+            assertEquals("Hero", index.get("hero").getCharacterName());
+            assertEquals(9, index.get("hero").getLevel());
+        }
+    }
+}
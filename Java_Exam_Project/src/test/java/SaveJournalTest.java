@@ -0,0 +1,104 @@
+import rpg.factory.CharacterFactory;
+import rpg.rpgIO.SaveData;
+import rpg.rpgIO.SaveFormat;
+import rpg.rpgIO.SaveJournal;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.*;
+
+/**
+ * SaveJournalTest - Tests for the write-ahead save journal
+ * <p>
+ * Checks that journaled saves are visible before compaction, end up in
+ * their snapshot files afterwards, and survive a crash with a torn record
+ * at the end of the journal.
+ * </p>
+ */
+public class SaveJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final CharacterFactory factory = new CharacterFactory();
+
+    /**
+     * Builds save data for a warrior of the given level
+     */
+    private SaveData warrior(String name, int level) {
+        return SaveData.fromCharacter(
+                factory.createCustomCharacter("warrior", name, 80, 100, 50, 50, 10, 0, level));
+    }
+
+    /**
+     * Tests that compaction writes the latest save and empties the journal
+     */
+    @Test
+    public void testCompactWritesLatestSnapshot() throws IOException {
+        Path dir = folder.getRoot().toPath();
+        try (SaveJournal journal = new SaveJournal(dir, ".save", 1L << 20)) {
+            journal.append("conan", warrior("Conan", 1));
+            journal.append("conan", warrior("Conan", 2));
+
+            assertEquals(2, journal.find("conan").getLevel());
+            assertFalse(Files.exists(dir.resolve("conan.save")));
+
+            journal.compact();
+
+            assertNull(journal.find("conan"));
+            assertEquals(0, journal.getJournalSize());
+            SaveData snapshot = SaveFormat.decode(Files.readAllBytes(dir.resolve("conan.save")));
+            assertEquals(2, snapshot.getLevel());
+        }
+    }
+
+    /**
+     * Tests that a journal left by a crash is replayed, ignoring a torn tail
+     */
+    @Test
+    public void testRecoveryDiscardsTornRecord() throws IOException {
+        Path dir = folder.getRoot().toPath();
+        SaveJournal crashed = new SaveJournal(dir, ".save", 1L << 20);
+        crashed.append("conan", warrior("Conan", 3));
+        // Simulate a crash halfway through the next append
+        Files.write(dir.resolve(SaveJournal.JOURNAL_FILE), new byte[] {0, 0, 0, 40, 1, 2},
+                StandardOpenOption.APPEND);
+
+        try (SaveJournal journal = new SaveJournal(dir, ".save", 1L << 20)) {
+            SaveData snapshot = SaveFormat.decode(Files.readAllBytes(dir.resolve("conan.save")));
+            assertEquals(3, snapshot.getLevel());
+            assertFalse(Files.exists(dir.resolve(SaveJournal.COMPACTING_FILE)));
+            assertEquals(0, journal.getJournalSize());
+        } finally {
+            // Stop the "crashed" journal's compactor thread and release its file
+            crashed.close();
+        }
+    }
+
+    /**
+     * Tests that a closed journal rejects appends without writing them
+     */
+    @Test
+    public void testAppendAfterCloseFails() throws IOException {
+        Path dir = folder.getRoot().toPath();
+        SaveJournal journal = new SaveJournal(dir, ".save", 1);
+        journal.append("conan", warrior("Conan", 1));
+        journal.close();
+        assertEquals(1, SaveFormat.decode(Files.readAllBytes(dir.resolve("conan.save"))).getLevel());
+
+        try {
+            journal.append("conan", warrior("Conan", 2));
+            fail("Append after close should fail");
+        } catch (IOException e) {
+            assertEquals("Save journal is closed", e.getMessage());
+        }
+        assertNull(journal.find("conan"));
+        assertEquals(0, journal.getJournalSize());
+    }
+}
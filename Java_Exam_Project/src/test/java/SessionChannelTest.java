@@ -0,0 +1,144 @@
+import rpg.GameManager;
+import rpg.composite.Navigation;
+import rpg.factory.Warrior;
+import rpg.menu.MainMenu;
+import rpg.rpgIO.CharacterManagement;
+import rpg.rpgIO.SaveIndex;
+import rpg.server.GameSession;
+import rpg.server.SessionChannel;
+import rpg.server.SessionClosedException;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * SessionChannelTest - Tests for the session line channel
+ * <p>
+ * The game is driven by in-memory scripts, without a console or a socket.
+ * </p>
+ */
+public class SessionChannelTest {
+
+    /**
+     * Tests that lines are read in order and that the end of input is final
+     */
+    @Test
+    public void testReadLinesUntilEndOfInput() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SessionChannel channel = SessionChannel.of("first\nsecond", output);
+
+        channel.print("Prompt: ");
+        assertEquals("first", channel.readLine());
+        assertEquals("Prompt: ", output.toString(StandardCharsets.UTF_8));
+        assertEquals("second", channel.readLine());
+
+        assertThrows(SessionClosedException.class, channel::readLine);
+        assertThrows(SessionClosedException.class, channel::readLine);
+    }
+
+    /**
+     * Tests a whole game played from a script
+     */
+    @Test
+    public void testScriptedGame() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        GameSession session = new GameSession("script", SessionChannel.of("1\nmage\nMerlin\n2\n\n6\n0\n", output));
+
+        session.run(() -> new GameManager().startGame());
+
+        String transcript = output.toString(StandardCharsets.UTF_8);
+        assertTrue(session.hasExited());
+        assertTrue(transcript.contains("Personaggio creato: Merlin"));
+        assertTrue(transcript.contains("=== RIPOSO ==="));
+        assertTrue(transcript.endsWith("Grazie per aver giocato!" + System.lineSeparator()));
+    }
+
+    /**
+     * Tests that a script ending mid-game ends the session instead of failing it
+     */
+    @Test
+    public void testEndOfInputClosesSession() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        GameSession session = new GameSession("script", SessionChannel.of("1\nmage\nMerlin\n2\n", output));
+
+        assertThrows(SessionClosedException.class, () -> session.run(() -> new GameManager().startGame()));
+
+        String transcript = output.toString(StandardCharsets.UTF_8);
+        assertFalse(session.hasExited());
+        assertTrue(transcript.contains("Personaggio creato: Merlin"));
+        assertFalse(transcript.contains("Errore"));
+    }
+
+    /**
+     * Tests that a channel given to the menus receives all of their output
+     * <p>
+     * Validation errors, the character's own messages and the menus go to
+     * the channel; nothing is printed on the console.
+     * </p>
+     */
+    @Test
+    public void testMenusWriteOnlyToTheirChannel() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        PrintStream stdout = System.out;
+        System.setOut(new PrintStream(console, true));
+        Navigation result;
+        try {
+            result = MainMenu.runMainMenu(SessionChannel.of("1\nmage\nx\n\nabc\n1\nwarrior\nConan\n1\n\n2\n\n6\n", output));
+        } finally {
+            System.setOut(stdout);
+        }
+
+        String transcript = output.toString(StandardCharsets.UTF_8);
+        assertEquals(Navigation.TO_ROOT, result);
+        assertTrue(transcript.contains("Name too short!"));
+        assertTrue(transcript.contains("That's not a number!"));
+        assertTrue(transcript.contains("Conan rests and recovers stamina."));
+        assertEquals("", console.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests that the load menu lists the saves one page at a time
+     */
+    @Test
+    public void testLoadMenuPagesThroughSaves() throws IOException {
+        SessionChannel quiet = SessionChannel.of("", new ByteArrayOutputStream());
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            String name = String.format("paging_%02d", i);
+            assertTrue(CharacterManagement.saveCharacter(new Warrior("Pager" + i), name, quiet));
+            names.add(name);
+        }
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            Navigation result = MainMenu.runMainMenu(SessionChannel.of("2\nn\np\n0\n\n0\n", output));
+
+            String transcript = output.toString(StandardCharsets.UTF_8);
+            assertEquals(Navigation.EXIT, result);
+            assertTrue(transcript.contains("(pagina 1/"));
+            assertTrue(transcript.contains("(pagina 2/"));
+            assertTrue(transcript.contains("n. Pagina successiva"));
+            assertTrue(transcript.contains("p. Pagina precedente"));
+            // No page lists more than 20 saves
+            assertFalse(transcript.contains("21. "));
+        } finally {
+            SaveIndex index = CharacterManagement.getSaveIndex();
+            for (String name : names) {
+                Files.deleteIfExists(Paths.get(CharacterManagement.getSaveDir(),
+                        name + CharacterManagement.getFileExtension()));
+                if (index != null) {
+                    index.remove(name);
+                }
+            }
+        }
+    }
+}
@@ -8,9 +8,12 @@ import rpg.factoryMonster.AbstractMonster;
 import rpg.factoryMonster.MonsterFactory;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.random.RandomGenerator;
+
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
@@ -115,4 +118,26 @@ public class DungeonExplorerTest {
         // Verify the result
         assertTrue("Exploration should be successful when monster is defeated", result);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that a fight's generator does not outlive the fight
+     * <p>
+     * The character uses the generator given with withRandom during the
+     * fight and gets its own generator back afterwards.
+     * </p>
+     */
+    @Test
+    public void testFightRandomIsRestoredAfterCombat() {
+        RandomGenerator own = mock(RandomGenerator.class);
+        RandomGenerator fight = mock(RandomGenerator.class);
+        when(mockCharacter.getRandom()).thenReturn(own);
+        dungeonExplorer.withCharacter(mockCharacter).withDungeon(mockDungeon).withRandom(fight);
+
+        dungeonExplorer.build();
+
+        InOrder order = inOrder(mockCharacter);
+        order.verify(mockCharacter).setRandom(fight);
+        order.verify(mockCharacter).setRandom(own);
+        verify(mockMonster).setRandom(fight);
+    }
+}